@@ -0,0 +1,70 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser.benchmark;
+
+import walkingkooka.datetime.DateTimeContexts;
+import walkingkooka.math.DecimalNumberContexts;
+import walkingkooka.text.cursor.parser.Parser;
+import walkingkooka.text.cursor.parser.ParserContext;
+import walkingkooka.text.cursor.parser.ParserContexts;
+import walkingkooka.text.cursor.parser.ParserTextCursors;
+import walkingkooka.text.cursor.parser.ParserToken;
+
+import java.math.MathContext;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Shared {@link ParserContext} and helpers used by all benchmarks. The {@link ParserContext} uses fixed values, including
+ * a fixed {@link LocalDateTime now}, so results are reproducible across runs and machines.
+ */
+final class BenchmarkParserContexts {
+
+    /**
+     * A fixed {@link ParserContext} with american decimal symbols and english date/time names.
+     */
+    static final ParserContext CONTEXT = ParserContexts.basic(
+            DateTimeContexts.locale(
+                    Locale.ENGLISH,
+                    1900,
+                    20,
+                    () -> LocalDateTime.of(2000, 1, 1, 12, 0)
+            ),
+            DecimalNumberContexts.american(MathContext.DECIMAL64)
+    );
+
+    /**
+     * Parses the given text with a new {@link walkingkooka.text.cursor.TextCursor} each time, returning the result
+     * so it is consumed by JMH and not eliminated as dead code.
+     */
+    static Optional<ParserToken> parse(final Parser<ParserContext> parser,
+                                       final String text) {
+        return parser.parse(
+                ParserTextCursors.indexed(text),
+                CONTEXT
+        );
+    }
+
+    /**
+     * Stop creation
+     */
+    private BenchmarkParserContexts() {
+        throw new UnsupportedOperationException();
+    }
+}
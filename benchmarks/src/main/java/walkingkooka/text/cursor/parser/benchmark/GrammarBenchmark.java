@@ -0,0 +1,359 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import walkingkooka.predicate.character.CharPredicates;
+import walkingkooka.text.CaseSensitivity;
+import walkingkooka.text.cursor.parser.BinaryOperatorTransformer;
+import walkingkooka.text.cursor.parser.Parser;
+import walkingkooka.text.cursor.parser.ParserContext;
+import walkingkooka.text.cursor.parser.ParserReporters;
+import walkingkooka.text.cursor.parser.ParserTextCursors;
+import walkingkooka.text.cursor.parser.ParserToken;
+import walkingkooka.text.cursor.parser.ParserTokens;
+import walkingkooka.text.cursor.parser.Parsers;
+import walkingkooka.text.cursor.parser.RuleParser;
+import walkingkooka.text.cursor.parser.SequenceParserToken;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Throughput benchmarks for composite grammars built using {@link Parsers#sequenceParserBuilder()},
+ * {@link Parser#or(Parser)} and {@link Parser#repeating()}, typical of keyword, expression, statement and record
+ * grammars.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class GrammarBenchmark {
+
+    // keywords.........................................................................................................
+
+    private final static String[] KEYWORDS = {
+            "ABS", "ACOS", "AND", "ASIN", "ATAN", "AVERAGE", "CEILING", "CHAR", "CHOOSE", "CODE",
+            "CONCAT", "COS", "COUNT", "DATE", "DAY", "EXACT", "EXP", "FALSE", "FIND", "FLOOR",
+            "HOUR", "IF", "INDEX", "INT", "LEFT", "LEN", "LN", "LOG", "LOWER", "MATCH",
+            "MAX", "MID", "MIN", "MINUTE", "MOD", "MONTH", "NOT", "NOW", "OR", "PI"
+    };
+
+    private final static Parser<ParserContext> KEYWORD = keywords();
+
+    private static Parser<ParserContext> keywords() {
+        Parser<ParserContext> parser = null;
+        for (final String keyword : KEYWORDS) {
+            final Parser<ParserContext> string = Parsers.string(keyword, CaseSensitivity.INSENSITIVE);
+            parser = null == parser ?
+                    string :
+                    parser.or(string);
+        }
+        return parser;
+    }
+
+    @Benchmark
+    public Optional<ParserToken> keywordFirst() {
+        return BenchmarkParserContexts.parse(KEYWORD, "ABS");
+    }
+
+    @Benchmark
+    public Optional<ParserToken> keywordLast() {
+        return BenchmarkParserContexts.parse(KEYWORD, "PI");
+    }
+
+    @Benchmark
+    public Optional<ParserToken> keywordMissing() {
+        return BenchmarkParserContexts.parse(KEYWORD, "ZZZ");
+    }
+
+    // expression.......................................................................................................
+
+    private final static Parser<ParserContext> WHITESPACE = Parsers.stringCharPredicate(CharPredicates.is(' '), 1, Integer.MAX_VALUE);
+
+    private final static Parser<ParserContext> OPERATOR = Parsers.string("+", CaseSensitivity.SENSITIVE)
+            .or(Parsers.string("-", CaseSensitivity.SENSITIVE))
+            .or(Parsers.string("*", CaseSensitivity.SENSITIVE))
+            .or(Parsers.string("/", CaseSensitivity.SENSITIVE));
+
+    private final static Parser<ParserContext> NUMBER = Parsers.bigDecimal();
+
+    private final static Parser<ParserContext> EXPRESSION = Parsers.<ParserContext>sequenceParserBuilder()
+            .required(NUMBER)
+            .optional(
+                    Parsers.<ParserContext>sequenceParserBuilder()
+                            .optional(WHITESPACE)
+                            .required(OPERATOR)
+                            .optional(WHITESPACE)
+                            .required(NUMBER)
+                            .build()
+                            .repeating()
+            )
+            .build();
+
+    private final static String EXPRESSION_TEXT = expressionText(2000);
+
+    private static String expressionText(final int count) {
+        final StringBuilder b = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                b.append(" +-*/".charAt(1 + (i % 4)));
+                if (0 == (i % 3)) {
+                    b.append(' ');
+                }
+            }
+            b.append(i * 7).append('.').append(i % 100);
+        }
+        return b.toString();
+    }
+
+    @Benchmark
+    public Optional<ParserToken> expression() {
+        return BenchmarkParserContexts.parse(EXPRESSION, EXPRESSION_TEXT);
+    }
+
+    /**
+     * Parses the same text as {@link #expression()}, building the operator tree while parsing.
+     */
+    private final static Parser<ParserContext> EXPRESSION_OPERATORS = Parsers.expression(
+            NUMBER,
+            Parsers.<ParserContext>expressionOperatorTable()
+                    .binaryLeft(Parsers.string("+", CaseSensitivity.SENSITIVE), 1, GrammarBenchmark::binaryOperator)
+                    .binaryLeft(Parsers.string("-", CaseSensitivity.SENSITIVE), 1, GrammarBenchmark::binaryOperator)
+                    .binaryLeft(Parsers.string("*", CaseSensitivity.SENSITIVE), 2, GrammarBenchmark::binaryOperator)
+                    .binaryLeft(Parsers.string("/", CaseSensitivity.SENSITIVE), 2, GrammarBenchmark::binaryOperator)
+                    .whitespace(WHITESPACE)
+    );
+
+    private static ParserToken binaryOperator(final List<ParserToken> tokens,
+                                              final String text,
+                                              final ParserToken operator) {
+        return ParserTokens.sequence(tokens, text);
+    }
+
+    @Benchmark
+    public Optional<ParserToken> expressionOperators() {
+        return BenchmarkParserContexts.parse(EXPRESSION_OPERATORS, EXPRESSION_TEXT);
+    }
+
+    /**
+     * Parses the same text as {@link #expression()} using the left recursive rule
+     * <code>expr := expr ' '* operator ' '* number | number</code>.
+     */
+    private final static Parser<ParserContext> EXPRESSION_RULE = leftRecursiveExpression();
+
+    private static Parser<ParserContext> leftRecursiveExpression() {
+        final RuleParser<ParserContext> expr = Parsers.rule("expr");
+        return expr.bind(
+                Parsers.<ParserContext>sequenceParserBuilder()
+                        .required(expr)
+                        .optional(WHITESPACE)
+                        .required(OPERATOR)
+                        .optional(WHITESPACE)
+                        .required(NUMBER)
+                        .build()
+                        .or(NUMBER)
+        );
+    }
+
+    @Benchmark
+    public Optional<ParserToken> expressionRule() {
+        return BenchmarkParserContexts.parse(EXPRESSION_RULE, EXPRESSION_TEXT);
+    }
+
+    // binary operators.................................................................................................
+
+    /**
+     * The 2,000 term expression without whitespace, so each operator is between two operands.
+     */
+    private final static SequenceParserToken BINARY_OPERATORS = (SequenceParserToken) BenchmarkParserContexts.parse(
+            EXPRESSION,
+            EXPRESSION_TEXT.replace(" ", "")
+    ).get();
+
+    private final static BinaryOperatorTransformer BINARY_OPERATOR_TRANSFORMER = new BinaryOperatorTransformer() {
+        @Override
+        public int highestPriority() {
+            return 2;
+        }
+
+        @Override
+        public int lowestPriority() {
+            return 1;
+        }
+
+        @Override
+        public int priority(final ParserToken token) {
+            switch (token.text()) {
+                case "+":
+                case "-":
+                    return 1;
+                case "*":
+                case "/":
+                    return 2;
+                default:
+                    return 0;
+            }
+        }
+
+        @Override
+        public ParserToken binaryOperand(final List<ParserToken> tokens,
+                                         final String text,
+                                         final ParserToken operator) {
+            return ParserTokens.sequence(tokens, text);
+        }
+    };
+
+    @Benchmark
+    public ParserToken binaryOperatorTransform() {
+        return BINARY_OPERATORS.transform(BINARY_OPERATOR_TRANSFORMER);
+    }
+
+    // backtracking.....................................................................................................
+
+    private final static Parser<ParserContext> IDENTIFIER = Parsers.stringInitialAndPartCharPredicate(
+            CharPredicates.letter(),
+            CharPredicates.digit(),
+            1,
+            Integer.MAX_VALUE
+    );
+
+    /**
+     * Each statement is an assignment followed by one of several terminators, so without memoizing the assignment is
+     * parsed again for each terminator that is tried.
+     */
+    private final static Parser<ParserContext> STATEMENTS = statements(assignment());
+
+    private final static Parser<ParserContext> STATEMENTS_MEMOIZED = statements(assignment().memoize())
+            .memoize();
+
+    private static Parser<ParserContext> assignment() {
+        return Parsers.<ParserContext>sequenceParserBuilder()
+                .required(IDENTIFIER)
+                .required(Parsers.string("=", CaseSensitivity.SENSITIVE))
+                .required(EXPRESSION)
+                .build();
+    }
+
+    private static Parser<ParserContext> statements(final Parser<ParserContext> assignment) {
+        return statement(assignment, ";")
+                .or(statement(assignment, ","))
+                .or(statement(assignment, "\n"))
+                .repeating();
+    }
+
+    private static Parser<ParserContext> statement(final Parser<ParserContext> assignment,
+                                                   final String terminator) {
+        return Parsers.<ParserContext>sequenceParserBuilder()
+                .required(assignment)
+                .required(Parsers.string(terminator, CaseSensitivity.SENSITIVE))
+                .build();
+    }
+
+    private final static String STATEMENTS_TEXT = statementsText(200);
+
+    private static String statementsText(final int count) {
+        final StringBuilder b = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            b.append('x')
+                    .append(i)
+                    .append('=')
+                    .append(expressionText(10))
+                    .append('\n');
+        }
+        return b.toString();
+    }
+
+    @Benchmark
+    public Optional<ParserToken> statements() {
+        return BenchmarkParserContexts.parse(STATEMENTS, STATEMENTS_TEXT);
+    }
+
+    @Benchmark
+    public Optional<ParserToken> statementsMemoized() {
+        return BenchmarkParserContexts.parse(STATEMENTS_MEMOIZED, STATEMENTS_TEXT);
+    }
+
+    // records..........................................................................................................
+
+    private final static Parser<ParserContext> RECORD = Parsers.<ParserContext>sequenceParserBuilder()
+            .required(IDENTIFIER)
+            .required(Parsers.string(",", CaseSensitivity.SENSITIVE))
+            .required(Parsers.longParser(10))
+            .required(Parsers.string(",", CaseSensitivity.SENSITIVE))
+            .required(Parsers.doubleQuoted())
+            .required(Parsers.string("\n", CaseSensitivity.SENSITIVE))
+            .build();
+
+    private final static Parser<ParserContext> RECORDS = RECORD.repeating();
+
+    private final static String RECORDS_TEXT = recordsText(1000);
+
+    private static String recordsText(final int count) {
+        final StringBuilder b = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            b.append('x')
+                    .append(i)
+                    .append(',')
+                    .append(i * 31L)
+                    .append(",\"row ")
+                    .append(i)
+                    .append("\"\n");
+        }
+        return b.toString();
+    }
+
+    @Benchmark
+    public Optional<ParserToken> records() {
+        return BenchmarkParserContexts.parse(RECORDS, RECORDS_TEXT);
+    }
+
+    @Benchmark
+    public List<ParserToken> recordsStream() {
+        return RECORD.stream(
+                ParserTextCursors.indexed(RECORDS_TEXT),
+                BenchmarkParserContexts.CONTEXT
+        ).collect(Collectors.toList());
+    }
+
+    /**
+     * Parses the same records as {@link #records()}, in chunks of about 2048 characters.
+     */
+    @Benchmark
+    public List<ParserToken> recordsParallelStream() {
+        return RECORD.parallelStream(
+                RECORDS_TEXT,
+                CharPredicates.is('\n'),
+                2048,
+                BenchmarkParserContexts.CONTEXT,
+                ParserReporters.basic()
+        ).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,401 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.collect.set.Sets;
+import walkingkooka.predicate.character.CharPredicates;
+import walkingkooka.text.CaseSensitivity;
+import walkingkooka.text.cursor.parser.Parser;
+import walkingkooka.text.cursor.parser.ParserContext;
+import walkingkooka.text.cursor.parser.ParserReporterCondition;
+import walkingkooka.text.cursor.parser.ParserReporters;
+import walkingkooka.text.cursor.parser.ParserToken;
+import walkingkooka.text.cursor.parser.ParserTokens;
+import walkingkooka.text.cursor.parser.Parsers;
+import walkingkooka.text.cursor.parser.ReferenceParser;
+import walkingkooka.text.cursor.parser.RuleParser;
+
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput benchmarks, one for each {@link Parsers} factory method. Each benchmark parses a short successful input,
+ * run with <code>-prof gc</code> to also capture the allocation profile.
+ * <br>
+ * {@link Parsers#fake()} is not included as it always throws {@link UnsupportedOperationException}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class ParsersBenchmark {
+
+    private final static Parser<ParserContext> ABC = Parsers.string("abc", CaseSensitivity.SENSITIVE);
+    private final static Parser<ParserContext> XYZ = Parsers.string("xyz", CaseSensitivity.SENSITIVE);
+
+    private final static Parser<ParserContext> ALTERNATIVES = Parsers.alternatives(Lists.of(ABC, XYZ));
+
+    @Benchmark
+    public Optional<ParserToken> alternatives() {
+        return BenchmarkParserContexts.parse(ALTERNATIVES, "xyz");
+    }
+
+    private final static Parser<ParserContext> AND_EMPTY_TEXT_CURSOR = Parsers.andEmptyTextCursor(ABC);
+
+    @Benchmark
+    public Optional<ParserToken> andEmptyTextCursor() {
+        return BenchmarkParserContexts.parse(AND_EMPTY_TEXT_CURSOR, "abc");
+    }
+
+    private final static Parser<ParserContext> AND_NOT = Parsers.andNot(
+            Parsers.stringCharPredicate(CharPredicates.letter(), 1, 100),
+            ABC
+    );
+
+    @Benchmark
+    public Optional<ParserToken> andNot() {
+        return BenchmarkParserContexts.parse(AND_NOT, "identifier");
+    }
+
+    private final static Parser<ParserContext> BIG_DECIMAL = Parsers.bigDecimal();
+
+    @Benchmark
+    public Optional<ParserToken> bigDecimal() {
+        return BenchmarkParserContexts.parse(BIG_DECIMAL, "-1234567890.125E+2");
+    }
+
+    @Benchmark
+    public Optional<ParserToken> bigDecimalMoney() {
+        return BenchmarkParserContexts.parse(BIG_DECIMAL, "123456789012.34");
+    }
+
+    private final static Parser<ParserContext> BIG_INTEGER = Parsers.bigInteger(10);
+
+    @Benchmark
+    public Optional<ParserToken> bigInteger() {
+        return BenchmarkParserContexts.parse(BIG_INTEGER, "1234567890123456789012345678901234567890");
+    }
+
+    private final static Parser<ParserContext> BIG_INTEGER_HEX = Parsers.bigInteger(16);
+
+    @Benchmark
+    public Optional<ParserToken> bigIntegerHex() {
+        return BenchmarkParserContexts.parse(BIG_INTEGER_HEX, "0123456789abcdef0123456789abcdef01234567");
+    }
+
+    private final static Parser<ParserContext> CHARACTER = Parsers.character(CharPredicates.letter());
+
+    @Benchmark
+    public Optional<ParserToken> character() {
+        return BenchmarkParserContexts.parse(CHARACTER, "a");
+    }
+
+    private final static Parser<ParserContext> CUSTOM_TO_STRING = Parsers.customToString(ABC, "custom");
+
+    @Benchmark
+    public Optional<ParserToken> customToString() {
+        return BenchmarkParserContexts.parse(CUSTOM_TO_STRING, "abc");
+    }
+
+    private final static Parser<ParserContext> DOUBLE = Parsers.doubleParser();
+
+    @Benchmark
+    public Optional<ParserToken> doubleParser() {
+        return BenchmarkParserContexts.parse(DOUBLE, "-1234.5678E-3");
+    }
+
+    @Benchmark
+    public Optional<ParserToken> doubleParserLongMantissa() {
+        return BenchmarkParserContexts.parse(DOUBLE, "3.14159265358979323846264338327950288");
+    }
+
+    private final static Parser<ParserContext> DOUBLE_QUOTED = Parsers.doubleQuoted();
+
+    @Benchmark
+    public Optional<ParserToken> doubleQuoted() {
+        return BenchmarkParserContexts.parse(DOUBLE_QUOTED, "\"hello\\tworld\\u0041\"");
+    }
+
+    /**
+     * Parses the same input as {@link #reference()}, with the combinators interpreted on a heap allocated stack.
+     */
+    private final static Parser<ParserContext> EXPLICIT_STACK = Parsers.explicitStack(nestedReference());
+
+    @Benchmark
+    public Optional<ParserToken> explicitStack() {
+        return BenchmarkParserContexts.parse(EXPLICIT_STACK, NESTED);
+    }
+
+    private final static Parser<ParserContext> EXPRESSION = Parsers.expression(
+            Parsers.longParser(10),
+            Parsers.<ParserContext>expressionOperatorTable()
+                    .prefix(Parsers.string("-", CaseSensitivity.SENSITIVE), 3, ParsersBenchmark::operator)
+                    .binaryLeft(Parsers.string("+", CaseSensitivity.SENSITIVE), 1, ParsersBenchmark::operator)
+                    .binaryLeft(Parsers.string("*", CaseSensitivity.SENSITIVE), 2, ParsersBenchmark::operator)
+    );
+
+    private static ParserToken operator(final List<ParserToken> tokens,
+                                        final String text,
+                                        final ParserToken operator) {
+        return ParserTokens.sequence(tokens, text);
+    }
+
+    @Benchmark
+    public Optional<ParserToken> expression() {
+        return BenchmarkParserContexts.parse(EXPRESSION, "1+2*-3+4*5");
+    }
+
+    private final static Parser<ParserContext> LOCAL_DATE = Parsers.localDate((c) -> DateTimeFormatter.ISO_LOCAL_DATE);
+
+    @Benchmark
+    public Optional<ParserToken> localDate() {
+        return BenchmarkParserContexts.parse(LOCAL_DATE, "2000-12-31");
+    }
+
+    @Benchmark
+    public Optional<ParserToken> localDateFail() {
+        return BenchmarkParserContexts.parse(LOCAL_DATE, "not a date but a long line of text that is not a date");
+    }
+
+    private final static Parser<ParserContext> LOCAL_DATE_TIME = Parsers.localDateTime((c) -> DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+
+    @Benchmark
+    public Optional<ParserToken> localDateTime() {
+        return BenchmarkParserContexts.parse(LOCAL_DATE_TIME, "2000-12-31T12:58:59");
+    }
+
+    private final static Parser<ParserContext> LOCAL_TIME = Parsers.localTime((c) -> DateTimeFormatter.ISO_LOCAL_TIME);
+
+    @Benchmark
+    public Optional<ParserToken> localTime() {
+        return BenchmarkParserContexts.parse(LOCAL_TIME, "12:58:59");
+    }
+
+    private final static Parser<ParserContext> LONG = Parsers.longParser(10);
+
+    @Benchmark
+    public Optional<ParserToken> longParser() {
+        return BenchmarkParserContexts.parse(LONG, "-1234567890123456789");
+    }
+
+    private final static Parser<ParserContext> MEMOIZE = Parsers.memoize(ABC);
+
+    @Benchmark
+    public Optional<ParserToken> memoize() {
+        return BenchmarkParserContexts.parse(MEMOIZE, "abc");
+    }
+
+    private final static Parser<ParserContext> NEVER = Parsers.never();
+
+    @Benchmark
+    public Optional<ParserToken> never() {
+        return BenchmarkParserContexts.parse(NEVER, "abc");
+    }
+
+    private final static Parser<ParserContext> OFFSET_DATE_TIME = Parsers.offsetDateTime((c) -> DateTimeFormatter.ISO_OFFSET_DATE_TIME);
+
+    @Benchmark
+    public Optional<ParserToken> offsetDateTime() {
+        return BenchmarkParserContexts.parse(OFFSET_DATE_TIME, "2000-12-31T12:58:59+10:00");
+    }
+
+    private final static Parser<ParserContext> OFFSET_TIME = Parsers.offsetTime((c) -> DateTimeFormatter.ISO_OFFSET_TIME);
+
+    @Benchmark
+    public Optional<ParserToken> offsetTime() {
+        return BenchmarkParserContexts.parse(OFFSET_TIME, "12:58:59+10:00");
+    }
+
+    private final static Parser<ParserContext> REFERENCE = nestedReference();
+
+    private final static String NESTED = "((((((((((((((((x))))))))))))))))";
+
+    @Benchmark
+    public Optional<ParserToken> reference() {
+        return BenchmarkParserContexts.parse(REFERENCE, NESTED);
+    }
+
+    private final static Parser<ParserContext> REFERENCE_COMPILED = REFERENCE.compile();
+
+    @Benchmark
+    public Optional<ParserToken> referenceCompiled() {
+        return BenchmarkParserContexts.parse(REFERENCE_COMPILED, NESTED);
+    }
+
+    /**
+     * Creates <code>reference := '(' reference ')' | 'x'</code>
+     */
+    private static Parser<ParserContext> nestedReference() {
+        final ReferenceParser<ParserContext> reference = Parsers.reference();
+        return reference.bind(
+                Parsers.<ParserContext>sequenceParserBuilder()
+                        .required(Parsers.string("(", CaseSensitivity.SENSITIVE))
+                        .required(reference)
+                        .required(Parsers.string(")", CaseSensitivity.SENSITIVE))
+                        .build()
+                        .or(Parsers.string("x", CaseSensitivity.SENSITIVE))
+        );
+    }
+
+    private final static Parser<ParserContext> REPEATING = Parsers.repeating(ABC);
+
+    @Benchmark
+    public Optional<ParserToken> repeating() {
+        return BenchmarkParserContexts.parse(REPEATING, "abcabcabcabcabcabcabcabcabcabc");
+    }
+
+    private final static Parser<ParserContext> REPORT = Parsers.report(
+            ParserReporterCondition.NOT_EMPTY,
+            ParserReporters.basic(),
+            ABC
+    );
+
+    @Benchmark
+    public Optional<ParserToken> report() {
+        return BenchmarkParserContexts.parse(REPORT, "abc");
+    }
+
+    private final static Parser<ParserContext> RULE = sum();
+
+    /**
+     * Creates the left recursive <code>sum := sum '+' digit | digit</code>
+     */
+    private static Parser<ParserContext> sum() {
+        final Parser<ParserContext> digit = Parsers.character(CharPredicates.digit());
+        final RuleParser<ParserContext> sum = Parsers.rule("sum");
+        return sum.bind(
+                Parsers.<ParserContext>sequenceParserBuilder()
+                        .required(sum)
+                        .required(Parsers.string("+", CaseSensitivity.SENSITIVE))
+                        .required(digit)
+                        .build()
+                        .or(digit)
+        );
+    }
+
+    @Benchmark
+    public Optional<ParserToken> rule() {
+        return BenchmarkParserContexts.parse(RULE, "1+2+3+4+5+6+7+8+9");
+    }
+
+    private final static Parser<ParserContext> SEQUENCE = Parsers.<ParserContext>sequenceParserBuilder()
+            .required(ABC)
+            .optional(Parsers.string(",", CaseSensitivity.SENSITIVE))
+            .required(XYZ)
+            .build();
+
+    @Benchmark
+    public Optional<ParserToken> sequenceParserBuilder() {
+        return BenchmarkParserContexts.parse(SEQUENCE, "abc,xyz");
+    }
+
+    private final static Parser<ParserContext> SINGLE_QUOTED = Parsers.singleQuoted();
+
+    @Benchmark
+    public Optional<ParserToken> singleQuoted() {
+        return BenchmarkParserContexts.parse(SINGLE_QUOTED, "'hello world'");
+    }
+
+    private final static Parser<ParserContext> STRING = ABC;
+
+    @Benchmark
+    public Optional<ParserToken> string() {
+        return BenchmarkParserContexts.parse(STRING, "abc");
+    }
+
+    private final static Parser<ParserContext> STRING_CASE_INSENSITIVE = Parsers.string("abc", CaseSensitivity.INSENSITIVE);
+
+    @Benchmark
+    public Optional<ParserToken> stringCaseInsensitive() {
+        return BenchmarkParserContexts.parse(STRING_CASE_INSENSITIVE, "ABC");
+    }
+
+    private final static Parser<ParserContext> STRING_CHAR_PREDICATE = Parsers.stringCharPredicate(CharPredicates.letter(), 1, 1000);
+
+    @Benchmark
+    public Optional<ParserToken> stringCharPredicate() {
+        return BenchmarkParserContexts.parse(STRING_CHAR_PREDICATE, "averylongidentifierwithmanylettersinsideofit");
+    }
+
+    private final static Parser<ParserContext> STRING_INITIAL_AND_PART_CHAR_PREDICATE = Parsers.stringInitialAndPartCharPredicate(
+            CharPredicates.letter(),
+            CharPredicates.digit(),
+            1,
+            1000
+    );
+
+    @Benchmark
+    public Optional<ParserToken> stringInitialAndPartCharPredicate() {
+        return BenchmarkParserContexts.parse(STRING_INITIAL_AND_PART_CHAR_PREDICATE, "x12345678901234567890");
+    }
+
+    private final static Parser<ParserContext> STRINGS = Parsers.strings(
+            Sets.of("abstract", "assert", "boolean", "break", "byte", "case", "catch", "char", "class", "const"),
+            CaseSensitivity.SENSITIVE
+    );
+
+    @Benchmark
+    public Optional<ParserToken> strings() {
+        return BenchmarkParserContexts.parse(STRINGS, "const");
+    }
+
+    private final static Parser<ParserContext> SURROUND = Parsers.surround("/*", "*/");
+
+    @Benchmark
+    public Optional<ParserToken> surround() {
+        return BenchmarkParserContexts.parse(SURROUND, "/* a comment */");
+    }
+
+    private final static Parser<ParserContext> TRANSFORM = Parsers.transform(
+            ABC,
+            (t, c) -> t
+    );
+
+    @Benchmark
+    public Optional<ParserToken> transform() {
+        return BenchmarkParserContexts.parse(TRANSFORM, "abc");
+    }
+
+    private final static Parser<ParserContext> UNICODE_ESCAPE_CHARACTER = Parsers.unicodeEscapeCharacter();
+
+    @Benchmark
+    public Optional<ParserToken> unicodeEscapeCharacter() {
+        return BenchmarkParserContexts.parse(UNICODE_ESCAPE_CHARACTER, "\\u0041");
+    }
+
+    private final static Parser<ParserContext> ZONED_DATE_TIME = Parsers.zonedDateTime((c) -> DateTimeFormatter.ISO_ZONED_DATE_TIME);
+
+    @Benchmark
+    public Optional<ParserToken> zonedDateTime() {
+        return BenchmarkParserContexts.parse(ZONED_DATE_TIME, "2000-12-31T12:58:59+10:00[Australia/Sydney]");
+    }
+}
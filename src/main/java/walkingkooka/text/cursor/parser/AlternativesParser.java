@@ -18,11 +18,12 @@ package walkingkooka.text.cursor.parser;
 
 import walkingkooka.Cast;
 import walkingkooka.collect.list.Lists;
+import walkingkooka.text.CaseSensitivity;
 import walkingkooka.text.cursor.TextCursor;
+import walkingkooka.visit.Visiting;
 
 import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -108,20 +109,91 @@ final class AlternativesParser<C extends ParserContext> extends Parser2<C> {
                                final String toString) {
         super(toString);
         this.parsers = parsers;
+        this.fused = fuse(parsers);
+    }
+
+    /**
+     * Replaces runs of adjacent {@link StringParser} with the same {@link CaseSensitivity} with a single
+     * {@link StringsParser}. A run is ended when a literal would be hidden by an earlier literal that is its prefix,
+     * because the {@link StringsParser} always matches the longest literal while the alternatives return the first.
+     */
+    private static <C extends ParserContext> List<Parser<C>> fuse(final List<Parser<C>> parsers) {
+        final List<Parser<C>> fused = Lists.array();
+        final List<StringParser<C>> run = Lists.array();
+
+        for (final Parser<C> parser : parsers) {
+            if (parser instanceof StringParser) {
+                final StringParser<C> stringParser = parser.cast();
+                if (!run.isEmpty() && !canFuse(run, stringParser)) {
+                    fuseRun(run, fused);
+                }
+                run.add(stringParser);
+            } else {
+                fuseRun(run, fused);
+                fused.add(parser);
+            }
+        }
+        fuseRun(run, fused);
+
+        return fused.size() == parsers.size() ?
+                parsers :
+                fused;
+    }
+
+    private static <C extends ParserContext> boolean canFuse(final List<StringParser<C>> run,
+                                                             final StringParser<C> parser) {
+        final CaseSensitivity caseSensitivity = parser.caseSensitivity;
+        boolean fuse = caseSensitivity == run.get(0).caseSensitivity;
+
+        if (fuse) {
+            final String string = StringsParser.fold(parser.string, caseSensitivity);
+            for (final StringParser<C> previous : run) {
+                final String previousString = StringsParser.fold(previous.string, caseSensitivity);
+                if (string.length() > previousString.length() && string.startsWith(previousString)) {
+                    fuse = false;
+                    break;
+                }
+            }
+        }
+
+        return fuse;
+    }
+
+    private static <C extends ParserContext> void fuseRun(final List<StringParser<C>> run,
+                                                          final List<Parser<C>> fused) {
+        switch (run.size()) {
+            case 0:
+                break;
+            case 1:
+                fused.add(run.get(0));
+                break;
+            default:
+                fused.add(
+                        StringsParser.with(
+                                run.stream()
+                                        .map(p -> p.string)
+                                        .collect(Collectors.toList()),
+                                run.get(0).caseSensitivity
+                        )
+                );
+                break;
+        }
+        run.clear();
     }
 
     /**
      * Try all parsers even when the {@link TextCursor} is empty. This is necessary,
      * because one parser might be a {@link ReportingParser} which wants to report a parsing failure.
+     * When the {@link TextCursor} is not empty and the character is ASCII, only parsers that may start with that
+     * character are tried, in their original order.
      */
     @Override
-    public Optional<ParserToken> parse(final TextCursor cursor, final C context) {
-        Optional<ParserToken> token = Optional.empty();
+    public ParserToken parseOrNull(final TextCursor cursor, final C context) {
+        ParserToken token = null;
 
-        for (Parser<C> parser : this.parsers) {
-            Optional<ParserToken> possible = parser.parse(cursor, context);
-            if (possible.isPresent()) {
-                token = possible;
+        for (Parser<C> parser : this.parsers(cursor)) {
+            token = parser.parseOrNull(cursor, context);
+            if (null != token) {
                 break;
             }
         }
@@ -129,6 +201,82 @@ final class AlternativesParser<C extends ParserContext> extends Parser2<C> {
         return token;
     }
 
+    /**
+     * Selects the parsers that should be tried for the current character.
+     */
+    List<Parser<C>> parsers(final TextCursor cursor) {
+        List<Parser<C>> parsers = this.fused;
+
+        if (!cursor.isEmpty()) {
+            final char c = cursor.at();
+            if (c < ASCII_COUNT) {
+                List<Parser<C>>[] dispatch = this.dispatch;
+                if (null == dispatch) {
+                    dispatch = this.buildDispatch();
+                    this.dispatch = dispatch;
+                }
+                parsers = dispatch[c];
+            }
+        }
+
+        return parsers;
+    }
+
+    /**
+     * Builds a table with an entry for each ASCII character holding the parsers that may start with that character.
+     * Characters that share the same parsers share the same {@link List}.
+     */
+    private List<Parser<C>>[] buildDispatch() {
+        final List<Parser<C>> parsers = this.fused;
+        final List<Parser<C>>[] dispatch = Cast.to(new List[ASCII_COUNT]);
+
+        for (char c = 0; c < ASCII_COUNT; c++) {
+            final List<Parser<C>> possible = Lists.array();
+            for (final Parser<C> parser : parsers) {
+                if (Parser2.mayStartWith(parser, c)) {
+                    possible.add(parser);
+                }
+            }
+
+            List<Parser<C>> shared = possible.size() == parsers.size() ?
+                    parsers :
+                    null;
+            if (null == shared) {
+                for (int i = 0; i < c; i++) {
+                    if (dispatch[i].equals(possible)) {
+                        shared = dispatch[i];
+                        break;
+                    }
+                }
+            }
+            dispatch[c] = null != shared ?
+                    shared :
+                    possible;
+        }
+
+        return dispatch;
+    }
+
+    private final static int ASCII_COUNT = 128;
+
+    /**
+     * A lazily built table of parsers, see {@link #buildDispatch()}.
+     */
+    private volatile List<Parser<C>>[] dispatch;
+
+    /**
+     * This {@link Parser} may start with a character if any of its parsers may start with that character.
+     */
+    @Override
+    boolean mayStartWith(final char c) {
+        final List<Parser<C>>[] dispatch = this.dispatch;
+
+        return null != dispatch && c < ASCII_COUNT ?
+                !dispatch[c].isEmpty() :
+                this.parsers.stream()
+                        .anyMatch(p -> Parser2.mayStartWith(p, c));
+    }
+
     @Override
     public Parser<C> or(final Parser<C> parser) {
         Objects.requireNonNull(parser, "parser");
@@ -144,8 +292,38 @@ final class AlternativesParser<C extends ParserContext> extends Parser2<C> {
     // @VisibleForTesting
     final List<Parser<C>> parsers;
 
+    /**
+     * The {@link #parsers} actually tried, with runs of {@link StringParser} fused, see {@link #fuse(List)}.
+     */
+    // @VisibleForTesting
+    final List<Parser<C>> fused;
+
+    // ParserVisitor....................................................................................................
+
+    @Override
+    void accept(final ParserVisitor visitor) {
+        if (Visiting.CONTINUE == visitor.startVisitAlternatives(this, this.parsers)) {
+            visitor.acceptParsers(this.parsers);
+        }
+        visitor.endVisitAlternatives(this, this.parsers);
+    }
+
     // Parser2..........................................................................................................
 
+    /**
+     * Compiles all parsers, creating a new {@link AlternativesParser} which will also flatten any compiled parsers
+     * that are {@link AlternativesParser}.
+     */
+    @Override
+    Parser<C> compile(final ParserCompiler compiler) {
+        final List<Parser<C>> parsers = compiler.compileParsers(this.parsers);
+
+        return parsers == this.parsers ?
+                this :
+                AlternativesParser.with(parsers)
+                        .setToString(this.toString);
+    }
+
     @Override
     AlternativesParser<C> replaceToString(final String toString) {
         return new AlternativesParser<>(
@@ -19,9 +19,9 @@ package walkingkooka.text.cursor.parser;
 
 import walkingkooka.text.cursor.TextCursor;
 import walkingkooka.text.cursor.TextCursorSavePoint;
+import walkingkooka.visit.Visiting;
 
 import java.util.Objects;
-import java.util.Optional;
 
 /**
  * Decorates another {@link Parser} adding a post condition that the {@link ParserToken} is only returned if
@@ -46,13 +46,13 @@ final class AndEmptyTextCursorParser<C extends ParserContext> extends ParserWrap
     }
 
     @Override
-    public Optional<ParserToken> parse(final TextCursor cursor,
-                                       final C context) {
+    public ParserToken parseOrNull(final TextCursor cursor,
+                                   final C context) {
         final TextCursorSavePoint save = cursor.save();
-        Optional<ParserToken> token = this.parser.parse(cursor, context);
-        if (token.isPresent() && !cursor.isEmpty()) {
+        ParserToken token = this.parser.parseOrNull(cursor, context);
+        if (null != token && !cursor.isEmpty()) {
             save.restore();
-            token = Optional.empty();
+            token = null;
         }
         return token;
     }
@@ -62,8 +62,30 @@ final class AndEmptyTextCursorParser<C extends ParserContext> extends ParserWrap
         return this;
     }
 
+    // ParserVisitor....................................................................................................
+
+    @Override
+    void accept(final ParserVisitor visitor) {
+        if (Visiting.CONTINUE == visitor.startVisitAndEmptyTextCursor(this, this.parser)) {
+            visitor.accept(this.parser);
+        }
+        visitor.endVisitAndEmptyTextCursor(this, this.parser);
+    }
+
     // Parser2..........................................................................................................
 
+    @Override
+    Parser<C> compile(final ParserCompiler compiler) {
+        final Parser<C> parser = compiler.compileParser(this.parser);
+
+        return parser == this.parser ?
+                this :
+                new AndEmptyTextCursorParser<>(
+                        parser,
+                        this.toString
+                );
+    }
+
     @Override
     AndEmptyTextCursorParser<C> replaceToString(final String toString) {
         return new AndEmptyTextCursorParser(
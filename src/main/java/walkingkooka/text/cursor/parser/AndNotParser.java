@@ -19,6 +19,7 @@ package walkingkooka.text.cursor.parser;
 
 import walkingkooka.text.cursor.TextCursor;
 import walkingkooka.text.cursor.TextCursorSavePoint;
+import walkingkooka.visit.Visiting;
 
 import java.util.Objects;
 import java.util.Optional;
@@ -42,17 +43,24 @@ final class AndNotParser<C extends ParserContext> implements Parser<C> {
 
     @Override
     public Optional<ParserToken> parse(final TextCursor cursor, final C context) {
+        return Optional.ofNullable(
+                this.parseOrNull(cursor, context)
+        );
+    }
+
+    @Override
+    public ParserToken parseOrNull(final TextCursor cursor, final C context) {
         final TextCursorSavePoint save = cursor.save();
 
-        Optional<ParserToken> leftResult = this.left.parse(cursor, context);
-        if (leftResult.isPresent()) {
+        ParserToken leftResult = this.left.parseOrNull(cursor, context);
+        if (null != leftResult) {
 
             final TextCursorSavePoint save2 = cursor.save();
             save.restore();
 
-            final Optional<? extends ParserToken> rightResult = this.right.parse(cursor, context);
-            if (rightResult.isPresent()) {
-                leftResult = Optional.empty();
+            final ParserToken rightResult = this.right.parseOrNull(cursor, context);
+            if (null != rightResult) {
+                leftResult = null;
                 save.restore();
             } else {
                 save2.restore();
@@ -64,6 +72,36 @@ final class AndNotParser<C extends ParserContext> implements Parser<C> {
         return leftResult;
     }
 
+    /**
+     * Only the left {@link Parser} needs to match.
+     */
+    boolean mayStartWith(final char c) {
+        return Parser2.mayStartWith(this.left, c);
+    }
+
+    /**
+     * Called by {@link ParserCompiler} to compile both parsers.
+     */
+    Parser<C> compile(final ParserCompiler compiler) {
+        final Parser<C> left = compiler.compileParser(this.left);
+        final Parser<C> right = compiler.compileParser(this.right);
+
+        return left == this.left && right == this.right ?
+                this :
+                new AndNotParser<>(left, right);
+    }
+
+    /**
+     * Called by {@link ParserVisitor}, visiting the left then right {@link Parser}.
+     */
+    void accept(final ParserVisitor visitor) {
+        if (Visiting.CONTINUE == visitor.startVisitAndNot(this, this.left, this.right)) {
+            visitor.accept(this.left);
+            visitor.accept(this.right);
+        }
+        visitor.endVisitAndNot(this, this.left, this.right);
+    }
+
     private final Parser<C> left;
     private final Parser<C> right;
 
@@ -23,7 +23,6 @@ import walkingkooka.text.cursor.TextCursorSavePoint;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.MathContext;
-import java.util.Optional;
 
 /**
  * A {@link Parser} that parser that parsers {@link BigDecimal} numbers, including the sign, decimals and any exponent.
@@ -48,6 +47,11 @@ final class BigDecimalParser<C extends ParserContext> extends NonEmptyParser<C>
     private final static int RADIX = 10;
     private final static BigDecimal RADIX_BIGDECIMAL = BigDecimal.valueOf(RADIX);
 
+    /**
+     * The maximum number of digits that always fit in a long.
+     */
+    private final static int MAX_SIGNIFICAND_DIGITS = 18;
+
     private final static int NUMBER_SIGN = 1;
     private final static int NUMBER_ZERO = NUMBER_SIGN * 2;
     private final static int NUMBER_DIGIT = NUMBER_ZERO * 2;
@@ -65,11 +69,14 @@ final class BigDecimalParser<C extends ParserContext> extends NonEmptyParser<C>
      * Basically a cut down version of {@link DoubleParser#tryParse(TextCursor, ParserContext, TextCursorSavePoint)},
      * but with the NAN and INFINITY modes cut out and a {@link BigDecimal} instead of double.
      * Concepts such as negative zero which are not supported by bigdecimal natively end up being plain zero.
+     * <br>
+     * Digits are accumulated in a long while multiplying by 10 cannot be rounded by the {@link MathContext}, which
+     * gives the same {@link BigDecimal} as multiplying and adding a {@link BigDecimal} for each digit.
      */
     @Override
-    Optional<ParserToken> tryParse(final TextCursor cursor,
-                                   final C context,
-                                   final TextCursorSavePoint save) {
+    ParserToken tryParse(final TextCursor cursor,
+                         final C context,
+                         final TextCursorSavePoint save) {
         final char decimalSeparator = context.decimalSeparator();
         final int negativeSign = context.negativeSign();
         final int positiveSign = context.positiveSign();
@@ -88,7 +95,15 @@ final class BigDecimalParser<C extends ParserContext> extends NonEmptyParser<C>
         //    optional(+/-)
         //    repeat(0-9)
 
-        BigDecimal number = BigDecimal.ZERO;
+        // digits are accumulated in a long while every multiply by 10 is exact, only then is a BigDecimal created
+        final int precision = mathContext.getPrecision();
+        final int maxSignificandDigits = 0 == precision ?
+                MAX_SIGNIFICAND_DIGITS :
+                Math.min(precision, MAX_SIGNIFICAND_DIGITS);
+        long significand = 0;
+        int significandDigits = 0;
+        BigDecimal number = null;
+
         boolean numberNegative = false;
         int fractionFactor = 0;
 
@@ -101,6 +116,7 @@ final class BigDecimalParser<C extends ParserContext> extends NonEmptyParser<C>
 
         for (; ; ) {
             final char c = cursor.at();
+            int digit = -1;
 
             for (; ; ) {
                 if ((NUMBER_SIGN & mode) != 0) {
@@ -125,10 +141,9 @@ final class BigDecimalParser<C extends ParserContext> extends NonEmptyParser<C>
                     }
                 }
                 if ((NUMBER_DIGIT & mode) != 0) {
-                    final int digit = digit(c);
+                    digit = digit(c);
                     if (digit >= 0) {
                         cursor.next();
-                        number = number(number, digit, mathContext);
                         mode = NUMBER_DIGIT | DECIMAL | EXPONENT;
                         empty = false;
                         break;
@@ -142,10 +157,9 @@ final class BigDecimalParser<C extends ParserContext> extends NonEmptyParser<C>
                     }
                 }
                 if ((DECIMAL_DIGIT & mode) != 0) {
-                    final int digit = digit(c);
+                    digit = digit(c);
                     if (digit >= 0) {
                         cursor.next();
-                        number = number(number, digit, mathContext);
                         fractionFactor--;
                         break;
                     }
@@ -181,10 +195,10 @@ final class BigDecimalParser<C extends ParserContext> extends NonEmptyParser<C>
                     }
                 }
                 if ((EXPONENT_DIGIT & mode) != 0) {
-                    final int digit = digit(c);
-                    if (digit >= 0) {
+                    final int exponentDigit = digit(c);
+                    if (exponentDigit >= 0) {
                         cursor.next();
-                        exponent = exponent(exponent, digit);
+                        exponent = exponent(exponent, exponentDigit);
                         break;
                     }
                 }
@@ -193,8 +207,27 @@ final class BigDecimalParser<C extends ParserContext> extends NonEmptyParser<C>
                 break;
             }
 
+            // a number or decimal digit was consumed
+            if (digit >= 0 && FINISH != mode) {
+                if (null == number) {
+                    if (0 == significand || significandDigits < maxSignificandDigits) {
+                        significand = significand * RADIX + digit;
+                        if (0 != significand) {
+                            significandDigits++;
+                        }
+                    } else {
+                        number = number(BigDecimal.valueOf(significand), digit, mathContext);
+                    }
+                } else {
+                    number = number(number, digit, mathContext);
+                }
+            }
+
             if (FINISH == mode || cursor.isEmpty()) {
                 if (!empty) {
+                    if (null == number) {
+                        number = BigDecimal.valueOf(significand);
+                    }
                     if (exponentNegative) {
                         exponent = -exponent;
                     }
@@ -211,7 +244,7 @@ final class BigDecimalParser<C extends ParserContext> extends NonEmptyParser<C>
             }
         }
 
-        return Optional.ofNullable(token);
+        return token;
     }
 
     private static int digit(final char c) {
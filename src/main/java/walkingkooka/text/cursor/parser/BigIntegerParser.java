@@ -20,7 +20,6 @@ import walkingkooka.text.cursor.TextCursor;
 import walkingkooka.text.cursor.TextCursorSavePoint;
 
 import java.math.BigInteger;
-import java.util.Optional;
 
 /**
  * A {@link Parser} that matches a number using a given radix. Note it does not require or match a leading prefix.
@@ -50,23 +49,46 @@ final class BigIntegerParser<C extends ParserContext> extends NonEmptyParser<C>
         super(toString);
 
         this.radix = radix;
-        this.radixBigInteger = BigInteger.valueOf(radix);
+
+        // find the most digits that always fit in a long, radix 1 and radix above 36 never match a digit
+        final long radixAtLeastTwo = Math.max(radix, 2);
+        int blockSize = 0;
+        long power = 1;
+        while (power <= Long.MAX_VALUE / radixAtLeastTwo) {
+            power = power * radixAtLeastTwo;
+            blockSize++;
+        }
+        this.blockSize = blockSize;
+
+        final BigInteger[] powers = new BigInteger[blockSize + 1];
+        power = 1;
+        for (int i = 0; i <= blockSize; i++) {
+            powers[i] = BigInteger.valueOf(power);
+            power = power * radixAtLeastTwo;
+        }
+        this.powers = powers;
     }
 
     /**
-     * Reads character by character until a non digit is found, using a {@link BigInteger} to hold the value.
+     * Reads character by character until a non digit is found. Digits are gathered in a long block, which is only
+     * multiplied into a {@link BigInteger} once the block is full, values that fit in a single block never perform
+     * any {@link BigInteger} arithmetic.
      */
     @Override
-    Optional<ParserToken> tryParse(final TextCursor cursor,
-                                   final C context,
-                                   final TextCursorSavePoint save) {
+    ParserToken tryParse(final TextCursor cursor,
+                         final C context,
+                         final TextCursorSavePoint save) {
         final char negativeSign = context.negativeSign();
         final char positiveSign = context.positiveSign();
 
         BigIntegerParserToken token;
 
         final int radix = this.radix;
-        BigInteger number = BigInteger.ZERO;
+        final int blockSize = this.blockSize;
+
+        BigInteger number = null;
+        long block = 0;
+        int blockDigits = 0;
         boolean empty = true;
         boolean signed = false;
 
@@ -74,7 +96,7 @@ final class BigIntegerParser<C extends ParserContext> extends NonEmptyParser<C>
             if (cursor.isEmpty()) {
                 token = empty ?
                         null :
-                        this.createToken(number, save);
+                        this.createToken(number, block, blockDigits, signed, save);
                 break;
             }
 
@@ -96,35 +118,62 @@ final class BigIntegerParser<C extends ParserContext> extends NonEmptyParser<C>
             if (-1 == digit) {
                 token = empty ?
                         null :
-                        this.createToken(number, save);
+                        this.createToken(number, block, blockDigits, signed, save);
                 break;
             }
             empty = false;
 
-            number = number.multiply(this.radixBigInteger);
-
-            final BigInteger digitBigInteger = BigInteger.valueOf(digit);
-            number = signed ?
-                    number.subtract(digitBigInteger) :
-                    number.add(digitBigInteger);
+            if (blockSize == blockDigits) {
+                number = this.append(number, block, blockDigits);
+                block = 0;
+                blockDigits = 0;
+            }
+            block = block * radix + digit;
+            blockDigits++;
 
             cursor.next();
             if (cursor.isEmpty()) {
-                token = this.createToken(number, save);
+                token = this.createToken(number, block, blockDigits, signed, save);
                 break;
             }
         }
 
-        return Optional.ofNullable(token);
+        return token;
     }
 
-    private BigIntegerParserToken createToken(final BigInteger value, final TextCursorSavePoint save) {
-        return BigIntegerParserToken.with(value,
+    /**
+     * Shifts the number left by the digits in the block and adds the block. A null number means only the block.
+     */
+    private BigInteger append(final BigInteger number,
+                              final long block,
+                              final int blockDigits) {
+        final BigInteger blockBigInteger = BigInteger.valueOf(block);
+        return null == number ?
+                blockBigInteger :
+                number.multiply(this.powers[blockDigits]).add(blockBigInteger);
+    }
+
+    private BigIntegerParserToken createToken(final BigInteger number,
+                                              final long block,
+                                              final int blockDigits,
+                                              final boolean signed,
+                                              final TextCursorSavePoint save) {
+        final BigInteger value = this.append(number, block, blockDigits);
+        return BigIntegerParserToken.with(signed ? value.negate() : value,
                 save.textBetween().toString());
     }
 
     private final int radix;
-    private final BigInteger radixBigInteger;
+
+    /**
+     * The number of digits that may be accumulated in a long without overflow.
+     */
+    private final int blockSize;
+
+    /**
+     * Radix raised to 0 up to and including {@link #blockSize}.
+     */
+    private final BigInteger[] powers;
 
     // Parser2..........................................................................................................
 
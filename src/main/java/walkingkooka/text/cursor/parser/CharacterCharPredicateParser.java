@@ -21,7 +21,6 @@ import walkingkooka.text.cursor.TextCursor;
 import walkingkooka.text.cursor.TextCursorSavePoint;
 
 import java.util.Objects;
-import java.util.Optional;
 
 /**
  * A {@link Parser} that matches a single character using the provided {@link CharPredicate}
@@ -44,23 +43,35 @@ final class CharacterCharPredicateParser<C extends ParserContext> extends NonEmp
     }
 
     @Override
-    Optional<ParserToken> tryParse(final TextCursor cursor,
-                                   final C context,
-                                   final TextCursorSavePoint save) {
+    ParserToken tryParse(final TextCursor cursor,
+                         final C context,
+                         final TextCursorSavePoint save) {
         final char first = cursor.at();
         return this.predicate.test(first) ?
                 this.makeSuccessfulResultAndAdvance(first, cursor) :
-                this.empty();
+                null;
     }
 
     private final CharPredicate predicate;
 
-    private Optional<ParserToken> makeSuccessfulResultAndAdvance(final char c, final TextCursor cursor) {
-        final Optional<ParserToken> token = Optional.of(CharacterParserToken.with(c, String.valueOf(c)));
+    @Override
+    boolean mayStartWith(final char c) {
+        return this.predicate.test(c);
+    }
+
+    private ParserToken makeSuccessfulResultAndAdvance(final char c, final TextCursor cursor) {
+        final ParserToken token = CharacterParserToken.with(c, String.valueOf(c));
         cursor.next();
         return token;
     }
 
+    // ParserVisitor....................................................................................................
+
+    @Override
+    void accept(final ParserVisitor visitor) {
+        visitor.visitCharacter(this, this.predicate);
+    }
+
     // Parser2..........................................................................................................
 
     @Override
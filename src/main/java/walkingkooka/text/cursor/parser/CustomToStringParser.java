@@ -18,8 +18,7 @@ package walkingkooka.text.cursor.parser;
 
 import walkingkooka.text.Whitespace;
 import walkingkooka.text.cursor.TextCursor;
-
-import java.util.Optional;
+import walkingkooka.visit.Visiting;
 
 /**
  * Wraps another {@link Parser} replacing or ignoring its {@link Parser#toString()} with the provided {@link String}.
@@ -58,12 +57,37 @@ final class CustomToStringParser<C extends ParserContext> extends ParserWrapper<
     // Parser..........................................................................................................
 
     @Override
-    public Optional<ParserToken> parse(final TextCursor cursor, final C context) {
-        return this.parser.parse(cursor, context);
+    public ParserToken parseOrNull(final TextCursor cursor, final C context) {
+        return this.parser.parseOrNull(cursor, context);
+    }
+
+    // ParserVisitor....................................................................................................
+
+    @Override
+    void accept(final ParserVisitor visitor) {
+        if (Visiting.CONTINUE == visitor.startVisitCustomToString(this, this.parser)) {
+            visitor.accept(this.parser);
+        }
+        visitor.endVisitCustomToString(this, this.parser);
     }
 
     // Parser2..........................................................................................................
 
+    /**
+     * Gives the compiled {@link Parser2} this {@link #toString()}, removing this wrapper. Other parsers, and parsers
+     * that are also reached from elsewhere, remain wrapped so they stay shared.
+     */
+    @Override
+    Parser<C> compile(final ParserCompiler compiler) {
+        final Parser<C> parser = compiler.compileParser(this.parser);
+
+        return parser instanceof Parser2 && false == compiler.isShared(this.parser) ?
+                parser.setToString(this.toString) :
+                parser == this.parser ?
+                        this :
+                        wrap(parser, this.toString);
+    }
+
     @Override
     Parser<C> replaceToString(final String toString) {
         return wrap(
@@ -28,17 +28,15 @@ import java.time.format.DateTimeParseException;
 import java.time.temporal.TemporalAccessor;
 import java.util.Locale;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.function.Function;
 
 /**
  * A {@link Parser} that turns text from the cursor into a token using a {@link DateTimeFormatter}.
- * Because {@link DateTimeFormatter} only accepts {@link CharSequence} a preliminary phase attempts to consume enough text
- * using the pattern. This is necessary otherwise it would be impossible to determine the characters within the
- * {@link TextCursor} that may be passed to {@link DateTimeFormatter#parse(CharSequence)}.
+ * {@link DateTimeFormatter#parseUnresolved(CharSequence, ParsePosition)} is given the text after the cursor and reports
+ * how many characters it matched, which are then consumed and resolved into a date or time.
  * <br>
- * The pattern that created the {@link DateTimeFormatter} must be given to the factory so the preliminary phase can
- * try its simple parsing.
+ * {@link CharSequence} backed cursors give the formatter their text directly, other cursors copy characters into a
+ * buffer that grows until the formatter matches or fails before the end of the buffer.
  */
 abstract class DateTimeFormatterParser<C extends ParserContext> extends NonEmptyParser<C> {
 
@@ -57,91 +55,181 @@ abstract class DateTimeFormatterParser<C extends ParserContext> extends NonEmpty
 
     final static int INITIAL_LENGTH_GUESS = 20;
 
+    /**
+     * A match or failure at least this many characters before the end of the buffer cannot be caused by the buffer
+     * ending within a field, literal or optional section, so the buffer is not grown any further.
+     */
+    final static int MAX_ELEMENT_LENGTH = 64;
+
     @Override
-    Optional<ParserToken> tryParse(final TextCursor cursor,
-                                   final C context,
-                                   final TextCursorSavePoint save) {
-        ParserToken token;
+    ParserToken tryParse(final TextCursor cursor,
+                         final C context,
+                         final TextCursorSavePoint save) {
+        final DateTimeFormatter dateTimeFormatter = this.cache(context).formatter;
+        final CharSequence text = IndexedTextCursors.text(cursor);
+
+        return null != text ?
+                this.tryParseIndexed(
+                        dateTimeFormatter,
+                        cursor,
+                        text
+                ) :
+                this.tryParseBuffered(
+                        dateTimeFormatter,
+                        cursor,
+                        save
+                );
+    }
 
-        final Locale locale = context.locale();
-        final int twoDigitYear = context.twoDigitYear();
+    /**
+     * Gives the {@link DateTimeFormatter} all the remaining text of a {@link CharSequence} backed cursor, so a single
+     * {@link DateTimeFormatter#parseUnresolved(CharSequence, ParsePosition)} either matches or fails without copying
+     * any characters or throwing any exceptions.
+     */
+    private ParserToken tryParseIndexed(final DateTimeFormatter dateTimeFormatter,
+                                        final TextCursor cursor,
+                                        final CharSequence text) {
+        ParserToken token = null;
+
+        final int begin = IndexedTextCursors.offset(cursor);
+        final ParsePosition position = new ParsePosition(begin);
+
+        if (null != dateTimeFormatter.parseUnresolved(text, position)) {
+            final int end = position.getIndex();
+            IndexedTextCursors.setOffset(cursor, end);
+
+            token = this.resolve(
+                    dateTimeFormatter,
+                    text.subSequence(begin, end).toString()
+            );
+        }
 
-        DateTimeFormatterParserCache cache = this.cache;
-        DateTimeFormatter dateTimeFormatter;
-        if (null == cache) {
-            dateTimeFormatter = this.formatter.apply(context);
-            this.cache = DateTimeFormatterParserCache.with(locale,
-                    twoDigitYear,
-                    dateTimeFormatter);
-        } else {
-            if (false == cache.locale.equals(locale) || cache.twoDigitYear != twoDigitYear) {
-                dateTimeFormatter = this.formatter.apply(context);
-                cache = DateTimeFormatterParserCache.with(locale,
-                        twoDigitYear,
-                        dateTimeFormatter);
-                this.cache = cache;
-            }
+        return token;
+    }
 
-            dateTimeFormatter = cache.formatter;
-        }
+    /**
+     * Consumes characters from the {@link TextCursor} into a buffer, starting with a guess and doubling until the
+     * {@link DateTimeFormatter} matches or fails well before the end of the buffer, or the {@link TextCursor} is empty.
+     * A match ending close to the end of the buffer might continue into the next characters, eg optional millis, so
+     * it is only accepted once the {@link TextCursor} is empty, giving the same result as
+     * {@link #tryParseIndexed(DateTimeFormatter, TextCursor, CharSequence)}.
+     */
+    private ParserToken tryParseBuffered(final DateTimeFormatter dateTimeFormatter,
+                                         final TextCursor cursor,
+                                         final TextCursorSavePoint save) {
+        ParserToken token;
 
-        final ParsePosition position = new ParsePosition(0);
         final StringBuilder chars = new StringBuilder();
-        long fill = INITIAL_LENGTH_GUESS;
+        int fill = INITIAL_LENGTH_GUESS;
 
         for (; ; ) {
-            position.setErrorIndex(-1);
-            position.setIndex(0);
-
-            while (fill >= 0 && !cursor.isEmpty()) {
+            while (fill > 0 && !cursor.isEmpty()) {
                 chars.append(cursor.at());
                 cursor.next();
                 fill--;
             }
-            fill = 15;
 
-            try {
-                final TemporalAccessor parsed = dateTimeFormatter.parse(chars, position);
+            final ParsePosition position = new ParsePosition(0);
+            if (null != dateTimeFormatter.parseUnresolved(chars, position)) {
                 int read = position.getIndex();
-                token = this.createParserToken(parsed, chars.substring(0, read));
-
-                save.restore();
 
-                while (read > 0 && !cursor.isEmpty()) {
-                    cursor.next();
-                    read--;
-                }
-                break;
-            } catch (final DateTimeParseException parse) {
-                final Throwable cause = parse.getCause();
-                if(cause instanceof DateTimeException) {
-                    throw new ParserException(cause.getMessage(), cause);
-                }
-                if (cursor.isEmpty()) {
-                    token = null;
+                if (cursor.isEmpty() || chars.length() - read >= MAX_ELEMENT_LENGTH) {
                     save.restore();
+                    while (read > 0) {
+                        cursor.next();
+                        read--;
+                    }
+
+                    token = this.resolve(
+                            dateTimeFormatter,
+                            chars.substring(0, position.getIndex())
+                    );
                     break;
                 }
-
-                // try again!
-            } catch (final DateTimeException invalid) {
-                // must be reporting an invalid component within a date/time.
-                throw new ParserException(invalid.getMessage(), invalid);
-            } catch (final RuntimeException failed) {
-                if (cursor.isEmpty()) {
+            } else {
+                final int errorIndex = position.getErrorIndex();
+                if (cursor.isEmpty() || (errorIndex >= 0 && chars.length() - errorIndex >= MAX_ELEMENT_LENGTH)) {
                     token = null;
-                    save.restore();
                     break;
                 }
             }
+
+            fill = chars.length();
+        }
+
+        return token;
+    }
+
+    /**
+     * Resolves the text already matched by {@link DateTimeFormatter#parseUnresolved(CharSequence, ParsePosition)}
+     * into a date or time. This only fails if a component is invalid, such as a month of 13.
+     */
+    private ParserToken resolve(final DateTimeFormatter dateTimeFormatter,
+                                final String text) {
+        ParserToken token;
+
+        try {
+            token = this.createParserToken(
+                    dateTimeFormatter.parse(text),
+                    text
+            );
+        } catch (final DateTimeParseException parse) {
+            final Throwable cause = parse.getCause();
+            if (cause instanceof DateTimeException) {
+                throw new ParserException(cause.getMessage(), cause);
+            }
+            token = null;
+        } catch (final DateTimeException invalid) {
+            // must be reporting an invalid component within a date/time.
+            throw new ParserException(invalid.getMessage(), invalid);
         }
 
-        return Optional.ofNullable(token);
+        return token;
+    }
+
+    /**
+     * Returns the {@link DateTimeFormatterParserCache} holding the {@link DateTimeFormatter} for the {@link Locale} and
+     * two digit year of the given context, creating and caching it if necessary.
+     */
+    DateTimeFormatterParserCache cache(final C context) {
+        final Locale locale = context.locale();
+        final int twoDigitYear = context.twoDigitYear();
+
+        final DateTimeFormatterParserCache[] caches = this.caches;
+        for (final DateTimeFormatterParserCache cache : caches) {
+            if (cache.matches(locale, twoDigitYear)) {
+                return cache;
+            }
+        }
+
+        final DateTimeFormatterParserCache cache = DateTimeFormatterParserCache.with(
+                locale,
+                twoDigitYear,
+                this.formatter.apply(context)
+        );
+
+        // copy on write, dropping the oldest entry when full. A concurrent add may be lost, which only costs a rebuild.
+        final int keep = Math.min(caches.length, MAX_CACHE_SIZE - 1);
+        final DateTimeFormatterParserCache[] copy = new DateTimeFormatterParserCache[keep + 1];
+        System.arraycopy(caches, caches.length - keep, copy, 0, keep);
+        copy[keep] = cache;
+        this.caches = copy;
+
+        return cache;
     }
 
     final Function<DateTimeContext, DateTimeFormatter> formatter;
 
-    DateTimeFormatterParserCache cache;
+    /**
+     * The maximum number of {@link Locale} and two digit year {@link DateTimeFormatter} that are cached.
+     */
+    final static int MAX_CACHE_SIZE = 64;
+
+    /**
+     * An immutable array which is replaced when a new {@link DateTimeFormatter} is added, making it safe to share this
+     * {@link Parser} between threads.
+     */
+    volatile DateTimeFormatterParserCache[] caches = DateTimeFormatterParserCache.EMPTY;
 
     /**
      * Factory that creates a {@link ParserToken} with the date or time or date time value.
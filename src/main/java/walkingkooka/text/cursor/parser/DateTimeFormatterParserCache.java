@@ -25,6 +25,11 @@ import java.util.Locale;
  */
 final class DateTimeFormatterParserCache {
 
+    /**
+     * The initial empty cache of a {@link DateTimeFormatterParser}.
+     */
+    final static DateTimeFormatterParserCache[] EMPTY = new DateTimeFormatterParserCache[0];
+
     static DateTimeFormatterParserCache with(final Locale locale,
                                              final int twoDigitYear,
                                              final DateTimeFormatter formatter) {
@@ -41,6 +46,15 @@ final class DateTimeFormatterParserCache {
         this.formatter = formatter;
     }
 
+    /**
+     * Tests if this entry was built for the given {@link Locale} and two digit year.
+     */
+    boolean matches(final Locale locale,
+                    final int twoDigitYear) {
+        return this.twoDigitYear == twoDigitYear &&
+                (this.locale == locale || this.locale.equals(locale));
+    }
+
     final Locale locale;
     final int twoDigitYear;
     final DateTimeFormatter formatter;
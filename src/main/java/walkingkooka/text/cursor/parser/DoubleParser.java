@@ -20,8 +20,6 @@ import walkingkooka.text.CaseSensitivity;
 import walkingkooka.text.cursor.TextCursor;
 import walkingkooka.text.cursor.TextCursorSavePoint;
 
-import java.math.BigInteger;
-import java.util.Optional;
 
 /**
  * A {@link Parser} that parser that parsers double numbers, including the sign, decimals and any exponent.
@@ -46,6 +44,16 @@ final class DoubleParser<C extends ParserContext> extends NonEmptyParser<C> {
 
     private final static int RADIX = 10;
 
+    /**
+     * The maximum number of significant digits that always fit in an unsigned long.
+     */
+    private final static int MAX_SIGNIFICAND_DIGITS = 19;
+
+    /**
+     * Exponents above this are certainly infinity or zero.
+     */
+    private final static int MAX_EXPONENT = 100000;
+
     private final static int NAN_N = 1;
     private final static int NAN_NA = NAN_N * 2;
     private final static int NAN_NAN = NAN_NA * 2;
@@ -76,18 +84,26 @@ final class DoubleParser<C extends ParserContext> extends NonEmptyParser<C> {
     private final static int FAIL = FINISH * 2;
 
     /**
-     * Reads character by character until a non digit is found, using a {@link BigInteger} to hold the value.
+     * Reads character by character until a non digit is found, accumulating up to 19 significant digits in a long along
+     * with a decimal exponent, which are then converted by {@link DoubleParserEiselLemire}. If the
+     * {@link TextCursor} is backed by a {@link CharSequence} the text is read directly by index, and the cursor moved
+     * once at the end.
      */
     @Override
-    Optional<ParserToken> tryParse(final TextCursor cursor,
-                                   final C context,
-                                   final TextCursorSavePoint save) {
+    ParserToken tryParse(final TextCursor cursor,
+                         final C context,
+                         final TextCursorSavePoint save) {
         final char decimalSeparator = context.decimalSeparator();
         final char negativeSign = context.negativeSign();
         final char positiveSign = context.positiveSign();
         final String exponentSymbol = context.exponentSymbol();
 
-        Optional<ParserToken> token = Optional.empty();
+        ParserToken token = null;
+
+        final CharSequence text = IndexedTextCursors.text(cursor);
+        final int length = null != text ? text.length() : 0;
+        final int begin = null != text ? IndexedTextCursors.offset(cursor) : 0;
+        int i = begin;
 
         // optional(+/-)
         // 0 OR 1-9
@@ -98,9 +114,12 @@ final class DoubleParser<C extends ParserContext> extends NonEmptyParser<C> {
         //    optional(+/-)
         //    repeat(0-9)
 
-        double number = 0;
+        // the first MAX_SIGNIFICAND_DIGITS significant digits, with the value being significand * 10^decimalExponent
+        long significand = 0;
+        int significandDigits = 0;
+        int decimalExponent = 0;
+        boolean truncated = false;
         boolean numberNegative = false;
-        double fractionFactor = 1;
 
         int exponentSymbolIndex = 0;
         int exponent = 0;
@@ -110,19 +129,20 @@ final class DoubleParser<C extends ParserContext> extends NonEmptyParser<C> {
         boolean empty = true;
 
         for (; ; ) {
-            final char c = cursor.at();
+            final char c = null != text ? text.charAt(i) : cursor.at();
+            boolean next = false;
 
             for (; ; ) {
                 if ((NAN_N & mode) != 0) {
                     if ('N' == c) {
-                        cursor.next();
+                        next = true;
                         mode = NAN_NA;
                         break;
                     }
                 }
                 if ((NAN_NA & mode) != 0) {
                     if ('a' == c) {
-                        cursor.next();
+                        next = true;
                         mode = NAN_NAN;
                         break;
                     }
@@ -132,8 +152,7 @@ final class DoubleParser<C extends ParserContext> extends NonEmptyParser<C> {
                 }
                 if ((NAN_NAN & mode) != 0) {
                     if ('N' == c) {
-                        cursor.next();
-                        token = token(Double.NaN, save);
+                        next = true;
                         mode = NAN_FINISH;
                         break;
                     }
@@ -143,12 +162,12 @@ final class DoubleParser<C extends ParserContext> extends NonEmptyParser<C> {
                 }
                 if ((NUMBER_SIGN & mode) != 0) {
                     if (positiveSign == c) {
-                        cursor.next();
+                        next = true;
                         mode = INFINITY_I | NUMBER_ZERO | NUMBER_DIGIT;
                         break;
                     }
                     if (negativeSign == c) {
-                        cursor.next();
+                        next = true;
                         numberNegative = true;
                         mode = INFINITY_I | NUMBER_ZERO | NUMBER_DIGIT;
                         break;
@@ -156,7 +175,7 @@ final class DoubleParser<C extends ParserContext> extends NonEmptyParser<C> {
                 }
                 if ((NUMBER_ZERO & mode) != 0) {
                     if ('0' == c) {
-                        cursor.next();
+                        next = true;
                         mode = DECIMAL | EXPONENT;
                         empty = false;
                         break;
@@ -165,8 +184,16 @@ final class DoubleParser<C extends ParserContext> extends NonEmptyParser<C> {
                 if ((NUMBER_DIGIT & mode) != 0) {
                     final int digit = digit(c);
                     if (digit >= 0) {
-                        cursor.next();
-                        number = number(number, digit);
+                        next = true;
+                        if (significandDigits < MAX_SIGNIFICAND_DIGITS) {
+                            significand = significand * RADIX + digit;
+                            if (0 != significand) {
+                                significandDigits++;
+                            }
+                        } else {
+                            decimalExponent++;
+                            truncated |= 0 != digit;
+                        }
                         mode = NUMBER_DIGIT | DECIMAL | EXPONENT;
                         empty = false;
                         break;
@@ -174,7 +201,7 @@ final class DoubleParser<C extends ParserContext> extends NonEmptyParser<C> {
                 }
                 if ((DECIMAL & mode) != 0) {
                     if (decimalSeparator == c) {
-                        cursor.next();
+                        next = true;
                         mode = DECIMAL_DIGIT | EXPONENT;
                         break;
                     }
@@ -182,15 +209,22 @@ final class DoubleParser<C extends ParserContext> extends NonEmptyParser<C> {
                 if ((DECIMAL_DIGIT & mode) != 0) {
                     final int digit = digit(c);
                     if (digit >= 0) {
-                        cursor.next();
-                        number = number(number, digit);
-                        fractionFactor = fractionFactor * RADIX;
+                        next = true;
+                        if (significandDigits < MAX_SIGNIFICAND_DIGITS) {
+                            significand = significand * RADIX + digit;
+                            decimalExponent--;
+                            if (0 != significand) {
+                                significandDigits++;
+                            }
+                        } else {
+                            truncated |= 0 != digit;
+                        }
                         break;
                     }
                 }
                 if ((EXPONENT & mode) != 0) {
                     if (0 == CaseSensitivity.INSENSITIVE.compare(exponentSymbol.charAt(exponentSymbolIndex), c)) {
-                        cursor.next();
+                        next = true;
                         exponentSymbolIndex++;
                         if (exponentSymbol.length() == exponentSymbolIndex) {
                             mode = EXPONENT_SIGN | EXPONENT_ZERO | EXPONENT_DIGIT;
@@ -200,19 +234,19 @@ final class DoubleParser<C extends ParserContext> extends NonEmptyParser<C> {
                 }
                 if ((EXPONENT_ZERO & mode) != 0) {
                     if ('0' == c) {
-                        cursor.next();
+                        next = true;
                         mode = FINISH;
                         break;
                     }
                 }
                 if ((EXPONENT_SIGN & mode) != 0) {
                     if (positiveSign == c) {
-                        cursor.next();
+                        next = true;
                         mode = EXPONENT_DIGIT;
                         break;
                     }
                     if (negativeSign == c) {
-                        cursor.next();
+                        next = true;
                         exponentNegative = true;
                         mode = EXPONENT_DIGIT;
                         break;
@@ -221,21 +255,22 @@ final class DoubleParser<C extends ParserContext> extends NonEmptyParser<C> {
                 if ((EXPONENT_DIGIT & mode) != 0) {
                     final int digit = digit(c);
                     if (digit >= 0) {
-                        cursor.next();
+                        next = true;
                         exponent = exponent(exponent, digit);
+                        mode = EXPONENT_DIGIT;
                         break;
                     }
                 }
                 if ((INFINITY_I & mode) != 0) {
                     if ('I' == c) {
-                        cursor.next();
+                        next = true;
                         mode = INFINITY_IN;
                         break;
                     }
                 }
                 if ((INFINITY_IN & mode) != 0) {
                     if ('n' == c) {
-                        cursor.next();
+                        next = true;
                         mode = INFINITY_INF;
                         break;
                     }
@@ -244,7 +279,7 @@ final class DoubleParser<C extends ParserContext> extends NonEmptyParser<C> {
                 }
                 if ((INFINITY_INF & mode) != 0) {
                     if ('f' == c) {
-                        cursor.next();
+                        next = true;
                         mode = INFINITY_INFI;
                         break;
                     }
@@ -253,7 +288,7 @@ final class DoubleParser<C extends ParserContext> extends NonEmptyParser<C> {
                 }
                 if ((INFINITY_INFI & mode) != 0) {
                     if ('i' == c) {
-                        cursor.next();
+                        next = true;
                         mode = INFINITY_INFIN;
                         break;
                     }
@@ -262,7 +297,7 @@ final class DoubleParser<C extends ParserContext> extends NonEmptyParser<C> {
                 }
                 if ((INFINITY_INFIN & mode) != 0) {
                     if ('n' == c) {
-                        cursor.next();
+                        next = true;
                         mode = INFINITY_INFINI;
                         break;
                     }
@@ -271,7 +306,7 @@ final class DoubleParser<C extends ParserContext> extends NonEmptyParser<C> {
                 }
                 if ((INFINITY_INFINI & mode) != 0) {
                     if ('i' == c) {
-                        cursor.next();
+                        next = true;
                         mode = INFINITY_INFINIT;
                         break;
                     }
@@ -280,7 +315,7 @@ final class DoubleParser<C extends ParserContext> extends NonEmptyParser<C> {
                 }
                 if ((INFINITY_INFINIT & mode) != 0) {
                     if ('t' == c) {
-                        cursor.next();
+                        next = true;
                         mode = INFINITY_INFINITY;
                         break;
                     }
@@ -289,8 +324,7 @@ final class DoubleParser<C extends ParserContext> extends NonEmptyParser<C> {
                 }
                 if ((INFINITY_INFINITY & mode) != 0) {
                     if ('y' == c) {
-                        cursor.next();
-                        token = token(numberNegative ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY, save);
+                        next = true;
                         mode = INFINITY_FINISH;
                         break;
                     }
@@ -302,23 +336,46 @@ final class DoubleParser<C extends ParserContext> extends NonEmptyParser<C> {
                 break;
             }
 
-            if (FAIL == mode || NAN_FINISH == mode || INFINITY_FINISH == mode) {
+            if (next) {
+                i++;
+                if (null == text) {
+                    cursor.next();
+                }
+            }
+
+            if (FAIL == mode) {
+                break;
+            }
+            if (NAN_FINISH == mode) {
+                token = token(Double.NaN, cursor, text, begin, i, save);
+                break;
+            }
+            if (INFINITY_FINISH == mode) {
+                token = token(numberNegative ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY, cursor, text, begin, i, save);
                 break;
             }
 
-            if (FINISH == mode || cursor.isEmpty()) {
+            if (FINISH == mode || (null != text ? length == i : cursor.isEmpty())) {
                 if (!empty) {
-                    if (exponentNegative) {
-                        exponent = -exponent;
-                    }
-                    if (numberNegative) {
-                        number = -number;
+                    double number = truncated ?
+                            Double.NaN :
+                            DoubleParserEiselLemire.toDouble(
+                                    numberNegative,
+                                    significand,
+                                    decimalExponent + (exponentNegative ? -exponent : exponent)
+                            );
+                    if (Double.isNaN(number)) {
+                        number = parseDouble(
+                                null != text ?
+                                        text.subSequence(begin, i) :
+                                        save.textBetween(),
+                                decimalSeparator,
+                                negativeSign,
+                                positiveSign,
+                                exponentSymbol
+                        );
                     }
-                    number = number / fractionFactor;
-                    if (0 != exponent) {
-                        number = number * Math.pow(RADIX, exponent);
-                    }
-                    token = token(number, save);
+                    token = token(number, cursor, text, begin, i, save);
                 }
                 break;
             }
@@ -331,16 +388,91 @@ final class DoubleParser<C extends ParserContext> extends NonEmptyParser<C> {
         return Character.digit(c, RADIX);
     }
 
-    private static double number(final double value, final int digit) {
-        return value * RADIX + digit;
+    /**
+     * Stops accumulating exponent digits once the exponent is well beyond the range of a double, avoiding overflow.
+     */
+    private static int exponent(final int value, final int digit) {
+        return value < MAX_EXPONENT ?
+                value * RADIX + digit :
+                value;
     }
 
-    private static int exponent(final int value, final int digit) {
-        return value * RADIX + digit;
+    /**
+     * The slow but exact path, used when the significand was truncated or the fast path was unable to prove the
+     * result was correctly rounded. The consumed text is rewritten using the standard decimal separator, signs and
+     * exponent symbol and given to {@link Double#parseDouble(String)}.
+     */
+    private static double parseDouble(final CharSequence consumed,
+                                      final char decimalSeparator,
+                                      final char negativeSign,
+                                      final char positiveSign,
+                                      final String exponentSymbol) {
+        final StringBuilder number = new StringBuilder();
+        final StringBuilder exponent = new StringBuilder();
+        boolean exponentNegative = false;
+        boolean inExponent = false;
+
+        final int length = consumed.length();
+        for (int i = 0; i < length; i++) {
+            final char c = consumed.charAt(i);
+            final int digit = digit(c);
+
+            if (inExponent) {
+                if (digit >= 0) {
+                    exponent.append((char) ('0' + digit));
+                } else {
+                    if (negativeSign == c) {
+                        exponentNegative = true;
+                    }
+                }
+            } else {
+                if (digit >= 0) {
+                    number.append((char) ('0' + digit));
+                } else {
+                    if (decimalSeparator == c) {
+                        number.append('.');
+                    } else {
+                        if (negativeSign == c) {
+                            number.append('-');
+                        } else {
+                            if (positiveSign != c) {
+                                // skip the remainder of the exponent symbol
+                                inExponent = true;
+                                i += exponentSymbol.length() - 1;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        if (exponent.length() > 0) {
+            number.append('E');
+            if (exponentNegative) {
+                number.append('-');
+            }
+            number.append(exponent);
+        }
+
+        return Double.parseDouble(number.toString());
     }
 
-    private static Optional<ParserToken> token(final double value, final TextCursorSavePoint save) {
-        return Optional.of(DoubleParserToken.with(value, save.textBetween().toString()));
+    /**
+     * Creates the token, first moving the {@link TextCursor} to the end of the number if it was read by index.
+     */
+    private static ParserToken token(final double value,
+                                     final TextCursor cursor,
+                                     final CharSequence text,
+                                     final int begin,
+                                     final int end,
+                                     final TextCursorSavePoint save) {
+        if (null != text) {
+            IndexedTextCursors.setOffset(cursor, end);
+        }
+        return DoubleParserToken.with(
+                value,
+                ParserTokenText.textBetween(text, begin, cursor, save)
+        );
     }
 
     // Parser2..........................................................................................................
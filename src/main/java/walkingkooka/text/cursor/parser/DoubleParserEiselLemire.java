@@ -0,0 +1,200 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.text.cursor.parser;
+
+import java.math.BigInteger;
+
+/**
+ * Converts a decimal significand and power of ten into the nearest double, using the Clinger fast path when both are
+ * small enough to be exact, and otherwise the Eisel-Lemire algorithm, which multiplies the significand by a 128 bit
+ * truncated power of five. When the result cannot be proven to be correctly rounded {@link Double#NaN} is returned,
+ * and the caller must use a slower exact conversion.
+ */
+final class DoubleParserEiselLemire {
+
+    /**
+     * Returns the nearest double for significand * 10^power, or {@link Double#NaN} if the result is ambiguous or
+     * subnormal. The significand is treated as an unsigned long.
+     */
+    static double toDouble(final boolean negative,
+                           final long significand,
+                           final int power) {
+        final double value;
+
+        if (0 == significand || power < SMALLEST_POWER_OF_TEN) {
+            value = 0;
+        } else {
+            if (power > LARGEST_POWER_OF_TEN) {
+                value = Double.POSITIVE_INFINITY;
+            } else {
+                if (power >= -MAX_EXACT_POWER_OF_TEN &&
+                        power <= MAX_EXACT_POWER_OF_TEN &&
+                        Long.compareUnsigned(significand, MAX_EXACT_SIGNIFICAND) <= 0) {
+                    // Clinger: both the significand and power of ten are exact doubles, so a single rounding occurs
+                    value = power < 0 ?
+                            significand / POWERS_OF_TEN[-power] :
+                            significand * POWERS_OF_TEN[power];
+                } else {
+                    value = eiselLemire(significand, power);
+                }
+            }
+        }
+
+        return negative ?
+                -value :
+                value;
+    }
+
+    /**
+     * The Eisel-Lemire algorithm, see "Number Parsing at a Gigabyte per Second" by Daniel Lemire.
+     */
+    private static double eiselLemire(final long significand,
+                                      final int power) {
+        final int index = power - SMALLEST_POWER_OF_TEN;
+
+        int leadingZeros = Long.numberOfLeadingZeros(significand);
+        final long normalized = significand << leadingZeros;
+
+        final long factorHigh = HIGH[index];
+        long lower = normalized * factorHigh;
+        long upper = multiplyHighUnsigned(normalized, factorHigh);
+
+        // the lower 9 bits are all ones and adding the significand carries, the low half of the factor matters
+        if (0x1FF == (upper & 0x1FF) && Long.compareUnsigned(lower + normalized, lower) < 0) {
+            final long factorLow = LOW[index];
+            final long productLow = normalized * factorLow;
+            final long productMiddle = lower + multiplyHighUnsigned(normalized, factorLow);
+            if (Long.compareUnsigned(productMiddle, lower) < 0) {
+                upper++;
+            }
+            if (-1 == productMiddle &&
+                    0x1FF == (upper & 0x1FF) &&
+                    Long.compareUnsigned(productLow + normalized, productLow) < 0) {
+                return Double.NaN;
+            }
+            lower = productMiddle;
+        }
+
+        final long upperBit = upper >>> 63;
+        long mantissa = upper >>> (upperBit + 9);
+        leadingZeros += (int) (1 ^ upperBit);
+
+        // possibly exactly halfway between two doubles, rounding to even needs more precision
+        if (0x1FF == (upper & 0x1FF) || (0 == (upper & 0x1FF) && 1 == (mantissa & 3))) {
+            return Double.NaN;
+        }
+
+        mantissa += 1;
+        mantissa >>>= 1;
+        if (mantissa >= (1L << 53)) {
+            mantissa = 1L << 52;
+            leadingZeros--;
+        }
+        mantissa &= ~(1L << 52);
+
+        final long exponent = (((152170L + 65536L) * power) >> 16) + 1023 + 64 - leadingZeros;
+
+        // subnormal or overflow
+        if (exponent < 1 || exponent > 2046) {
+            return Double.NaN;
+        }
+
+        return Double.longBitsToDouble(mantissa | exponent << 52);
+    }
+
+    /**
+     * Returns the high 64 bits of the unsigned 128 bit product.
+     */
+    static long multiplyHighUnsigned(final long x,
+                                     final long y) {
+        final long x0 = x & 0xFFFFFFFFL;
+        final long x1 = x >>> 32;
+        final long y0 = y & 0xFFFFFFFFL;
+        final long y1 = y >>> 32;
+
+        final long p01 = x0 * y1;
+        final long middle = x1 * y0 + ((x0 * y0) >>> 32) + (p01 & 0xFFFFFFFFL);
+
+        return x1 * y1 + (middle >>> 32) + (p01 >>> 32);
+    }
+
+    /**
+     * Any significand below 2^64 multiplied by a smaller power of ten rounds to zero.
+     */
+    final static int SMALLEST_POWER_OF_TEN = -342;
+
+    /**
+     * Any non zero significand multiplied by a larger power of ten is infinity.
+     */
+    final static int LARGEST_POWER_OF_TEN = 308;
+
+    private final static int MAX_EXACT_POWER_OF_TEN = 22;
+
+    private final static long MAX_EXACT_SIGNIFICAND = 1L << 53;
+
+    private final static double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+            1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20,
+            1e21, 1e22
+    };
+
+    /**
+     * The high and low 64 bits of each power of five, normalized so the top bit is set. Positive powers are
+     * truncated, negative powers are the reciprocal rounded up, matching the tables used by fast_float.
+     */
+    private final static long[] HIGH;
+    private final static long[] LOW;
+
+    static {
+        final int count = LARGEST_POWER_OF_TEN - SMALLEST_POWER_OF_TEN + 1;
+        final long[] high = new long[count];
+        final long[] low = new long[count];
+
+        final BigInteger five = BigInteger.valueOf(5);
+
+        for (int q = SMALLEST_POWER_OF_TEN; q <= LARGEST_POWER_OF_TEN; q++) {
+            BigInteger c;
+            if (q < 0) {
+                final BigInteger power5 = five.pow(-q);
+                final int z = power5.bitLength();
+                final int b = q >= -27 ?
+                        z + 127 :
+                        2 * z + 128;
+                c = BigInteger.ONE.shiftLeft(b)
+                        .divide(power5)
+                        .add(BigInteger.ONE);
+            } else {
+                c = five.pow(q);
+            }
+            c = c.shiftLeft(128 - c.bitLength());
+
+            final int index = q - SMALLEST_POWER_OF_TEN;
+            high[index] = c.shiftRight(64).longValue();
+            low[index] = c.longValue();
+        }
+
+        HIGH = high;
+        LOW = low;
+    }
+
+    /**
+     * Stop creation
+     */
+    private DoubleParserEiselLemire() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -29,10 +29,37 @@ public final class DoubleParserToken extends ValueParserToken<Double> implements
         return new DoubleParserToken(value, text);
     }
 
-    private DoubleParserToken(final Double value, final String text) {
-        super(value, text);
+    /**
+     * Factory used by {@link DoubleParser} which may pass a lazy {@link ParserTokenText}.
+     */
+    static DoubleParserToken with(final double value, final CharSequence text) {
+        Objects.requireNonNull(text, "text");
+
+        return new DoubleParserToken(value, text);
     }
 
+    private DoubleParserToken(final double value, final CharSequence text) {
+        super(null, text);
+        this.doubleValue = value;
+    }
+
+    /**
+     * Boxes the {@link #doubleValue()} on each call, prefer the primitive accessor.
+     */
+    @Override
+    public Double value() {
+        return this.doubleValue;
+    }
+
+    /**
+     * Returns the unboxed value.
+     */
+    public double doubleValue() {
+        return this.doubleValue;
+    }
+
+    private final double doubleValue;
+
     @Override
     public void accept(final ParserTokenVisitor visitor) {
         visitor.visit(this);
@@ -45,6 +72,6 @@ public final class DoubleParserToken extends ValueParserToken<Double> implements
 
     @Override
     boolean equals1(final ValueParserToken<?> other) {
-        return true; // no extra properties to compare
+        return 0 == Double.compare(this.doubleValue, ((DoubleParserToken) other).doubleValue);
     }
 }
@@ -0,0 +1,223 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import walkingkooka.collect.list.Lists;
+import walkingkooka.text.cursor.TextCursor;
+import walkingkooka.visit.Visiting;
+
+import java.util.List;
+
+/**
+ * A {@link Parser} that parses the wrapped {@link Parser} keeping the state of each combinator in a
+ * {@link ExplicitStackParserFrame} on a heap allocated stack, rather than each combinator calling the parsers it wraps.
+ * Deeply nested input is then limited by memory rather than the size of the thread stack.
+ * <br>
+ * {@link SequenceParser}, {@link AlternativesParser}, {@link RepeatingParser}, {@link TransformingParser},
+ * {@link AndEmptyTextCursorParser}, {@link MemoizingParser}, {@link ReportingParser}, {@link RuleParser} and the
+ * operands of an {@link ExpressionParser} are interpreted, while {@link CustomToStringParser} and a bound
+ * {@link ReferenceParser} are replaced by the {@link Parser} they wrap. All other parsers, including leaves, the
+ * operators of an {@link ExpressionParser} and custom parsers, are called directly and use the thread stack for any
+ * parsers they call.
+ * <br>
+ * When a {@link Parser} throws, each frame still on the stack is aborted, so a {@link RuleParser} does not leave its
+ * head behind.
+ * <br>
+ * An {@link IndexedTextCursor} is only wrapped in a {@link MemoizingParserTextCursor} when the first
+ * {@link MemoizingParser} or {@link RuleParser} is reached. Other cursors are wrapped before parsing starts, so every
+ * move is counted in the offset, but the {@link MemoizingParserTable} is still only created when first needed.
+ */
+final class ExplicitStackParser<C extends ParserContext> extends ParserWrapper<C> {
+
+    static <C extends ParserContext> ExplicitStackParser<C> with(final Parser<C> parser) {
+        checkParser(parser);
+
+        return parser instanceof ExplicitStackParser ?
+                parser.cast() :
+                new ExplicitStackParser<>(
+                        parser,
+                        parser.toString()
+                );
+    }
+
+    private ExplicitStackParser(final Parser<C> parser,
+                                final String toString) {
+        super(parser, toString);
+    }
+
+    // Parser..........................................................................................................
+
+    @Override
+    public ParserToken parseOrNull(final TextCursor cursor,
+                                   final C context) {
+        return parse(
+                this.parser,
+                cursor instanceof MemoizingParserTextCursor || cursor instanceof IndexedTextCursor ?
+                        cursor :
+                        MemoizingParserTextCursor.with(cursor),
+                context
+        );
+    }
+
+    /**
+     * Parses the given {@link Parser}, pushing a frame for each combinator and calling all other parsers directly.
+     */
+    private static <C extends ParserContext> ParserToken parse(final Parser<C> parser,
+                                                               final TextCursor textCursor,
+                                                               final C context) {
+        final List<ExplicitStackParserFrame<C>> stack = Lists.array();
+
+        TextCursor cursor = textCursor;
+        Parser<C> next = parser;
+        ParserToken token = null;
+
+        try {
+            for (; ; ) {
+                if (null != next) {
+                    final Parser<C> unwrapped = unwrap(next);
+                    final ExplicitStackParserFrame<C> frame = frame(unwrapped);
+
+                    if (null == frame) {
+                        token = unwrapped.parseOrNull(cursor, context);
+                        next = null;
+                    } else {
+                        if (frame.memoizes() && false == cursor instanceof MemoizingParserTextCursor) {
+                            // only an IndexedTextCursor is not yet wrapped, its save points remain valid as the
+                            // offset is read from the cursor itself
+                            cursor = MemoizingParserTextCursor.with(cursor);
+                        }
+                        next = frame.start(cursor, context);
+                        if (null == next) {
+                            token = frame.token;
+                        } else {
+                            stack.add(frame);
+                        }
+                    }
+                } else {
+                    final int top = stack.size() - 1;
+                    if (-1 == top) {
+                        break;
+                    }
+
+                    final ExplicitStackParserFrame<C> frame = stack.get(top);
+                    next = frame.next(token, cursor, context);
+                    if (null == next) {
+                        stack.remove(top);
+                        token = frame.token;
+                    }
+                }
+            }
+        } finally {
+            // only a parser that threw leaves frames on the stack
+            for (int i = stack.size() - 1; i >= 0; i--) {
+                stack.get(i).abort();
+            }
+        }
+
+        return token;
+    }
+
+    /**
+     * Removes any {@link CustomToStringParser}, bound {@link ReferenceParser} and {@link ExplicitStackParser} which
+     * only call the {@link Parser} they wrap.
+     */
+    private static <C extends ParserContext> Parser<C> unwrap(final Parser<C> parser) {
+        Parser<C> unwrapped = parser;
+
+        for (; ; ) {
+            if (unwrapped instanceof CustomToStringParser) {
+                unwrapped = ((CustomToStringParser<C>) unwrapped).parser;
+                continue;
+            }
+            if (unwrapped instanceof ReferenceParser) {
+                unwrapped = ((ReferenceParser<C>) unwrapped).parserOrFail();
+                continue;
+            }
+            if (unwrapped instanceof ExplicitStackParser) {
+                unwrapped = ((ExplicitStackParser<C>) unwrapped).parser;
+                continue;
+            }
+            break;
+        }
+
+        return unwrapped;
+    }
+
+    /**
+     * Returns a new frame if the {@link Parser} is a combinator that is interpreted, or null if it should be called.
+     */
+    private static <C extends ParserContext> ExplicitStackParserFrame<C> frame(final Parser<C> parser) {
+        final ExplicitStackParserFrame<C> frame;
+
+        if (parser instanceof SequenceParser) {
+            frame = ExplicitStackParserFrameSequence.with((SequenceParser<C>) parser);
+        } else if (parser instanceof AlternativesParser) {
+            frame = ExplicitStackParserFrameAlternatives.with((AlternativesParser<C>) parser);
+        } else if (parser instanceof RepeatingParser) {
+            frame = ExplicitStackParserFrameRepeating.with((RepeatingParser<C>) parser);
+        } else if (parser instanceof TransformingParser) {
+            frame = ExplicitStackParserFrameTransform.with((TransformingParser<C>) parser);
+        } else if (parser instanceof AndEmptyTextCursorParser) {
+            frame = ExplicitStackParserFrameAndEmptyTextCursor.with((AndEmptyTextCursorParser<C>) parser);
+        } else if (parser instanceof MemoizingParser) {
+            frame = ExplicitStackParserFrameMemoize.with((MemoizingParser<C>) parser);
+        } else if (parser instanceof ReportingParser && ParserReporterCondition.NOT_EMPTY == ((ReportingParser<C>) parser).condition) {
+            frame = ExplicitStackParserFrameReport.with((ReportingParser<C>) parser);
+        } else if (parser instanceof RuleParser) {
+            frame = ExplicitStackParserFrameRule.with((RuleParser<C>) parser);
+        } else if (parser instanceof ExpressionParser) {
+            frame = ExplicitStackParserFrameExpression.with((ExpressionParser<C>) parser);
+        } else {
+            frame = null;
+        }
+
+        return frame;
+    }
+
+    // ParserVisitor....................................................................................................
+
+    @Override
+    void accept(final ParserVisitor visitor) {
+        if (Visiting.CONTINUE == visitor.startVisitExplicitStack(this, this.parser)) {
+            visitor.accept(this.parser);
+        }
+        visitor.endVisitExplicitStack(this, this.parser);
+    }
+
+    // Parser2..........................................................................................................
+
+    @Override
+    Parser<C> compile(final ParserCompiler compiler) {
+        final Parser<C> parser = compiler.compileParser(this.parser);
+
+        return parser == this.parser ?
+                this :
+                new ExplicitStackParser<>(
+                        parser,
+                        this.toString
+                );
+    }
+
+    @Override
+    ExplicitStackParser<C> replaceToString(final String toString) {
+        return new ExplicitStackParser<>(
+                this.parser,
+                toString
+        );
+    }
+}
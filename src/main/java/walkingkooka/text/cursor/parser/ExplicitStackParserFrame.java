@@ -0,0 +1,67 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import walkingkooka.text.cursor.TextCursor;
+
+/**
+ * The state of a combinator {@link Parser} while it is being parsed by an {@link ExplicitStackParser}. Rather than
+ * calling the {@link Parser} it wraps, a frame returns that {@link Parser} and later receives its result.
+ */
+abstract class ExplicitStackParserFrame<C extends ParserContext> {
+
+    ExplicitStackParserFrame() {
+        super();
+    }
+
+    /**
+     * Starts parsing, returning the first {@link Parser} to parse, or null if the frame has finished, with its result
+     * in {@link #token}.
+     */
+    abstract Parser<C> start(final TextCursor cursor,
+                             final C context);
+
+    /**
+     * Receives the result of the last returned {@link Parser}, returning the next {@link Parser} to parse, or null if
+     * the frame has finished, with its result in {@link #token}.
+     */
+    abstract Parser<C> next(final ParserToken token,
+                            final TextCursor cursor,
+                            final C context);
+
+    /**
+     * Called when a {@link Parser} throws while this frame is on the stack, undoing any state this frame shares through
+     * the cursor.
+     */
+    void abort() {
+        // nop
+    }
+
+    /**
+     * Frames that use the {@link MemoizingParserTable} or the rule heads of a {@link MemoizingParserTextCursor} return
+     * true, and are always started with one.
+     */
+    boolean memoizes() {
+        return false;
+    }
+
+    /**
+     * The result of this frame once it has finished, which is null if the parse failed.
+     */
+    ParserToken token;
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import walkingkooka.text.cursor.TextCursor;
+
+import java.util.List;
+
+/**
+ * Parses an {@link AlternativesParser}, trying each alternative until one succeeds.
+ */
+final class ExplicitStackParserFrameAlternatives<C extends ParserContext> extends ExplicitStackParserFrame<C> {
+
+    static <C extends ParserContext> ExplicitStackParserFrameAlternatives<C> with(final AlternativesParser<C> parser) {
+        return new ExplicitStackParserFrameAlternatives<>(parser);
+    }
+
+    private ExplicitStackParserFrameAlternatives(final AlternativesParser<C> parser) {
+        super();
+        this.parser = parser;
+    }
+
+    @Override
+    Parser<C> start(final TextCursor cursor,
+                    final C context) {
+        this.parsers = this.parser.parsers(cursor);
+        this.index = 0;
+
+        return this.alternative();
+    }
+
+    @Override
+    Parser<C> next(final ParserToken token,
+                   final TextCursor cursor,
+                   final C context) {
+        final Parser<C> next;
+
+        if (null != token) {
+            this.token = token;
+            next = null;
+        } else {
+            this.index++;
+            next = this.alternative();
+        }
+
+        return next;
+    }
+
+    /**
+     * Returns the current alternative or null when none remain.
+     */
+    private Parser<C> alternative() {
+        final int index = this.index;
+        final List<Parser<C>> parsers = this.parsers;
+
+        return index < parsers.size() ?
+                parsers.get(index) :
+                null;
+    }
+
+    private final AlternativesParser<C> parser;
+
+    private List<Parser<C>> parsers;
+
+    private int index;
+
+    @Override
+    public String toString() {
+        return this.parser.toString();
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import walkingkooka.text.cursor.TextCursor;
+import walkingkooka.text.cursor.TextCursorSavePoint;
+
+/**
+ * Parses an {@link AndEmptyTextCursorParser}, failing if the wrapped {@link Parser} did not consume all text.
+ */
+final class ExplicitStackParserFrameAndEmptyTextCursor<C extends ParserContext> extends ExplicitStackParserFrame<C> {
+
+    static <C extends ParserContext> ExplicitStackParserFrameAndEmptyTextCursor<C> with(final AndEmptyTextCursorParser<C> parser) {
+        return new ExplicitStackParserFrameAndEmptyTextCursor<>(parser);
+    }
+
+    private ExplicitStackParserFrameAndEmptyTextCursor(final AndEmptyTextCursorParser<C> parser) {
+        super();
+        this.parser = parser;
+    }
+
+    @Override
+    Parser<C> start(final TextCursor cursor,
+                    final C context) {
+        this.save = cursor.save();
+        return this.parser.parser;
+    }
+
+    @Override
+    Parser<C> next(final ParserToken token,
+                   final TextCursor cursor,
+                   final C context) {
+        ParserToken result = token;
+        if (null != result && !cursor.isEmpty()) {
+            this.save.restore();
+            result = null;
+        }
+        this.token = result;
+        return null;
+    }
+
+    private final AndEmptyTextCursorParser<C> parser;
+
+    private TextCursorSavePoint save;
+
+    @Override
+    public String toString() {
+        return this.parser.toString();
+    }
+}
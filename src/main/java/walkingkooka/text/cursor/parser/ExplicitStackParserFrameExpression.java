@@ -0,0 +1,332 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.text.cursor.parser;
+
+import walkingkooka.collect.list.Lists;
+import walkingkooka.text.cursor.TextCursor;
+import walkingkooka.text.cursor.TextCursorSavePoint;
+
+import java.util.List;
+
+/**
+ * Parses an {@link ExpressionParser}, returning each operand {@link Parser} to be parsed by the
+ * {@link ExplicitStackParser}. The precedence climbing that would otherwise call itself for the operand of each prefix
+ * and binary operator keeps an {@link ExplicitStackParserFrameExpressionLevel} for each call on a heap allocated stack.
+ * Operator and whitespace parsers are called directly.
+ */
+final class ExplicitStackParserFrameExpression<C extends ParserContext> extends ExplicitStackParserFrame<C> {
+
+    static <C extends ParserContext> ExplicitStackParserFrameExpression<C> with(final ExpressionParser<C> parser) {
+        return new ExplicitStackParserFrameExpression<>(parser);
+    }
+
+    private ExplicitStackParserFrameExpression(final ExpressionParser<C> parser) {
+        super();
+        this.parser = parser;
+    }
+
+    /**
+     * Tries the prefix operators of the top level, or its operand when none match.
+     */
+    private final static int PREFIX = 1;
+
+    /**
+     * The operand of the top level has been parsed into {@link #result}.
+     */
+    private final static int OPERAND = 2;
+
+    /**
+     * Tries the postfix operators and then the binary operators following the left operand of the top level.
+     */
+    private final static int POSTFIX = 3;
+
+    /**
+     * Tries the remaining binary operators of the top level.
+     */
+    private final static int BINARY = 4;
+
+    /**
+     * The top level has finished with {@link #result}.
+     */
+    private final static int DONE = 5;
+
+    @Override
+    Parser<C> start(final TextCursor cursor,
+                    final C context) {
+        Parser<C> next = null;
+
+        if (!cursor.isEmpty()) {
+            this.start = cursor.save();
+            this.levels = Lists.array();
+            this.levels.add(ExplicitStackParserFrameExpressionLevel.with(Integer.MIN_VALUE));
+
+            next = this.parse(
+                    PREFIX,
+                    cursor,
+                    context
+            );
+        }
+
+        return next;
+    }
+
+    @Override
+    Parser<C> next(final ParserToken token,
+                   final TextCursor cursor,
+                   final C context) {
+        this.result = token;
+
+        return this.parse(
+                OPERAND,
+                cursor,
+                context
+        );
+    }
+
+    /**
+     * Continues the precedence climbing from the given state, until an operand is required or the expression has
+     * been parsed.
+     */
+    private Parser<C> parse(final int initial,
+                            final TextCursor cursor,
+                            final C context) {
+        final ExpressionParser<C> parser = this.parser;
+        final List<ExplicitStackParserFrameExpressionLevel<C>> levels = this.levels;
+
+        int state = initial;
+
+        for (; ; ) {
+            final ExplicitStackParserFrameExpressionLevel<C> level = levels.get(levels.size() - 1);
+
+            switch (state) {
+                case PREFIX:
+                    state = OPERAND;
+
+                    while (level.prefixIndex < parser.prefix.size()) {
+                        final ExpressionParserOperator<C> prefix = parser.prefix.get(level.prefixIndex);
+                        final TextCursorSavePoint save = cursor.save();
+
+                        final ParserToken operator = prefix.parser.parseOrNull(cursor, context);
+                        if (null != operator) {
+                            final List<ParserToken> tokens = Lists.array();
+                            tokens.add(operator);
+                            this.whitespace(cursor, context, tokens);
+
+                            this.push(
+                                    level,
+                                    prefix,
+                                    true,
+                                    operator,
+                                    save,
+                                    tokens,
+                                    prefix.priority
+                            );
+                            state = PREFIX;
+                            break;
+                        }
+                        level.prefixIndex++;
+                    }
+
+                    if (OPERAND == state) {
+                        return parser.operand;
+                    }
+                    break;
+                case OPERAND:
+                    if (null == this.result) {
+                        state = DONE;
+                    } else {
+                        level.left = this.result;
+                        state = POSTFIX;
+                    }
+                    break;
+                case POSTFIX:
+                    level.save = cursor.save();
+
+                    final List<ParserToken> tokens = Lists.array();
+                    tokens.add(level.left);
+                    this.whitespace(cursor, context, tokens);
+
+                    level.tokens = tokens;
+                    level.size = tokens.size();
+                    level.binaryIndex = 0;
+                    state = BINARY;
+
+                    for (final ExpressionParserOperator<C> postfix : parser.postfix) {
+                        if (postfix.priority > level.floor) {
+                            final ParserToken operator = postfix.parser.parseOrNull(cursor, context);
+                            if (null != operator) {
+                                tokens.add(operator);
+                                level.left = postfix.create(tokens, operator);
+                                state = POSTFIX;
+                                break;
+                            }
+                        }
+                    }
+                    break;
+                case BINARY:
+                    state = DONE;
+
+                    while (level.binaryIndex < parser.binary.size()) {
+                        final ExpressionParserOperator<C> binary = parser.binary.get(level.binaryIndex);
+                        if (binary.priority > level.floor) {
+                            final TextCursorSavePoint save = cursor.save();
+
+                            final ParserToken operator = binary.parser.parseOrNull(cursor, context);
+                            if (null != operator) {
+                                level.tokens.add(operator);
+                                this.whitespace(cursor, context, level.tokens);
+
+                                this.push(
+                                        level,
+                                        binary,
+                                        false,
+                                        operator,
+                                        save,
+                                        level.tokens,
+                                        binary.rightFloor()
+                                );
+                                state = PREFIX;
+                                break;
+                            }
+                        }
+                        level.binaryIndex++;
+                    }
+
+                    if (DONE == state) {
+                        // no operator follows
+                        level.save.restore();
+                        this.result = level.left;
+                    }
+                    break;
+                case DONE:
+                    levels.remove(levels.size() - 1);
+                    if (levels.isEmpty()) {
+                        return this.finish();
+                    }
+                    state = this.operand(
+                            levels.get(levels.size() - 1)
+                    );
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown state " + state);
+            }
+        }
+    }
+
+    /**
+     * Records the operator waiting for its operand and pushes a new level to parse that operand.
+     */
+    private void push(final ExplicitStackParserFrameExpressionLevel<C> level,
+                      final ExpressionParserOperator<C> operator,
+                      final boolean prefix,
+                      final ParserToken operatorToken,
+                      final TextCursorSavePoint operatorSave,
+                      final List<ParserToken> tokens,
+                      final int floor) {
+        level.operator = operator;
+        level.prefix = prefix;
+        level.operatorToken = operatorToken;
+        level.operatorSave = operatorSave;
+        level.tokens = tokens;
+
+        this.levels.add(
+                ExplicitStackParserFrameExpressionLevel.with(floor)
+        );
+    }
+
+    /**
+     * Completes the operator waiting for the {@link #result} parsed by the level above, returning the next state. When
+     * the operand is missing the remaining operators are tried.
+     */
+    private int operand(final ExplicitStackParserFrameExpressionLevel<C> level) {
+        final ExpressionParserOperator<C> operator = level.operator;
+        final ParserToken result = this.result;
+        final List<ParserToken> tokens = level.tokens;
+        level.operator = null;
+
+        final int state;
+
+        if (level.prefix) {
+            if (null != result) {
+                tokens.add(result);
+                this.result = operator.create(tokens, level.operatorToken);
+                state = OPERAND;
+            } else {
+                level.operatorSave.restore();
+                level.prefixIndex++;
+                state = PREFIX;
+            }
+        } else {
+            if (null != result) {
+                tokens.add(result);
+                level.left = operator.create(tokens, level.operatorToken);
+                state = POSTFIX;
+            } else {
+                // operator without a right operand, try the remaining operators
+                tokens.subList(level.size, tokens.size()).clear();
+                level.operatorSave.restore();
+                level.binaryIndex++;
+                state = BINARY;
+            }
+        }
+
+        return state;
+    }
+
+    /**
+     * Stores the {@link #result}, restoring the cursor if the expression failed.
+     */
+    private Parser<C> finish() {
+        final ParserToken result = this.result;
+        if (null == result) {
+            this.start.restore();
+        }
+        this.token = result;
+        return null;
+    }
+
+    private void whitespace(final TextCursor cursor,
+                            final C context,
+                            final List<ParserToken> tokens) {
+        final Parser<C> whitespace = this.parser.whitespace;
+        if (null != whitespace) {
+            final ParserToken token = whitespace.parseOrNull(cursor, context);
+            if (null != token) {
+                tokens.add(token);
+            }
+        }
+    }
+
+    private final ExpressionParser<C> parser;
+
+    private TextCursorSavePoint start;
+
+    /**
+     * The levels of the precedence climbing, with the innermost last.
+     */
+    private List<ExplicitStackParserFrameExpressionLevel<C>> levels;
+
+    /**
+     * The operand or expression parsed by the top level.
+     */
+    private ParserToken result;
+
+    @Override
+    public String toString() {
+        return this.parser.toString();
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.text.cursor.parser;
+
+import walkingkooka.text.cursor.TextCursorSavePoint;
+
+import java.util.List;
+
+/**
+ * The state of one call of the precedence climbing within an {@link ExplicitStackParserFrameExpression}, which parses
+ * an operand followed by operators with a priority greater than the {@link #floor}. The operator waiting for the
+ * operand parsed by the level above is also recorded here.
+ */
+final class ExplicitStackParserFrameExpressionLevel<C extends ParserContext> {
+
+    static <C extends ParserContext> ExplicitStackParserFrameExpressionLevel<C> with(final int floor) {
+        return new ExplicitStackParserFrameExpressionLevel<>(floor);
+    }
+
+    private ExplicitStackParserFrameExpressionLevel(final int floor) {
+        super();
+        this.floor = floor;
+    }
+
+    /**
+     * Only operators with a priority greater than the floor are parsed.
+     */
+    final int floor;
+
+    /**
+     * The index of the next prefix operator to try.
+     */
+    int prefixIndex;
+
+    /**
+     * The index of the next binary operator to try.
+     */
+    int binaryIndex;
+
+    /**
+     * The operand with any operators parsed so far.
+     */
+    ParserToken left;
+
+    /**
+     * Saved before any whitespace following {@link #left}, restored when no operator follows.
+     */
+    TextCursorSavePoint save;
+
+    /**
+     * The prefix or binary operator waiting for its operand, which is null when none is waiting.
+     */
+    ExpressionParserOperator<C> operator;
+
+    /**
+     * True when {@link #operator} is a prefix operator.
+     */
+    boolean prefix;
+
+    /**
+     * The token matched by {@link #operator}.
+     */
+    ParserToken operatorToken;
+
+    /**
+     * Saved before {@link #operator}, restored when its operand is missing.
+     */
+    TextCursorSavePoint operatorSave;
+
+    /**
+     * The tokens of the operator being parsed, including the left operand of a binary operator.
+     */
+    List<ParserToken> tokens;
+
+    /**
+     * The number of {@link #tokens} before a binary operator, so a binary operator without an operand may be removed.
+     */
+    int size;
+
+    @Override
+    public String toString() {
+        return this.floor + " " + this.left + " " + this.operator;
+    }
+}
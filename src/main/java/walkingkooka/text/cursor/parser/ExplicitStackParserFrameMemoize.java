@@ -0,0 +1,95 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import walkingkooka.text.cursor.TextCursor;
+
+/**
+ * Parses a {@link MemoizingParser}, using the {@link MemoizingParserTable} of a {@link MemoizingParserTextCursor}.
+ * An {@link ExplicitStackParser} wraps the cursor in a {@link MemoizingParserTextCursor} before a memoized parser is
+ * parsed.
+ */
+final class ExplicitStackParserFrameMemoize<C extends ParserContext> extends ExplicitStackParserFrame<C> {
+
+    static <C extends ParserContext> ExplicitStackParserFrameMemoize<C> with(final MemoizingParser<C> parser) {
+        return new ExplicitStackParserFrameMemoize<>(parser);
+    }
+
+    private ExplicitStackParserFrameMemoize(final MemoizingParser<C> parser) {
+        super();
+        this.parser = parser;
+    }
+
+    @Override
+    Parser<C> start(final TextCursor cursor,
+                    final C context) {
+        Parser<C> next = this.parser.parser;
+
+        final MemoizingParserTextCursor memoizing = (MemoizingParserTextCursor) cursor;
+        final MemoizingParserTable table = memoizing.table();
+
+        this.id = table.id(this.parser);
+        this.offset = memoizing.offset();
+
+        final int slot = table.get(this.id, this.offset);
+        if (-1 != slot) {
+            final ParserToken token = table.token(slot);
+            if (null != token) {
+                memoizing.setOffset(table.end(slot));
+            }
+            this.token = token;
+            next = null;
+        }
+
+        return next;
+    }
+
+    @Override
+    Parser<C> next(final ParserToken token,
+                   final TextCursor cursor,
+                   final C context) {
+        final MemoizingParserTextCursor memoizing = (MemoizingParserTextCursor) cursor;
+        if (0 == memoizing.leftRecursions) {
+            memoizing.table().put(
+                    this.id,
+                    this.offset,
+                    token,
+                    memoizing.offset()
+            );
+        }
+
+        this.token = token;
+        return null;
+    }
+
+    @Override
+    boolean memoizes() {
+        return true;
+    }
+
+    private final MemoizingParser<C> parser;
+
+    private int id;
+
+    private int offset;
+
+    @Override
+    public String toString() {
+        return this.parser.toString();
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import walkingkooka.collect.list.Lists;
+import walkingkooka.text.cursor.TextCursor;
+import walkingkooka.text.cursor.TextCursorSavePoint;
+
+import java.util.List;
+
+/**
+ * Parses a {@link RepeatingParser}, parsing the repeated {@link Parser} until it fails.
+ */
+final class ExplicitStackParserFrameRepeating<C extends ParserContext> extends ExplicitStackParserFrame<C> {
+
+    static <C extends ParserContext> ExplicitStackParserFrameRepeating<C> with(final RepeatingParser<C> parser) {
+        return new ExplicitStackParserFrameRepeating<>(parser);
+    }
+
+    private ExplicitStackParserFrameRepeating(final RepeatingParser<C> parser) {
+        super();
+        this.parser = parser;
+    }
+
+    @Override
+    Parser<C> start(final TextCursor cursor,
+                    final C context) {
+        Parser<C> next = null;
+
+        if (!cursor.isEmpty()) {
+            this.start = cursor.save();
+            this.text = IndexedTextCursors.text(cursor);
+            this.begin = null != this.text ? IndexedTextCursors.offset(cursor) : 0;
+            this.tokens = Lists.array();
+
+            next = this.parser.parser;
+        }
+
+        return next;
+    }
+
+    @Override
+    Parser<C> next(final ParserToken token,
+                   final TextCursor cursor,
+                   final C context) {
+        Parser<C> next = null;
+
+        if (null != token) {
+            this.tokens.add(token);
+            next = this.parser.parser;
+        } else {
+            if (this.tokens.isEmpty()) {
+                this.start.restore();
+            } else {
+                this.token = RepeatedParserToken.with(
+                        this.tokens,
+                        ParserTokenText.textBetween(this.text, this.begin, cursor, this.start)
+                );
+            }
+        }
+
+        return next;
+    }
+
+    private final RepeatingParser<C> parser;
+
+    private TextCursorSavePoint start;
+
+    private CharSequence text;
+
+    private int begin;
+
+    private List<ParserToken> tokens;
+
+    @Override
+    public String toString() {
+        return this.parser.toString();
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.text.cursor.parser;
+
+import walkingkooka.text.cursor.TextCursor;
+import walkingkooka.text.cursor.TextCursorSavePoint;
+
+/**
+ * Parses a {@link RuleParser}, parsing its definition and growing the result of a left recursive rule in the same
+ * way as {@link RuleParser#parseOrNull(TextCursor, ParserContext)}. The head recording the rule at its offset is
+ * removed when the frame finishes or is aborted. An {@link ExplicitStackParser} wraps the cursor in a
+ * {@link MemoizingParserTextCursor}, which holds the heads, before a rule is parsed.
+ */
+final class ExplicitStackParserFrameRule<C extends ParserContext> extends ExplicitStackParserFrame<C> {
+
+    static <C extends ParserContext> ExplicitStackParserFrameRule<C> with(final RuleParser<C> parser) {
+        return new ExplicitStackParserFrameRule<>(parser);
+    }
+
+    private ExplicitStackParserFrameRule(final RuleParser<C> parser) {
+        super();
+        this.parser = parser;
+    }
+
+    @Override
+    Parser<C> start(final TextCursor cursor,
+                    final C context) {
+        final Parser<C> definition = this.parser.parserOrFail();
+        final MemoizingParserTextCursor memoizing = (MemoizingParserTextCursor) cursor;
+
+        final Long key = MemoizingParserTable.key(
+                memoizing.table().id(this.parser),
+                memoizing.offset()
+        );
+        final RuleParserHead head = memoizing.heads.get(key);
+
+        Parser<C> next = null;
+
+        if (null != head) {
+            // called again at the same offset without consuming anything
+            if (false == head.leftRecursion) {
+                head.leftRecursion = true;
+                memoizing.leftRecursions++;
+            }
+            final ParserToken token = head.token;
+            if (null != token) {
+                memoizing.setOffset(head.end);
+            }
+            this.token = token;
+        } else {
+            final RuleParserHead newHead = RuleParserHead.empty();
+            memoizing.heads.put(key, newHead);
+
+            this.cursor = memoizing;
+            this.key = key;
+            this.head = newHead;
+            this.start = memoizing.save();
+
+            next = definition;
+        }
+
+        return next;
+    }
+
+    @Override
+    Parser<C> next(final ParserToken token,
+                   final TextCursor cursor,
+                   final C context) {
+        final RuleParserHead head = this.head;
+        final int offset = this.cursor.offset();
+
+        Parser<C> next = null;
+
+        if (head.leftRecursion) {
+            if (null == this.token) {
+                // the seed
+                if (null != token) {
+                    next = this.grow(token, offset);
+                }
+            } else {
+                if (null != token && offset > head.end) {
+                    next = this.grow(token, offset);
+                } else {
+                    this.cursor.setOffset(head.end);
+                }
+            }
+        } else {
+            this.token = token;
+        }
+
+        if (null == next) {
+            this.abort();
+        }
+
+        return next;
+    }
+
+    /**
+     * Records the longer result and parses the definition again from the start.
+     */
+    private Parser<C> grow(final ParserToken token,
+                           final int end) {
+        final RuleParserHead head = this.head;
+        head.token = token;
+        head.end = end;
+
+        this.token = token;
+        this.start.restore();
+
+        return this.parser.parserOrFail();
+    }
+
+    /**
+     * Removes the head, also re-enabling memoizing if this rule was left recursive.
+     */
+    @Override
+    void abort() {
+        final RuleParserHead head = this.head;
+        if (null != head) {
+            if (head.leftRecursion) {
+                this.cursor.leftRecursions--;
+            }
+            this.cursor.heads.remove(this.key);
+            this.head = null;
+        }
+    }
+
+    @Override
+    boolean memoizes() {
+        return true;
+    }
+
+    private final RuleParser<C> parser;
+
+    private MemoizingParserTextCursor cursor;
+
+    private Long key;
+
+    /**
+     * The head for this rule at its offset, which is null when the rule was parsed without its definition or once the
+     * frame has finished.
+     */
+    private RuleParserHead head;
+
+    private TextCursorSavePoint start;
+
+    @Override
+    public String toString() {
+        return this.parser.toString();
+    }
+}
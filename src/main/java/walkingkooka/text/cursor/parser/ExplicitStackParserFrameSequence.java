@@ -0,0 +1,112 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import walkingkooka.collect.list.Lists;
+import walkingkooka.text.cursor.TextCursor;
+import walkingkooka.text.cursor.TextCursorSavePoint;
+
+import java.util.List;
+
+/**
+ * Parses a {@link SequenceParser}, parsing each component in order.
+ */
+final class ExplicitStackParserFrameSequence<C extends ParserContext> extends ExplicitStackParserFrame<C> {
+
+    static <C extends ParserContext> ExplicitStackParserFrameSequence<C> with(final SequenceParser<C> parser) {
+        return new ExplicitStackParserFrameSequence<>(parser);
+    }
+
+    private ExplicitStackParserFrameSequence(final SequenceParser<C> parser) {
+        super();
+        this.parser = parser;
+    }
+
+    @Override
+    Parser<C> start(final TextCursor cursor,
+                    final C context) {
+        Parser<C> next = null;
+
+        if (!cursor.isEmpty()) {
+            this.start = cursor.save();
+            this.text = IndexedTextCursors.text(cursor);
+            this.begin = null != this.text ? IndexedTextCursors.offset(cursor) : 0;
+            this.tokens = Lists.array();
+            this.index = 0;
+
+            next = this.parser.components.get(0).parser;
+        }
+
+        return next;
+    }
+
+    @Override
+    Parser<C> next(final ParserToken token,
+                   final TextCursor cursor,
+                   final C context) {
+        final List<SequenceParserComponent<C>> components = this.parser.components;
+        final List<ParserToken> tokens = this.tokens;
+
+        Parser<C> next = null;
+
+        if (null != token) {
+            tokens.add(token);
+        } else {
+            if (components.get(this.index).abortIfMissing()) {
+                tokens.clear();
+                this.index = components.size();
+            }
+        }
+
+        this.index++;
+        if (this.index < components.size()) {
+            next = components.get(this.index).parser;
+        } else {
+            if (tokens.isEmpty()) {
+                this.start.restore();
+            } else {
+                this.token = SequenceParserToken.with(
+                        tokens,
+                        ParserTokenText.textBetween(this.text, this.begin, cursor, this.start)
+                );
+            }
+        }
+
+        return next;
+    }
+
+    private final SequenceParser<C> parser;
+
+    private TextCursorSavePoint start;
+
+    private CharSequence text;
+
+    private int begin;
+
+    private List<ParserToken> tokens;
+
+    /**
+     * The index of the component being parsed.
+     */
+    private int index;
+
+    @Override
+    public String toString() {
+        return this.parser.toString();
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import walkingkooka.text.cursor.TextCursor;
+
+/**
+ * Parses a {@link TransformingParser}, transforming a successful result.
+ */
+final class ExplicitStackParserFrameTransform<C extends ParserContext> extends ExplicitStackParserFrame<C> {
+
+    static <C extends ParserContext> ExplicitStackParserFrameTransform<C> with(final TransformingParser<C> parser) {
+        return new ExplicitStackParserFrameTransform<>(parser);
+    }
+
+    private ExplicitStackParserFrameTransform(final TransformingParser<C> parser) {
+        super();
+        this.parser = parser;
+    }
+
+    @Override
+    Parser<C> start(final TextCursor cursor,
+                    final C context) {
+        return this.parser.parser;
+    }
+
+    @Override
+    Parser<C> next(final ParserToken token,
+                   final TextCursor cursor,
+                   final C context) {
+        this.token = null != token ?
+                this.parser.transformer.apply(token, context) :
+                null;
+        return null;
+    }
+
+    private final TransformingParser<C> parser;
+
+    @Override
+    public String toString() {
+        return this.parser.toString();
+    }
+}
@@ -0,0 +1,328 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import walkingkooka.collect.list.Lists;
+import walkingkooka.text.cursor.TextCursor;
+import walkingkooka.text.cursor.TextCursorSavePoint;
+import walkingkooka.visit.Visiting;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A {@link Parser} that parses operands separated by operators, creating the tree of operator tokens while parsing
+ * using precedence climbing. An operand may be preceded by prefix operators and followed by postfix operators, binary
+ * operators are grouped by their priority and associativity. When an operand is not followed by any operator the
+ * operand token is returned.
+ * <br>
+ * Operators with a higher priority bind more tightly, for example if <code>*</code> has a higher priority than
+ * <code>+</code>, then <code>1+2*3</code> is parsed as <code>1+(2*3)</code>. An operator that is not followed by an
+ * operand is not consumed.
+ */
+final class ExpressionParser<C extends ParserContext> extends NonEmptyParser<C> {
+
+    static <C extends ParserContext> ExpressionParser<C> with(final Parser<C> operand,
+                                                              final ExpressionParserOperatorTable<C> operators) {
+        Objects.requireNonNull(operand, "operand");
+        Objects.requireNonNull(operators, "operators");
+
+        return new ExpressionParser<>(
+                operand,
+                Lists.immutable(operators.prefix),
+                Lists.immutable(operators.postfix),
+                Lists.immutable(operators.binary),
+                operators.whitespace,
+                "Expression(" + operand + ")"
+        );
+    }
+
+    private ExpressionParser(final Parser<C> operand,
+                             final List<ExpressionParserOperator<C>> prefix,
+                             final List<ExpressionParserOperator<C>> postfix,
+                             final List<ExpressionParserOperator<C>> binary,
+                             final Parser<C> whitespace,
+                             final String toString) {
+        super(toString);
+
+        this.operand = operand;
+        this.prefix = prefix;
+        this.postfix = postfix;
+        this.binary = binary;
+        this.whitespace = whitespace;
+    }
+
+    @Override
+    ParserToken tryParse(final TextCursor cursor,
+                         final C context,
+                         final TextCursorSavePoint start) {
+        return this.expression(
+                cursor,
+                context,
+                Integer.MIN_VALUE
+        );
+    }
+
+    /**
+     * Parses an operand followed by any postfix and binary operators with a priority greater than the floor.
+     */
+    private ParserToken expression(final TextCursor cursor,
+                                   final C context,
+                                   final int floor) {
+        ParserToken left = this.prefixOrOperand(cursor, context);
+
+        if (null != left) {
+            for (; ; ) {
+                final TextCursorSavePoint save = cursor.save();
+
+                final List<ParserToken> tokens = Lists.array();
+                tokens.add(left);
+                this.whitespace(cursor, context, tokens);
+
+                final ParserToken token = this.postfixOrBinary(
+                        cursor,
+                        context,
+                        floor,
+                        tokens
+                );
+                if (null == token) {
+                    save.restore();
+                    break;
+                }
+                left = token;
+            }
+        }
+
+        return left;
+    }
+
+    /**
+     * Tries each prefix operator, and if none match with an operand, the operand {@link Parser}.
+     */
+    private ParserToken prefixOrOperand(final TextCursor cursor,
+                                        final C context) {
+        for (final ExpressionParserOperator<C> prefix : this.prefix) {
+            final TextCursorSavePoint save = cursor.save();
+
+            final ParserToken operator = prefix.parser.parseOrNull(cursor, context);
+            if (null != operator) {
+                final List<ParserToken> tokens = Lists.array();
+                tokens.add(operator);
+                this.whitespace(cursor, context, tokens);
+
+                final ParserToken operand = this.expression(
+                        cursor,
+                        context,
+                        prefix.priority
+                );
+                if (null != operand) {
+                    tokens.add(operand);
+                    return prefix.create(tokens, operator);
+                }
+                save.restore();
+            }
+        }
+
+        return this.operand.parseOrNull(cursor, context);
+    }
+
+    /**
+     * Tries each postfix operator and then each binary operator with its right operand, adding the matched tokens
+     * to the given tokens which already hold the left operand.
+     */
+    private ParserToken postfixOrBinary(final TextCursor cursor,
+                                        final C context,
+                                        final int floor,
+                                        final List<ParserToken> tokens) {
+        for (final ExpressionParserOperator<C> postfix : this.postfix) {
+            if (postfix.priority > floor) {
+                final ParserToken operator = postfix.parser.parseOrNull(cursor, context);
+                if (null != operator) {
+                    tokens.add(operator);
+                    return postfix.create(tokens, operator);
+                }
+            }
+        }
+
+        final int size = tokens.size();
+
+        for (final ExpressionParserOperator<C> binary : this.binary) {
+            if (binary.priority > floor) {
+                final TextCursorSavePoint save = cursor.save();
+
+                final ParserToken operator = binary.parser.parseOrNull(cursor, context);
+                if (null != operator) {
+                    tokens.add(operator);
+                    this.whitespace(cursor, context, tokens);
+
+                    final ParserToken right = this.expression(
+                            cursor,
+                            context,
+                            binary.rightFloor()
+                    );
+                    if (null != right) {
+                        tokens.add(right);
+                        return binary.create(tokens, operator);
+                    }
+
+                    // operator without a right operand, try the remaining operators
+                    tokens.subList(size, tokens.size()).clear();
+                    save.restore();
+                }
+            }
+        }
+
+        return null;
+    }
+
+    private void whitespace(final TextCursor cursor,
+                            final C context,
+                            final List<ParserToken> tokens) {
+        final Parser<C> whitespace = this.whitespace;
+        if (null != whitespace) {
+            final ParserToken token = whitespace.parseOrNull(cursor, context);
+            if (null != token) {
+                tokens.add(token);
+            }
+        }
+    }
+
+    final Parser<C> operand;
+
+    final List<ExpressionParserOperator<C>> prefix;
+
+    final List<ExpressionParserOperator<C>> postfix;
+
+    final List<ExpressionParserOperator<C>> binary;
+
+    /**
+     * When null whitespace is not skipped.
+     */
+    final Parser<C> whitespace;
+
+    /**
+     * An expression starts with a prefix operator or an operand.
+     */
+    @Override
+    boolean mayStartWith(final char c) {
+        boolean may = mayStartWith(this.operand, c);
+
+        if (!may) {
+            for (final ExpressionParserOperator<C> prefix : this.prefix) {
+                if (mayStartWith(prefix.parser, c)) {
+                    may = true;
+                    break;
+                }
+            }
+        }
+
+        return may;
+    }
+
+    // ParserVisitor....................................................................................................
+
+    @Override
+    void accept(final ParserVisitor visitor) {
+        final List<Parser<C>> operators = this.operators();
+
+        if (Visiting.CONTINUE == visitor.startVisitExpression(this, this.operand, operators)) {
+            visitor.accept(this.operand);
+            visitor.acceptParsers(operators);
+        }
+        visitor.endVisitExpression(this, this.operand, operators);
+    }
+
+    /**
+     * Returns the prefix, postfix and binary operator parsers followed by any whitespace parser.
+     */
+    private List<Parser<C>> operators() {
+        final List<Parser<C>> operators = Lists.array();
+
+        for (final List<ExpressionParserOperator<C>> list : Lists.of(this.prefix, this.postfix, this.binary)) {
+            for (final ExpressionParserOperator<C> operator : list) {
+                operators.add(operator.parser);
+            }
+        }
+        if (null != this.whitespace) {
+            operators.add(this.whitespace);
+        }
+
+        return operators;
+    }
+
+    // Parser2..........................................................................................................
+
+    @Override
+    Parser<C> compile(final ParserCompiler compiler) {
+        final Parser<C> operand = compiler.compileParser(this.operand);
+        final List<ExpressionParserOperator<C>> prefix = compile(this.prefix, compiler);
+        final List<ExpressionParserOperator<C>> postfix = compile(this.postfix, compiler);
+        final List<ExpressionParserOperator<C>> binary = compile(this.binary, compiler);
+        final Parser<C> whitespace = null != this.whitespace ?
+                compiler.compileParser(this.whitespace) :
+                null;
+
+        return operand == this.operand &&
+                prefix == this.prefix &&
+                postfix == this.postfix &&
+                binary == this.binary &&
+                whitespace == this.whitespace ?
+                this :
+                new ExpressionParser<>(
+                        operand,
+                        prefix,
+                        postfix,
+                        binary,
+                        whitespace,
+                        this.toString
+                );
+    }
+
+    /**
+     * Compiles the {@link Parser} of each operator, returning the given {@link List} if none were changed.
+     */
+    private static <C extends ParserContext> List<ExpressionParserOperator<C>> compile(final List<ExpressionParserOperator<C>> operators,
+                                                                                        final ParserCompiler compiler) {
+        final List<ExpressionParserOperator<C>> compiled = Lists.array();
+        boolean changed = false;
+
+        for (final ExpressionParserOperator<C> operator : operators) {
+            final ExpressionParserOperator<C> compiledOperator = operator.setParser(
+                    compiler.compileParser(operator.parser)
+            );
+            changed |= operator != compiledOperator;
+            compiled.add(compiledOperator);
+        }
+
+        return changed ?
+                compiled :
+                operators;
+    }
+
+    @Override
+    ExpressionParser<C> replaceToString(final String toString) {
+        return new ExpressionParser<>(
+                this.operand,
+                this.prefix,
+                this.postfix,
+                this.binary,
+                this.whitespace,
+                toString
+        );
+    }
+}
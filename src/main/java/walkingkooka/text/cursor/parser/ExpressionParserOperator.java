@@ -0,0 +1,112 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A single operator within a {@link ExpressionParserOperatorTable}.
+ */
+final class ExpressionParserOperator<C extends ParserContext> {
+
+    static <C extends ParserContext> ExpressionParserOperator<C> with(final Parser<C> parser,
+                                                                      final int priority,
+                                                                      final boolean rightAssociative,
+                                                                      final ExpressionParserOperatorFactory factory) {
+        Objects.requireNonNull(parser, "parser");
+        if (Integer.MIN_VALUE == priority) {
+            throw new IllegalArgumentException("Priority " + priority + " must be greater than " + Integer.MIN_VALUE);
+        }
+        Objects.requireNonNull(factory, "factory");
+
+        return new ExpressionParserOperator<>(
+                parser,
+                priority,
+                rightAssociative,
+                factory
+        );
+    }
+
+    private ExpressionParserOperator(final Parser<C> parser,
+                                     final int priority,
+                                     final boolean rightAssociative,
+                                     final ExpressionParserOperatorFactory factory) {
+        this.parser = parser;
+        this.priority = priority;
+        this.rightAssociative = rightAssociative;
+        this.factory = factory;
+    }
+
+    /**
+     * Returns an operator with the given {@link Parser} and all other properties unchanged.
+     */
+    ExpressionParserOperator<C> setParser(final Parser<C> parser) {
+        return this.parser == parser ?
+                this :
+                new ExpressionParserOperator<>(
+                        parser,
+                        this.priority,
+                        this.rightAssociative,
+                        this.factory
+                );
+    }
+
+    /**
+     * Matches the operator symbol.
+     */
+    final Parser<C> parser;
+
+    /**
+     * Operators with a higher priority bind more tightly.
+     */
+    final int priority;
+
+    /**
+     * Only used by binary operators, true if a chain of this operator groups from the right.
+     */
+    final boolean rightAssociative;
+
+    /**
+     * The lowest priority of operators that may appear in the right operand of this binary operator.
+     * Operators with the same priority are excluded unless this is right associative.
+     */
+    int rightFloor() {
+        return this.rightAssociative ?
+                this.priority - 1 :
+                this.priority;
+    }
+
+    ParserToken create(final List<ParserToken> tokens,
+                       final ParserToken operator) {
+        return this.factory.create(
+                tokens,
+                ParserToken.text(tokens),
+                operator
+        );
+    }
+
+    private final ExpressionParserOperatorFactory factory;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return this.parser.toString();
+    }
+}
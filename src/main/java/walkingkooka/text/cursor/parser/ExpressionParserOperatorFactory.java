@@ -0,0 +1,35 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import java.util.List;
+
+/**
+ * Creates the {@link ParserToken} for an operator and its operands as they are parsed by an expression
+ * {@link Parser}. The tokens include any whitespace, a binary operator receives the left operand, the operator and the
+ * right operand while a prefix or postfix operator receives the operator and its operand in text order. This has the
+ * same signature as {@link BinaryOperatorTransformer#binaryOperand(List, String, ParserToken)}, so a method reference
+ * to an existing {@link BinaryOperatorTransformer} may be used.
+ */
+public interface ExpressionParserOperatorFactory {
+
+    /**
+     * Factory that creates a {@link ParserToken} holding the operator and its operands.
+     */
+    ParserToken create(final List<ParserToken> tokens, final String text, final ParserToken operator);
+}
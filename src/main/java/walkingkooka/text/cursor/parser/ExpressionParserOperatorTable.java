@@ -0,0 +1,116 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import walkingkooka.collect.list.Lists;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Holds the prefix, postfix and binary operators of an expression {@link Parser} created by
+ * {@link Parsers#expression(Parser, ExpressionParserOperatorTable)}. Operators with a higher priority bind more tightly,
+ * and operators with the same kind are tried in the order they were added. The {@link Parser} takes a copy of the
+ * operators, so later changes to this table do not change a {@link Parser} that was already created.
+ */
+public final class ExpressionParserOperatorTable<C extends ParserContext> {
+
+    static <C extends ParserContext> ExpressionParserOperatorTable<C> empty() {
+        return new ExpressionParserOperatorTable<>();
+    }
+
+    private ExpressionParserOperatorTable() {
+        super();
+    }
+
+    /**
+     * Adds an operator that appears before its operand, such as a unary minus.
+     */
+    public ExpressionParserOperatorTable<C> prefix(final Parser<C> operator,
+                                                   final int priority,
+                                                   final ExpressionParserOperatorFactory factory) {
+        this.prefix.add(ExpressionParserOperator.with(operator, priority, false, factory));
+        return this;
+    }
+
+    /**
+     * Adds an operator that appears after its operand, such as a percent sign.
+     */
+    public ExpressionParserOperatorTable<C> postfix(final Parser<C> operator,
+                                                    final int priority,
+                                                    final ExpressionParserOperatorFactory factory) {
+        this.postfix.add(ExpressionParserOperator.with(operator, priority, false, factory));
+        return this;
+    }
+
+    /**
+     * Adds a binary operator where a chain groups from the left, such as <code>1-2-3</code> which becomes
+     * <code>(1-2)-3</code>.
+     */
+    public ExpressionParserOperatorTable<C> binaryLeft(final Parser<C> operator,
+                                                       final int priority,
+                                                       final ExpressionParserOperatorFactory factory) {
+        this.binary.add(ExpressionParserOperator.with(operator, priority, false, factory));
+        return this;
+    }
+
+    /**
+     * Adds a binary operator where a chain groups from the right, such as <code>2^3^4</code> which becomes
+     * <code>2^(3^4)</code>.
+     */
+    public ExpressionParserOperatorTable<C> binaryRight(final Parser<C> operator,
+                                                        final int priority,
+                                                        final ExpressionParserOperatorFactory factory) {
+        this.binary.add(ExpressionParserOperator.with(operator, priority, true, factory));
+        return this;
+    }
+
+    /**
+     * Sets an optional {@link Parser} for whitespace that may appear around operators. Any whitespace tokens are
+     * included in the tokens given to the {@link ExpressionParserOperatorFactory}.
+     */
+    public ExpressionParserOperatorTable<C> whitespace(final Parser<C> whitespace) {
+        this.whitespace = Objects.requireNonNull(whitespace, "whitespace");
+        return this;
+    }
+
+    final List<ExpressionParserOperator<C>> prefix = Lists.array();
+
+    final List<ExpressionParserOperator<C>> postfix = Lists.array();
+
+    final List<ExpressionParserOperator<C>> binary = Lists.array();
+
+    /**
+     * When null whitespace is not skipped.
+     */
+    Parser<C> whitespace;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return "prefix=" + join(this.prefix) + " postfix=" + join(this.postfix) + " binary=" + join(this.binary);
+    }
+
+    private static String join(final List<?> operators) {
+        return operators.stream()
+                .map(Object::toString)
+                .collect(Collectors.joining(", ", "(", ")"));
+    }
+}
@@ -22,6 +22,11 @@ import walkingkooka.visit.Visiting;
 
 public class FakeParserTokenVisitor extends ParserTokenVisitor implements Fake {
 
+    @Override
+    protected void visit(final double value) {
+        throw new UnsupportedOperationException();
+    }
+
     @Override
     protected void visit(final LocalDateParserToken token) {
         throw new UnsupportedOperationException();
@@ -42,6 +47,11 @@ public class FakeParserTokenVisitor extends ParserTokenVisitor implements Fake {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    protected void visit(final long value) {
+        throw new UnsupportedOperationException();
+    }
+
     @Override
     protected void visit(final OffsetDateTimeParserToken token) {
         throw new UnsupportedOperationException();
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.text.cursor.parser;
+
+import walkingkooka.text.cursor.TextCursor;
+import walkingkooka.text.cursor.TextCursorException;
+import walkingkooka.text.cursor.TextCursorLineInfo;
+import walkingkooka.text.cursor.TextCursorSavePoint;
+import walkingkooka.text.cursor.TextCursors;
+
+import java.util.Objects;
+
+/**
+ * A {@link TextCursor} that holds its {@link CharSequence} and the offset of the current character, allowing parsers
+ * to scan the text by index and move to an offset without walking the cursor one character at a time.
+ * <br>
+ * The {@link TextCursorLineInfo} is only required when reporting a failure, so it is taken from a
+ * {@link TextCursors#charSequence(CharSequence)} over the same text that is moved to the offset when requested.
+ */
+final class IndexedTextCursor implements TextCursor {
+
+    static IndexedTextCursor with(final CharSequence text) {
+        Objects.requireNonNull(text, "text");
+
+        return new IndexedTextCursor(text);
+    }
+
+    private IndexedTextCursor(final CharSequence text) {
+        this.text = text;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.offset >= this.text.length();
+    }
+
+    @Override
+    public char at() {
+        if (this.isEmpty()) {
+            throw this.endOfText();
+        }
+        return this.text.charAt(this.offset);
+    }
+
+    @Override
+    public TextCursor next() {
+        if (this.isEmpty()) {
+            throw this.endOfText();
+        }
+        this.offset++;
+        return this;
+    }
+
+    private TextCursorException endOfText() {
+        return new TextCursorException("End of text at " + this.offset);
+    }
+
+    @Override
+    public TextCursor end() {
+        this.offset = this.text.length();
+        return this;
+    }
+
+    @Override
+    public TextCursorSavePoint save() {
+        return IndexedTextCursorSavePoint.with(this);
+    }
+
+    @Override
+    public TextCursorLineInfo lineInfo() {
+        return this.lineInfo(this.offset);
+    }
+
+    /**
+     * Moves the cursor to the given offset, which may be before or after the current offset.
+     */
+    void setOffset(final int offset) {
+        final int length = this.text.length();
+        if (offset < 0 || offset > length) {
+            throw new IllegalArgumentException("Invalid offset " + offset + " not between 0 and " + length);
+        }
+        this.offset = offset;
+    }
+
+    /**
+     * Returns the {@link TextCursorLineInfo} for the given offset, moving the line cursor forward, or starting again if
+     * the offset is before it.
+     */
+    TextCursorLineInfo lineInfo(final int offset) {
+        TextCursor lines = this.lines;
+        if (null == lines || this.linesOffset > offset) {
+            lines = TextCursors.charSequence(this.text);
+            this.lines = lines;
+            this.linesOffset = 0;
+        }
+
+        while (this.linesOffset < offset) {
+            lines.next();
+            this.linesOffset++;
+        }
+
+        return lines.lineInfo();
+    }
+
+    /**
+     * The entire text, including any already consumed characters.
+     */
+    final CharSequence text;
+
+    /**
+     * The offset of the current character within {@link #text}.
+     */
+    int offset;
+
+    /**
+     * Lazily created {@link TextCursor} used to compute {@link TextCursorLineInfo}.
+     */
+    private TextCursor lines;
+
+    private int linesOffset;
+
+    @Override
+    public String toString() {
+        final CharSequence text = this.text;
+        final int offset = this.offset;
+
+        return "at " + offset + " " +
+                text.subSequence(Math.max(0, offset - 7), offset) +
+                "[" +
+                (offset < text.length() ? text.subSequence(offset, offset + 1) : "") +
+                "]" +
+                text.subSequence(Math.min(offset + 1, text.length()), Math.min(offset + 8, text.length()));
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.text.cursor.parser;
+
+import walkingkooka.text.cursor.TextCursorLineInfo;
+import walkingkooka.text.cursor.TextCursorSavePoint;
+
+/**
+ * A {@link TextCursorSavePoint} that records the offset of an {@link IndexedTextCursor}.
+ */
+final class IndexedTextCursorSavePoint implements TextCursorSavePoint {
+
+    static IndexedTextCursorSavePoint with(final IndexedTextCursor cursor) {
+        return new IndexedTextCursorSavePoint(cursor, cursor.offset);
+    }
+
+    private IndexedTextCursorSavePoint(final IndexedTextCursor cursor,
+                                       final int offset) {
+        this.cursor = cursor;
+        this.offset = offset;
+    }
+
+    @Override
+    public void restore() {
+        this.cursor.offset = this.offset;
+    }
+
+    @Override
+    public CharSequence textBetween() {
+        final int offset = this.offset;
+        final int current = this.cursor.offset;
+
+        return this.cursor.text.subSequence(
+                Math.min(offset, current),
+                Math.max(offset, current)
+        );
+    }
+
+    @Override
+    public TextCursorLineInfo lineInfo() {
+        return this.cursor.lineInfo(this.offset);
+    }
+
+    private final IndexedTextCursor cursor;
+
+    private final int offset;
+
+    @Override
+    public String toString() {
+        return "at " + this.offset;
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.text.cursor.parser;
+
+import walkingkooka.text.cursor.TextCursor;
+
+/**
+ * Helpers that allow parsers to scan the text of an {@link IndexedTextCursor} by index, only moving the
+ * {@link TextCursor} once at the end, rather than calling {@link TextCursor#at()} and {@link TextCursor#next()} for
+ * every character.
+ */
+final class IndexedTextCursors {
+
+    /**
+     * Returns the {@link CharSequence} backing the given {@link TextCursor} or null if it is not available.
+     */
+    static CharSequence text(final TextCursor cursor) {
+        final IndexedTextCursor indexed = indexed(cursor);
+        return null != indexed ?
+                indexed.text :
+                null;
+    }
+
+    /**
+     * Returns the offset of the current character, and should only be called if {@link #text(TextCursor)} is not null.
+     */
+    static int offset(final TextCursor cursor) {
+        return indexed(cursor).offset;
+    }
+
+    /**
+     * Moves the {@link TextCursor} to the given offset, and should only be called if {@link #text(TextCursor)} is not null.
+     */
+    static void setOffset(final TextCursor cursor,
+                          final int offset) {
+        indexed(cursor).setOffset(offset);
+    }
+
+    private static IndexedTextCursor indexed(final TextCursor cursor) {
+        final TextCursor unwrapped = cursor instanceof MemoizingParserTextCursor ?
+                ((MemoizingParserTextCursor) cursor).cursor :
+                cursor;
+        return unwrapped instanceof IndexedTextCursor ?
+                (IndexedTextCursor) unwrapped :
+                null;
+    }
+
+    /**
+     * Stop creation
+     */
+    private IndexedTextCursors() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -20,7 +20,6 @@ import walkingkooka.text.CharSequences;
 import walkingkooka.text.cursor.TextCursor;
 import walkingkooka.text.cursor.TextCursorSavePoint;
 
-import java.util.Optional;
 
 /**
  * A {@link Parser} that matches a long number using a given radix. Note it does not require or match a leading prefix.
@@ -52,16 +51,21 @@ final class LongParser<C extends ParserContext> extends NonEmptyParser<C> {
     }
 
     /**
-     * Reads character by character until a non digit is found, using a {@link Long} to hold the value.
+     * Reads character by character until a non digit is found, using a {@link Long} to hold the value. If the
+     * {@link TextCursor} is backed by a {@link CharSequence} the text is read directly by index, and the cursor moved
+     * once at the end.
      */
     @Override
-    Optional<ParserToken> tryParse(final TextCursor cursor,
-                                   final C context,
-                                   final TextCursorSavePoint save) {
+    ParserToken tryParse(final TextCursor cursor,
+                         final C context,
+                         final TextCursorSavePoint save) {
         final char negativeSign = context.negativeSign();
         final char positiveSign = context.positiveSign();
 
-        LongParserToken token;
+        final CharSequence text = IndexedTextCursors.text(cursor);
+        final int length = null != text ? text.length() : 0;
+        final int begin = null != text ? IndexedTextCursors.offset(cursor) : 0;
+        int i = begin;
 
         final int radix = this.radix;
         long number = 0;
@@ -70,31 +74,31 @@ final class LongParser<C extends ParserContext> extends NonEmptyParser<C> {
         boolean signed = false;
 
         for (; ; ) {
-            if (cursor.isEmpty()) {
-                token = empty ?
-                        null :
-                        this.createToken(number, save);
+            if (null != text ? length == i : cursor.isEmpty()) {
                 break;
             }
 
-            char c = cursor.at();
-            if (empty && 10 == this.radix) {
+            char c = null != text ? text.charAt(i) : cursor.at();
+            if (empty && 10 == radix) {
                 if (negativeSign == c) {
                     signed = true;
-                    cursor.next();
+                    i++;
+                    if (null == text) {
+                        cursor.next();
+                    }
                     continue;
                 }
                 if (positiveSign == c) {
                     signed = false;
-                    cursor.next();
+                    i++;
+                    if (null == text) {
+                        cursor.next();
+                    }
                     continue;
                 }
             }
             final int digit = Character.digit(c, radix);
             if (-1 == digit) {
-                token = empty ?
-                        null :
-                        this.createToken(number, save);
                 break;
             }
             empty = false;
@@ -107,19 +111,26 @@ final class LongParser<C extends ParserContext> extends NonEmptyParser<C> {
             } catch (final ArithmeticException cause) {
                 overflow = true;
             }
-            cursor.next();
+            i++;
+            if (null == text) {
+                cursor.next();
+            }
+        }
+
+        if (null != text) {
+            IndexedTextCursors.setOffset(cursor, i);
         }
 
         if (overflow) {
             throw new ParserException("Number overflow " + CharSequences.quote(save.textBetween()));
         }
 
-        return Optional.ofNullable(token);
-    }
-
-    private LongParserToken createToken(final Long value, final TextCursorSavePoint save) {
-        return LongParserToken.with(value,
-                save.textBetween().toString());
+        return empty ?
+                null :
+                LongParserToken.with(
+                        number,
+                        ParserTokenText.textBetween(text, begin, cursor, save)
+                );
     }
 
     private final int radix;
@@ -29,10 +29,37 @@ public final class LongParserToken extends ValueParserToken<Long> implements Lea
         return new LongParserToken(value, text);
     }
 
-    private LongParserToken(final Long value, final String text) {
-        super(value, text);
+    /**
+     * Factory used by {@link LongParser} which may pass a lazy {@link ParserTokenText}.
+     */
+    static LongParserToken with(final long value, final CharSequence text) {
+        Objects.requireNonNull(text, "text");
+
+        return new LongParserToken(value, text);
     }
 
+    private LongParserToken(final long value, final CharSequence text) {
+        super(null, text);
+        this.longValue = value;
+    }
+
+    /**
+     * Boxes the {@link #longValue()} on each call, prefer the primitive accessor.
+     */
+    @Override
+    public Long value() {
+        return this.longValue;
+    }
+
+    /**
+     * Returns the unboxed value.
+     */
+    public long longValue() {
+        return this.longValue;
+    }
+
+    private final long longValue;
+
     @Override
     public void accept(final ParserTokenVisitor visitor) {
         visitor.visit(this);
@@ -45,6 +72,6 @@ public final class LongParserToken extends ValueParserToken<Long> implements Lea
 
     @Override
     boolean equals1(final ValueParserToken<?> other) {
-        return true; // no extra properties to compare
+        return this.longValue == ((LongParserToken) other).longValue;
     }
 }
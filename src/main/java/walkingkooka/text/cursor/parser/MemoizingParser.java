@@ -0,0 +1,132 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.text.cursor.parser;
+
+import walkingkooka.text.cursor.TextCursor;
+import walkingkooka.visit.Visiting;
+
+/**
+ * A {@link Parser} that records the result of the wrapped {@link Parser} at each cursor offset, so backtracking
+ * grammars never parse the same rule at the same offset twice (packrat parsing). Results are held in a
+ * {@link MemoizingParserTable} which belongs to a single parse and is discarded when the outermost
+ * {@link MemoizingParser} returns. Memoized results are jumped over in a single step for cursors created by
+ * {@link ParserTextCursors#indexed(CharSequence)}, other cursors are walked to the end of the result.
+ * To share a single table across all memoized rules, the outermost {@link Parser} should also be memoized.
+ */
+final class MemoizingParser<C extends ParserContext> extends ParserWrapper<C> {
+
+    static <C extends ParserContext> MemoizingParser<C> with(final Parser<C> parser) {
+        checkParser(parser);
+
+        return parser instanceof MemoizingParser ?
+                parser.cast() :
+                new MemoizingParser<>(
+                        parser,
+                        parser.toString()
+                );
+    }
+
+    private MemoizingParser(final Parser<C> parser,
+                            final String toString) {
+        super(parser, toString);
+    }
+
+    // Parser..........................................................................................................
+
+    @Override
+    public ParserToken parseOrNull(final TextCursor cursor,
+                                   final C context) {
+        final ParserToken token;
+
+        if (cursor instanceof MemoizingParserTextCursor) {
+            token = this.parseMemoized((MemoizingParserTextCursor) cursor, context);
+        } else {
+            // the outermost MemoizingParser, the table is discarded after this parse
+            token = this.parseMemoized(
+                    MemoizingParserTextCursor.with(cursor),
+                    context
+            );
+        }
+
+        return token;
+    }
+
+    private ParserToken parseMemoized(final MemoizingParserTextCursor cursor,
+                                      final C context) {
+        final MemoizingParserTable table = cursor.table();
+        final int id = table.id(this);
+        final int offset = cursor.offset();
+        final int slot = table.get(id, offset);
+
+        final ParserToken token;
+        if (-1 != slot) {
+            token = table.token(slot);
+            if (null != token) {
+                cursor.setOffset(table.end(slot));
+            }
+        } else {
+            token = this.parser.parseOrNull(cursor, context);
+            if (0 == cursor.leftRecursions) {
+                table.put(
+                        id,
+                        offset,
+                        token,
+                        cursor.offset()
+                );
+            }
+        }
+
+        return token;
+    }
+
+    @Override
+    public Parser<C> memoize() {
+        return this;
+    }
+
+    // ParserVisitor....................................................................................................
+
+    @Override
+    void accept(final ParserVisitor visitor) {
+        if (Visiting.CONTINUE == visitor.startVisitMemoize(this, this.parser)) {
+            visitor.accept(this.parser);
+        }
+        visitor.endVisitMemoize(this, this.parser);
+    }
+
+    // Parser2..........................................................................................................
+
+    @Override
+    Parser<C> compile(final ParserCompiler compiler) {
+        final Parser<C> parser = compiler.compileParser(this.parser);
+
+        return parser == this.parser ?
+                this :
+                new MemoizingParser<>(
+                        parser,
+                        this.toString
+                );
+    }
+
+    @Override
+    MemoizingParser<C> replaceToString(final String toString) {
+        return new MemoizingParser<>(
+                this.parser,
+                toString
+        );
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.text.cursor.parser;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * A bounded memo table holding the results of {@link MemoizingParser} for a single parse, keyed by parser and
+ * cursor offset. Entries live in parallel arrays using open addressing. Once {@link #MAX_CAPACITY} is reached and
+ * the table fills up, the half of the entries with the lowest offsets is evicted. Parsing mostly moves forward, so
+ * results near the current offset, which are the ones backtracking asks for again, are kept while memory stays bounded.
+ */
+final class MemoizingParserTable {
+
+    /**
+     * The maximum number of slots, after which entries are evicted rather than the table grown.
+     */
+    final static int MAX_CAPACITY = 1 << 16;
+
+    private final static int INITIAL_CAPACITY = 64;
+
+    /**
+     * Marks a slot that is empty.
+     */
+    private final static long EMPTY = -1;
+
+    /**
+     * The end offset recorded for a failed parse.
+     */
+    final static int FAILED = -1;
+
+    static MemoizingParserTable empty() {
+        return new MemoizingParserTable();
+    }
+
+    private MemoizingParserTable() {
+        this.allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Returns the unique id for the given {@link MemoizingParser} or {@link RuleParser} within this table.
+     */
+    int id(final Parser<?> parser) {
+        Integer id = this.ids.get(parser);
+        if (null == id) {
+            id = this.ids.size();
+            this.ids.put(parser, id);
+        }
+        return id;
+    }
+
+    private final Map<Parser<?>, Integer> ids = new IdentityHashMap<>();
+
+    /**
+     * Returns the slot for the given parser id and offset, or -1 if nothing has been recorded.
+     */
+    int get(final int id,
+            final int offset) {
+        final long key = key(id, offset);
+        final long[] keys = this.keys;
+        final int mask = keys.length - 1;
+
+        int slot = hash(key) & mask;
+        for (; ; ) {
+            final long k = keys[slot];
+            if (EMPTY == k) {
+                slot = -1;
+                break;
+            }
+            if (key == k) {
+                break;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        return slot;
+    }
+
+    /**
+     * The end offset of the given slot, or {@link #FAILED}.
+     */
+    int end(final int slot) {
+        return this.ends[slot];
+    }
+
+    /**
+     * The token of the given slot, which will be null if the parse failed.
+     */
+    ParserToken token(final int slot) {
+        return this.tokens[slot];
+    }
+
+    /**
+     * Records the result of a parse at the given offset.
+     */
+    void put(final int id,
+             final int offset,
+             final ParserToken token,
+             final int end) {
+        if ((this.size + 1) * 4 > this.keys.length * 3) {
+            final int capacity = this.keys.length;
+            if (capacity < MAX_CAPACITY) {
+                this.grow(capacity * 2);
+            } else {
+                this.evict();
+            }
+        }
+        this.put0(
+                key(id, offset),
+                token,
+                null != token ? end : FAILED
+        );
+    }
+
+    private void put0(final long key,
+                      final ParserToken token,
+                      final int end) {
+        final long[] keys = this.keys;
+        final int mask = keys.length - 1;
+
+        int slot = hash(key) & mask;
+        while (EMPTY != keys[slot] && key != keys[slot]) {
+            slot = (slot + 1) & mask;
+        }
+        if (EMPTY == keys[slot]) {
+            this.size++;
+        }
+        keys[slot] = key;
+        this.tokens[slot] = token;
+        this.ends[slot] = end;
+    }
+
+    private void grow(final int capacity) {
+        final long[] keys = this.keys;
+        final ParserToken[] tokens = this.tokens;
+        final int[] ends = this.ends;
+
+        this.allocate(capacity);
+
+        for (int i = 0; i < keys.length; i++) {
+            final long key = keys[i];
+            if (EMPTY != key) {
+                this.put0(key, tokens[i], ends[i]);
+            }
+        }
+    }
+
+    /**
+     * Removes the entries whose offset is below the median offset, keeping those closest to the end of the text
+     * parsed so far. When more than half of the entries share the lowest offset, that offset is evicted as well so
+     * the table always shrinks.
+     */
+    private void evict() {
+        final long[] keys = this.keys;
+        final ParserToken[] tokens = this.tokens;
+        final int[] ends = this.ends;
+
+        final int[] offsets = new int[this.size];
+        int i = 0;
+        for (final long key : keys) {
+            if (EMPTY != key) {
+                offsets[i++] = offset(key);
+            }
+        }
+        Arrays.sort(offsets);
+
+        int keep = offsets[offsets.length / 2];
+        if (offsets[0] == keep) {
+            keep++;
+        }
+
+        this.allocate(keys.length);
+
+        for (i = 0; i < keys.length; i++) {
+            final long key = keys[i];
+            if (EMPTY != key && offset(key) >= keep) {
+                this.put0(key, tokens[i], ends[i]);
+            }
+        }
+    }
+
+    private void allocate(final int capacity) {
+        this.keys = new long[capacity];
+        Arrays.fill(this.keys, EMPTY);
+        this.tokens = new ParserToken[capacity];
+        this.ends = new int[capacity];
+        this.size = 0;
+    }
+
+    static long key(final int id,
+                    final int offset) {
+        return ((long) id << 32) | (offset & 0xFFFFFFFFL);
+    }
+
+    private static int offset(final long key) {
+        return (int) key;
+    }
+
+    private static int hash(final long key) {
+        final long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private long[] keys;
+    private ParserToken[] tokens;
+    private int[] ends;
+
+    /**
+     * The number of used slots.
+     */
+    int size;
+
+    @Override
+    public String toString() {
+        return this.size + "/" + this.keys.length;
+    }
+}
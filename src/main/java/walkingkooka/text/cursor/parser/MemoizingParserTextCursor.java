@@ -0,0 +1,153 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.text.cursor.parser;
+
+import walkingkooka.text.cursor.TextCursor;
+import walkingkooka.text.cursor.TextCursorLineInfo;
+import walkingkooka.text.cursor.TextCursorSavePoint;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A {@link TextCursor} that delegates to another {@link TextCursor} and carries the {@link MemoizingParserTable}
+ * shared by all {@link MemoizingParser} and the {@link RuleParserHead} of any {@link RuleParser} being parsed during a
+ * single parse.
+ * <br>
+ * The offset of an {@link IndexedTextCursor} is read directly, for any other {@link TextCursor} the offset is counted
+ * from where this cursor was created, and moving to a later offset walks the {@link TextCursor}.
+ */
+final class MemoizingParserTextCursor implements TextCursor {
+
+    static MemoizingParserTextCursor with(final TextCursor cursor) {
+        return new MemoizingParserTextCursor(cursor);
+    }
+
+    private MemoizingParserTextCursor(final TextCursor cursor) {
+        this.cursor = cursor;
+    }
+
+    /**
+     * The offset of the current character.
+     */
+    int offset() {
+        final TextCursor cursor = this.cursor;
+        return cursor instanceof IndexedTextCursor ?
+                ((IndexedTextCursor) cursor).offset :
+                this.offset;
+    }
+
+    /**
+     * Moves the cursor to the end offset of a memoized result. Only an {@link IndexedTextCursor} may be moved backwards,
+     * other cursors must use a {@link TextCursorSavePoint}.
+     */
+    void setOffset(final int offset) {
+        final TextCursor cursor = this.cursor;
+        if (cursor instanceof IndexedTextCursor) {
+            ((IndexedTextCursor) cursor).setOffset(offset);
+        } else {
+            if (offset < this.offset) {
+                throw new IllegalArgumentException("Invalid offset " + offset + " before current offset " + this.offset);
+            }
+            while (this.offset < offset) {
+                this.next();
+            }
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.cursor.isEmpty();
+    }
+
+    @Override
+    public char at() {
+        return this.cursor.at();
+    }
+
+    @Override
+    public TextCursor next() {
+        this.cursor.next();
+        this.offset++;
+        return this;
+    }
+
+    @Override
+    public TextCursor end() {
+        final TextCursor cursor = this.cursor;
+        if (cursor instanceof IndexedTextCursor) {
+            cursor.end();
+        } else {
+            // walk so the offset is counted
+            while (false == cursor.isEmpty()) {
+                this.next();
+            }
+        }
+        return this;
+    }
+
+    @Override
+    public TextCursorSavePoint save() {
+        return MemoizingParserTextCursorSavePoint.with(this);
+    }
+
+    @Override
+    public TextCursorLineInfo lineInfo() {
+        return this.cursor.lineInfo();
+    }
+
+    /**
+     * The wrapped {@link TextCursor}.
+     */
+    final TextCursor cursor;
+
+    /**
+     * The number of characters consumed since this cursor was created, which is ignored for an
+     * {@link IndexedTextCursor} that tracks its own offset.
+     */
+    int offset;
+
+    /**
+     * Returns the {@link MemoizingParserTable}, creating it when first needed.
+     */
+    MemoizingParserTable table() {
+        MemoizingParserTable table = this.table;
+        if (null == table) {
+            table = MemoizingParserTable.empty();
+            this.table = table;
+        }
+        return table;
+    }
+
+    private MemoizingParserTable table;
+
+    /**
+     * The {@link RuleParser} currently being parsed, keyed by {@link MemoizingParserTable#key(int, int)}.
+     */
+    final Map<Long, RuleParserHead> heads = new HashMap<>();
+
+    /**
+     * The number of {@link RuleParser} that found left recursion and are still growing their result. Results parsed
+     * meanwhile may include a partial result of the rule so are not memoized.
+     */
+    int leftRecursions;
+
+    @Override
+    public String toString() {
+        return this.cursor.toString();
+    }
+}
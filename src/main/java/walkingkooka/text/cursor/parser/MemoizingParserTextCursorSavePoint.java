@@ -0,0 +1,69 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.text.cursor.parser;
+
+import walkingkooka.text.cursor.TextCursorLineInfo;
+import walkingkooka.text.cursor.TextCursorSavePoint;
+
+/**
+ * A {@link TextCursorSavePoint} that also restores the counted offset of a {@link MemoizingParserTextCursor}.
+ */
+final class MemoizingParserTextCursorSavePoint implements TextCursorSavePoint {
+
+    static MemoizingParserTextCursorSavePoint with(final MemoizingParserTextCursor cursor) {
+        return new MemoizingParserTextCursorSavePoint(
+                cursor,
+                cursor.cursor.save(),
+                cursor.offset
+        );
+    }
+
+    private MemoizingParserTextCursorSavePoint(final MemoizingParserTextCursor cursor,
+                                               final TextCursorSavePoint save,
+                                               final int offset) {
+        this.cursor = cursor;
+        this.save = save;
+        this.offset = offset;
+    }
+
+    @Override
+    public void restore() {
+        this.save.restore();
+        this.cursor.offset = this.offset;
+    }
+
+    @Override
+    public CharSequence textBetween() {
+        return this.save.textBetween();
+    }
+
+    @Override
+    public TextCursorLineInfo lineInfo() {
+        return this.save.lineInfo();
+    }
+
+    private final MemoizingParserTextCursor cursor;
+
+    private final TextCursorSavePoint save;
+
+    private final int offset;
+
+    @Override
+    public String toString() {
+        return this.save.toString();
+    }
+}
@@ -41,13 +41,18 @@ final class NeverParser<C extends ParserContext> extends Parser2<C> {
     }
 
     @Override
-    public Optional<ParserToken> parse(final TextCursor cursor,
-                                       final C context) {
-        return Optional.empty();
+    public ParserToken parseOrNull(final TextCursor cursor,
+                                   final C context) {
+        return null;
     }
 
     // Parser2..........................................................................................................
 
+    @Override
+    boolean mayStartWith(final char c) {
+        return false;
+    }
+
     @Override
     Parser<C> replaceToString(final String toString) {
         return new NeverParser<>(toString);
@@ -20,8 +20,6 @@ package walkingkooka.text.cursor.parser;
 import walkingkooka.text.cursor.TextCursor;
 import walkingkooka.text.cursor.TextCursorSavePoint;
 
-import java.util.Optional;
-
 /**
  * A template parser that only calls the abstract method if the cursor is not empty and also restores the cursor position,
  * on failures.
@@ -33,26 +31,19 @@ abstract class NonEmptyParser<C extends ParserContext> extends Parser2<C> {
     }
 
     @Override
-    public final Optional<ParserToken> parse(final TextCursor cursor,
-                                             final C context) {
+    public final ParserToken parseOrNull(final TextCursor cursor,
+                                         final C context) {
         return cursor.isEmpty() ?
-                this.empty() :
+                null :
                 this.prepareNonEmpty(cursor, context);
     }
 
-    /**
-     * Returns an empty optional which matches an unsuccessful parser attempt.
-     */
-    final Optional<ParserToken> empty() {
-        return Optional.empty();
-    }
-
-    private Optional<ParserToken> prepareNonEmpty(final TextCursor cursor,
-                                                  final C context) {
+    private ParserToken prepareNonEmpty(final TextCursor cursor,
+                                        final C context) {
         final TextCursorSavePoint start = cursor.save();
 
-        final Optional<ParserToken> result = this.tryParse(cursor, context, start);
-        if (!result.isPresent()) {
+        final ParserToken result = this.tryParse(cursor, context, start);
+        if (null == result) {
             // unsuccessful restore cursor to original position...
             start.restore();
         }
@@ -60,9 +51,10 @@ abstract class NonEmptyParser<C extends ParserContext> extends Parser2<C> {
     }
 
     /**
-     * This method is invoked with the first character and a {@link TextCursorSavePoint}.
+     * This method is invoked with the first character and a {@link TextCursorSavePoint}, returning null if the parse
+     * failed.
      */
-    abstract Optional<ParserToken> tryParse(final TextCursor cursor,
-                                            final C context,
-                                            final TextCursorSavePoint start);
+    abstract ParserToken tryParse(final TextCursor cursor,
+                                  final C context,
+                                  final TextCursorSavePoint start);
 }
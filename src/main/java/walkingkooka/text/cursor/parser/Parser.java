@@ -18,11 +18,14 @@ package walkingkooka.text.cursor.parser;
 
 import walkingkooka.Cast;
 import walkingkooka.collect.list.Lists;
+import walkingkooka.predicate.character.CharPredicate;
 import walkingkooka.text.cursor.TextCursor;
 
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.BiFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * A {@link Parser} that consumes characters or text from a {@link TextCursor} and returns a {@link ParserToken token}.
@@ -34,6 +37,16 @@ public interface Parser<C extends ParserContext> {
      */
     Optional<ParserToken> parse(final TextCursor cursor, final C context);
 
+    /**
+     * A lower level alternative to {@link #parse(TextCursor, ParserContext)} that returns the {@link ParserToken}
+     * or null if the parse failed, avoiding the creation of an {@link Optional}. All {@link Parser} provided by
+     * {@link Parsers} implement this directly, and composite parsers use this to invoke their children.
+     */
+    default ParserToken parseOrNull(final TextCursor cursor, final C context) {
+        return this.parse(cursor, context)
+                .orElse(null);
+    }
+
     /**
      * Adds a post condition, namely this {@link Parser} when it returns a {@link ParserToken} must also be empty,
      * otherwise the {@link TextCursor} is restored.
@@ -57,6 +70,22 @@ public interface Parser<C extends ParserContext> {
         return Cast.to(Parsers.sequenceParserBuilder().required(this.cast()));
     }
 
+    /**
+     * Returns an equivalent {@link Parser} that calls through fewer wrapper parsers, such as those added by
+     * {@link #setToString(String)}, and with nested alternatives merged. Grammars should be compiled once after they
+     * are built and the compiled {@link Parser} used for parsing.
+     */
+    default Parser<C> compile() {
+        return ParserCompiler.compile(this);
+    }
+
+    /**
+     * Returns a {@link Parser} that remembers the result of this {@link Parser} at each cursor offset during a parse.
+     */
+    default Parser<C> memoize() {
+        return Parsers.memoize(this);
+    }
+
     /**
      * Returns a {@link Parser} that matches this OR the given {@link Parser} tokens.
      */
@@ -78,6 +107,45 @@ public interface Parser<C extends ParserContext> {
         return Parsers.repeating(this.cast());
     }
 
+    /**
+     * Returns a lazy {@link Stream} that repeatedly parses the {@link TextCursor}, producing each {@link ParserToken}
+     * as it is parsed and stopping at the first failure. Unlike {@link #repeating()} the tokens are not collected
+     * into a single {@link RepeatedParserToken}, making it suitable for very large inputs.
+     */
+    default Stream<ParserToken> stream(final TextCursor cursor, final C context) {
+        return StreamSupport.stream(
+                ParserSpliterator.with(
+                        this,
+                        cursor,
+                        context
+                ),
+                false
+        );
+    }
+
+    /**
+     * Parses record oriented text, such as lines, by splitting it into chunks of at least chunkSize characters which
+     * end after a boundary character, parsing the chunks in parallel using this {@link Parser} for each record.
+     * The returned {@link Stream} is ordered, so collecting it returns the tokens in the order of the text.
+     * If a chunk contains text that fails to parse the {@link ParserReporter} is called with a cursor that reports the
+     * correct line and column within the entire text. The {@link ParserContext} is shared by all chunks and must be
+     * safe to use from multiple threads.
+     */
+    default Stream<ParserToken> parallelStream(final CharSequence text,
+                                               final CharPredicate boundary,
+                                               final int chunkSize,
+                                               final C context,
+                                               final ParserReporter<C> reporter) {
+        return ParserChunks.stream(
+                this,
+                text,
+                boundary,
+                chunkSize,
+                context,
+                reporter
+        );
+    }
+
     /**
      * Returns a {@link Parser} that returns the given {@link String toString}.
      */
@@ -17,7 +17,10 @@
 
 package walkingkooka.text.cursor.parser;
 
+import walkingkooka.text.cursor.TextCursor;
+
 import java.util.Objects;
+import java.util.Optional;
 
 abstract class Parser2<C extends ParserContext> implements Parser<C> {
 
@@ -25,6 +28,21 @@ abstract class Parser2<C extends ParserContext> implements Parser<C> {
         this.toString = toString;
     }
 
+    /**
+     * Adapts {@link #parseOrNull(TextCursor, ParserContext)}, which all sub classes implement.
+     */
+    @Override
+    public final Optional<ParserToken> parse(final TextCursor cursor,
+                                             final C context) {
+        return Optional.ofNullable(
+                this.parseOrNull(cursor, context)
+        );
+    }
+
+    @Override
+    public abstract ParserToken parseOrNull(final TextCursor cursor,
+                                            final C context);
+
     @Override
     public final Parser<C> setToString(final String toString) {
         Objects.requireNonNull(toString, "toString");
@@ -40,6 +58,50 @@ abstract class Parser2<C extends ParserContext> implements Parser<C> {
      */
     abstract Parser<C> replaceToString(final String toString);
 
+    // mayStartWith.....................................................................................................
+
+    /**
+     * Returns false only if this {@link Parser} can never match text beginning with the given character. Parsers that
+     * cannot answer or are context dependent must return true. This is used by {@link AlternativesParser} to skip
+     * alternatives that cannot possibly match.
+     */
+    boolean mayStartWith(final char c) {
+        return true;
+    }
+
+    /**
+     * Helper that asks any {@link Parser} if it may start with the given character, {@link Parser} that are not a
+     * {@link Parser2} are always assumed to possibly match.
+     */
+    static boolean mayStartWith(final Parser<?> parser,
+                                final char c) {
+        return parser instanceof Parser2 ?
+                ((Parser2<?>) parser).mayStartWith(c) :
+                parser instanceof AndNotParser ?
+                        ((AndNotParser<?>) parser).mayStartWith(c) :
+                        true;
+    }
+
+    // compile..........................................................................................................
+
+    /**
+     * Returns an equivalent {@link Parser}, compiling any wrapped parsers using the given {@link ParserCompiler}.
+     * Parsers without any wrapped parsers return this.
+     */
+    Parser<C> compile(final ParserCompiler compiler) {
+        return this;
+    }
+
+    // ParserVisitor....................................................................................................
+
+    /**
+     * Dispatches to the {@link ParserVisitor} method for this parser, leaves without properties call
+     * {@link ParserVisitor#visitLeaf(Parser)}.
+     */
+    void accept(final ParserVisitor visitor) {
+        visitor.visitLeaf(this);
+    }
+
     // Object..........................................................................................................
 
     @Override
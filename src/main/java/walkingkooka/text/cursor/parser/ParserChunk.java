@@ -0,0 +1,81 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.text.cursor.parser;
+
+import walkingkooka.collect.list.Lists;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * The result of parsing a single chunk for {@link ParserChunks}, holding its tokens and whether the chunk failed,
+ * which ends the chunks that are returned.
+ */
+final class ParserChunk {
+
+    /**
+     * Follows a failed chunk, marking the end of the chunks whose tokens are returned.
+     */
+    final static ParserChunk STOP = new ParserChunk(Lists.empty(), false, null);
+
+    /**
+     * A chunk that was not parsed because an earlier chunk already failed.
+     */
+    final static ParserChunk SKIPPED = new ParserChunk(Lists.empty(), false, null);
+
+    static ParserChunk with(final List<ParserToken> tokens,
+                            final boolean failed) {
+        return new ParserChunk(tokens, failed, null);
+    }
+
+    static ParserChunk thrown(final RuntimeException thrown) {
+        return new ParserChunk(Lists.empty(), true, thrown);
+    }
+
+    private ParserChunk(final List<ParserToken> tokens,
+                        final boolean failed,
+                        final RuntimeException thrown) {
+        this.tokens = tokens;
+        this.failed = failed;
+        this.thrown = thrown;
+    }
+
+    /**
+     * Returns the tokens of this chunk, or rethrows the exception thrown while parsing it.
+     */
+    Stream<ParserToken> tokens() {
+        final RuntimeException thrown = this.thrown;
+        if (null != thrown) {
+            throw thrown;
+        }
+        return this.tokens.stream();
+    }
+
+    private final List<ParserToken> tokens;
+
+    /**
+     * True if the {@link ParserReporter} was called or the chunk threw.
+     */
+    final boolean failed;
+
+    private final RuntimeException thrown;
+
+    @Override
+    public String toString() {
+        return (this.failed ? "failed " : "") + (null != this.thrown ? this.thrown : this.tokens);
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.text.cursor.parser;
+
+import walkingkooka.collect.list.Lists;
+import walkingkooka.predicate.character.CharPredicate;
+import walkingkooka.text.cursor.TextCursor;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Splits record oriented text into chunks that end just after a boundary character, such as a new line, and parses
+ * the chunks using a parallel {@link Stream}. On the JVM the chunks are parsed concurrently by the common
+ * {@link java.util.concurrent.ForkJoinPool}, or the pool that submitted the terminal operation, while in the browser
+ * they are parsed one after the other. Each chunk cursor is positioned within the complete text, so
+ * {@link TextCursor#lineInfo()} and any {@link ParserReporterException} report the correct line and column.
+ * <br>
+ * The tokens are returned in text order and stop with the first chunk that fails, exactly as if the text had been
+ * parsed sequentially. Chunks after a failed chunk are skipped if they have not yet started, and their tokens or
+ * exceptions are discarded if they have. The chunks are parsed when the terminal operation of the {@link Stream}
+ * runs, and the tokens of each chunk are passed on as that chunk finishes rather than all tokens being collected first.
+ */
+final class ParserChunks {
+
+    static <C extends ParserContext> Stream<ParserToken> stream(final Parser<C> parser,
+                                                                final CharSequence text,
+                                                                final CharPredicate boundary,
+                                                                final int chunkSize,
+                                                                final C context,
+                                                                final ParserReporter<C> reporter) {
+        Objects.requireNonNull(parser, "parser");
+        Objects.requireNonNull(text, "text");
+        Objects.requireNonNull(boundary, "boundary");
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Invalid chunk size " + chunkSize + " <= 0");
+        }
+        Objects.requireNonNull(context, "context");
+        Objects.requireNonNull(reporter, "reporter");
+
+        final int[] ends = ends(text, boundary, chunkSize);
+        final AtomicInteger failed = new AtomicInteger(ends.length);
+
+        // a failed chunk is followed by STOP, so only the chunks up to and including the first failure are returned
+        return IntStream.range(0, ends.length)
+                .parallel()
+                .mapToObj(i -> parse(
+                        parser,
+                        text,
+                        0 == i ? 0 : ends[i - 1],
+                        ends[i],
+                        context,
+                        reporter,
+                        i,
+                        failed
+                )).flatMap(c -> c.failed ?
+                        Stream.of(c, ParserChunk.STOP) :
+                        Stream.of(c)
+                ).takeWhile(c -> ParserChunk.STOP != c)
+                .flatMap(ParserChunk::tokens);
+    }
+
+    /**
+     * Lowers the index of the first failed chunk to the given chunk, if it is earlier.
+     */
+    private static void failed(final AtomicInteger failed,
+                               final int chunk) {
+        for (; ; ) {
+            final int current = failed.get();
+            if (chunk >= current || failed.compareAndSet(current, chunk)) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Returns the end offsets of all chunks, each chunk is at least chunkSize characters long, except possibly the
+     * last, and ends after a boundary character.
+     */
+    static int[] ends(final CharSequence text,
+                      final CharPredicate boundary,
+                      final int chunkSize) {
+        final int length = text.length();
+        int[] ends = new int[Math.max(1, length / chunkSize)];
+        int count = 0;
+
+        int begin = 0;
+        while (begin < length) {
+            int end = Math.min(begin + chunkSize, length);
+            while (end < length && false == boundary.test(text.charAt(end - 1))) {
+                end++;
+            }
+
+            if (ends.length == count) {
+                final int[] copy = new int[count * 2];
+                System.arraycopy(ends, 0, copy, 0, count);
+                ends = copy;
+            }
+            ends[count] = end;
+            count++;
+
+            begin = end;
+        }
+
+        final int[] copy = new int[count];
+        System.arraycopy(ends, 0, copy, 0, count);
+        return copy;
+    }
+
+    /**
+     * Parses a single chunk until it is empty, giving the {@link ParserReporter} a chance to report the first failure,
+     * which is recorded as the failed chunk. The cursor only holds the text up to the end of the chunk, so the
+     * {@link Parser} cannot consume text from the next chunk. A chunk after one that already failed is skipped.
+     */
+    private static <C extends ParserContext> ParserChunk parse(final Parser<C> parser,
+                                                               final CharSequence text,
+                                                               final int begin,
+                                                               final int end,
+                                                               final C context,
+                                                               final ParserReporter<C> reporter,
+                                                               final int chunk,
+                                                               final AtomicInteger failed) {
+        ParserChunk result = ParserChunk.SKIPPED;
+
+        // a chunk after one that already failed can never be returned
+        if (chunk < failed.get()) {
+            try {
+                final IndexedTextCursor cursor = IndexedTextCursor.with(
+                        ParserTokenText.with(
+                                text,
+                                0,
+                                end
+                        )
+                );
+                cursor.setOffset(begin);
+
+                final List<ParserToken> tokens = Lists.array();
+                boolean reported = false;
+
+                while (false == cursor.isEmpty()) {
+                    final int offset = cursor.offset;
+                    final ParserToken token = parser.parseOrNull(
+                            cursor,
+                            context
+                    );
+
+                    // a token that consumed nothing would never complete the chunk
+                    if (null == token || offset == cursor.offset) {
+                        failed(failed, chunk);
+                        reported = true;
+                        reporter.report(
+                                cursor,
+                                context,
+                                parser
+                        ).ifPresent(tokens::add);
+                        break;
+                    }
+                    tokens.add(token);
+                }
+
+                result = ParserChunk.with(
+                        tokens,
+                        reported
+                );
+            } catch (final RuntimeException cause) {
+                failed(failed, chunk);
+                result = ParserChunk.thrown(cause);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Stop creation
+     */
+    private ParserChunks() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import walkingkooka.Cast;
+import walkingkooka.collect.list.Lists;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Walks a graph of {@link Parser} once, returning an equivalent {@link Parser} with fewer layers to call through
+ * when parsing. Each {@link Parser} is compiled once, so parsers shared by several rules remain shared.
+ * <ul>
+ * <li>{@link CustomToStringParser} wrapping a {@link Parser2} are removed, the {@link Parser2} is given the
+ * {@link Object#toString()} instead. When the wrapped {@link Parser} is also reached from elsewhere the wrapper is
+ * kept, as renaming creates a new {@link Parser}, which would no longer share memoized results</li>
+ * <li>{@link AlternativesParser} within an {@link AlternativesParser} are merged</li>
+ * <li>a {@link TransformingParser} wrapping another {@link TransformingParser} are merged into one</li>
+ * <li>a {@link ReferenceParser} is replaced by its compiled target</li>
+ * <li>a {@link RuleParser} is replaced by a rule of the same name bound to its compiled definition</li>
+ * </ul>
+ * Parsers that are not built in, are returned unchanged and are not walked.
+ */
+final class ParserCompiler {
+
+    static <C extends ParserContext> Parser<C> compile(final Parser<C> parser) {
+        Objects.requireNonNull(parser, "parser");
+
+        return new ParserCompiler(
+                ParserCompilerParserVisitor.uses(parser)
+        ).compileParser(parser);
+    }
+
+    private ParserCompiler(final Map<Parser<?>, Integer> uses) {
+        super();
+        this.uses = uses;
+    }
+
+    /**
+     * Compiles the given {@link Parser} returning the same instance if nothing was changed.
+     */
+    <C extends ParserContext> Parser<C> compileParser(final Parser<C> parser) {
+        Parser<C> compiled = Cast.to(this.compiled.get(parser));
+        if (null == compiled) {
+            if (parser instanceof Parser2) {
+                final Parser2<C> parser2 = parser.cast();
+                compiled = parser2.compile(this);
+            } else {
+                if (parser instanceof AndNotParser) {
+                    final AndNotParser<C> andNot = parser.cast();
+                    compiled = andNot.compile(this);
+                } else {
+                    compiled = parser;
+                }
+            }
+            this.compiled.put(parser, compiled);
+        }
+        return compiled;
+    }
+
+    /**
+     * Records the compiled form of a {@link Parser} before it has been compiled, so cycles that lead back to the
+     * {@link Parser} use the given compiled {@link Parser}.
+     */
+    <C extends ParserContext> void put(final Parser<C> parser,
+                                       final Parser<C> compiled) {
+        this.compiled.put(parser, compiled);
+    }
+
+    /**
+     * Compiles all the given parsers, returning the given {@link List} if none were changed.
+     */
+    <C extends ParserContext> List<Parser<C>> compileParsers(final List<Parser<C>> parsers) {
+        final List<Parser<C>> compiled = Lists.array();
+        boolean changed = false;
+
+        for (final Parser<C> parser : parsers) {
+            final Parser<C> compiledParser = this.compileParser(parser);
+            changed |= parser != compiledParser;
+            compiled.add(compiledParser);
+        }
+
+        return changed ?
+                compiled :
+                parsers;
+    }
+
+    /**
+     * Returns true if the given {@link Parser} is reached from more than one place in the graph being compiled.
+     */
+    boolean isShared(final Parser<?> parser) {
+        final Integer count = this.uses.get(parser);
+        return null != count && count > 1;
+    }
+
+    /**
+     * The number of places each {@link Parser} is reached from.
+     */
+    private final Map<Parser<?>, Integer> uses;
+
+    /**
+     * Parsers that have already been compiled, using identity as some parsers implement equals.
+     */
+    private final Map<Parser<?>, Parser<?>> compiled = new IdentityHashMap<>();
+}
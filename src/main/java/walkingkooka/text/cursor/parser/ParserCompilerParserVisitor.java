@@ -0,0 +1,76 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.text.cursor.parser;
+
+import walkingkooka.visit.Visiting;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Counts the number of places each {@link Parser} in a graph is reached from, including the targets of
+ * {@link ReferenceParser} and the definitions of {@link RuleParser}. Each {@link Parser} is only walked the first time
+ * it is reached.
+ */
+final class ParserCompilerParserVisitor extends ParserVisitor {
+
+    static Map<Parser<?>, Integer> uses(final Parser<?> parser) {
+        final ParserCompilerParserVisitor visitor = new ParserCompilerParserVisitor();
+        visitor.accept(parser);
+        return visitor.uses;
+    }
+
+    private ParserCompilerParserVisitor() {
+        super();
+    }
+
+    @Override
+    protected Visiting startVisit(final Parser<?> parser) {
+        final Integer count = this.uses.get(parser);
+        this.uses.put(
+                parser,
+                null == count ? 1 : count + 1
+        );
+        return null == count ?
+                Visiting.CONTINUE :
+                Visiting.SKIP;
+    }
+
+    @Override
+    protected void visitReference(final Parser<?> parser,
+                                  final Optional<Parser<?>> bound) {
+        bound.ifPresent(this::accept);
+    }
+
+    @Override
+    protected void visitRule(final Parser<?> parser,
+                             final String name,
+                             final Optional<Parser<?>> definition) {
+        definition.ifPresent(this::accept);
+    }
+
+    /**
+     * Using identity as some parsers implement equals.
+     */
+    private final Map<Parser<?>, Integer> uses = new IdentityHashMap<>();
+
+    @Override
+    public String toString() {
+        return this.uses.toString();
+    }
+}
@@ -19,8 +19,6 @@ package walkingkooka.text.cursor.parser;
 
 import walkingkooka.text.cursor.TextCursor;
 
-import java.util.Optional;
-
 /**
  * Several conditions that predicate the calling of a {@link ParserReporter}.
  */
@@ -30,9 +28,9 @@ public enum ParserReporterCondition {
      * Invoke the {@link ParserReporter} unconditionally.
      */
     ALWAYS {
-        <C extends ParserContext> Optional<ParserToken> parse(final TextCursor cursor,
-                                                              final ReportingParser<C> parser,
-                                                              final C context) {
+        <C extends ParserContext> ParserToken parse(final TextCursor cursor,
+                                                    final ReportingParser<C> parser,
+                                                    final C context) {
             return parser.report(cursor, context);
         }
     },
@@ -41,14 +39,17 @@ public enum ParserReporterCondition {
      * The {@link ParserReporter} should only be triggered when the {@link TextCursor} is not empty.
      */
     NOT_EMPTY {
-        <C extends ParserContext> Optional<ParserToken> parse(final TextCursor cursor,
-                                                              final ReportingParser<C> parser,
-                                                              final C context) {
+        <C extends ParserContext> ParserToken parse(final TextCursor cursor,
+                                                    final ReportingParser<C> parser,
+                                                    final C context) {
             return parser.reportIfNotEmpty(cursor, context);
         }
     };
 
-    abstract <C extends ParserContext> Optional<ParserToken> parse(final TextCursor cursor,
-                                                                   final ReportingParser<C> parser,
-                                                                   final C context);
+    /**
+     * Returns the token or null if the parse failed and the {@link ParserReporter} did not throw.
+     */
+    abstract <C extends ParserContext> ParserToken parse(final TextCursor cursor,
+                                                         final ReportingParser<C> parser,
+                                                         final C context);
 }
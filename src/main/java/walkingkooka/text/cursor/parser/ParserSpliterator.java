@@ -0,0 +1,109 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.text.cursor.parser;
+
+import walkingkooka.text.cursor.TextCursor;
+
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A {@link Spliterator} that repeatedly invokes a {@link Parser}, producing each {@link ParserToken} as it is parsed,
+ * stopping when the {@link Parser} fails. Unlike {@link RepeatingParser} no tokens are retained, so memory use stays
+ * constant no matter how many tokens are parsed.
+ */
+final class ParserSpliterator<C extends ParserContext> implements Spliterator<ParserToken> {
+
+    static <C extends ParserContext> ParserSpliterator<C> with(final Parser<C> parser,
+                                                               final TextCursor cursor,
+                                                               final C context) {
+        Objects.requireNonNull(parser, "parser");
+        Objects.requireNonNull(cursor, "cursor");
+        Objects.requireNonNull(context, "context");
+
+        return new ParserSpliterator<>(
+                parser,
+                cursor,
+                context
+        );
+    }
+
+    private ParserSpliterator(final Parser<C> parser,
+                              final TextCursor cursor,
+                              final C context) {
+        this.parser = parser;
+        this.cursor = cursor;
+        this.context = context;
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super ParserToken> action) {
+        boolean advanced = false;
+
+        if (!this.finished) {
+            final ParserToken token = this.parser.parseOrNull(
+                    this.cursor,
+                    this.context
+            );
+            if (null != token) {
+                action.accept(token);
+                advanced = true;
+            } else {
+                this.finished = true;
+            }
+        }
+
+        return advanced;
+    }
+
+    /**
+     * Parsing is sequential, the remaining text cannot be split.
+     */
+    @Override
+    public Spliterator<ParserToken> trySplit() {
+        return null;
+    }
+
+    @Override
+    public long estimateSize() {
+        return Long.MAX_VALUE;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL;
+    }
+
+    private final Parser<C> parser;
+
+    private final TextCursor cursor;
+
+    private final C context;
+
+    /**
+     * Set once the {@link Parser} fails, so later calls do not try again.
+     */
+    private boolean finished;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return this.parser + " " + this.cursor;
+    }
+}
@@ -42,6 +42,9 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
  * Mixin that includes numerous helpers to assist parsing and verifying the outcome for success and failures.
+ * Helpers given the text rather than a {@link TextCursor} parse it with a cursor from
+ * {@link ParserTextCursors#indexed(CharSequence)} and then {@link TextCursors#charSequence(CharSequence)}, so both the
+ * indexed and the character by character paths of each parser are checked.
  */
 public interface ParserTesting extends TreePrintableTesting {
 
@@ -61,6 +64,7 @@ public interface ParserTesting extends TreePrintableTesting {
                                                                 final ParserToken token,
                                                                 final String text,
                                                                 final String textAfter) {
+        this.parseAndCheck(parser, context, ParserTextCursors.indexed(cursorText), token, text, textAfter);
         return this.parseAndCheck(parser, context, TextCursors.charSequence(cursorText), token, text, textAfter);
     }
 
@@ -120,6 +124,7 @@ public interface ParserTesting extends TreePrintableTesting {
     default <CC extends ParserContext> TextCursor parseFailAndCheck(final Parser<CC> parser,
                                                                     final CC context,
                                                                     final String cursorText) {
+        this.parseFailAndCheck(parser, context, ParserTextCursors.indexed(cursorText));
         return this.parseFailAndCheck(parser, context, TextCursors.charSequence(cursorText));
     }
 
@@ -170,9 +175,12 @@ public interface ParserTesting extends TreePrintableTesting {
                                                                  final String cursorText,
                                                                  final int column,
                                                                  final int row) {
+        final TextCursor indexed = ParserTextCursors.indexed(cursorText);
+        indexed.end();
+        this.parseThrows(parser, context, indexed, endOfText(column, row));
+
         final TextCursor cursor = TextCursors.charSequence(cursorText);
         cursor.end();
-
         this.parseThrows(parser, context, cursor, endOfText(column, row));
     }
 
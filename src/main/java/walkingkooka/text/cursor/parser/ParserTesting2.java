@@ -50,7 +50,7 @@ public interface ParserTesting2<P extends Parser<C>,
                                      final ParserToken token,
                                      final String text,
                                      final String textAfter) {
-        return this.parseAndCheck(TextCursors.charSequence(cursorText), token, text, textAfter);
+        return this.parseAndCheck(this.createParser(), cursorText, token, text, textAfter);
     }
 
     default TextCursor parseAndCheck(final TextCursor cursor,
@@ -84,7 +84,7 @@ public interface ParserTesting2<P extends Parser<C>,
     // parseFailAndCheck................................................................................................
 
     default TextCursor parseFailAndCheck(final String cursorText) {
-        return this.parseFailAndCheck(TextCursors.charSequence(cursorText));
+        return this.parseFailAndCheck(this.createParser(), cursorText);
     }
 
     default TextCursor parseFailAndCheck(final TextCursor cursor) {
@@ -136,7 +136,7 @@ public interface ParserTesting2<P extends Parser<C>,
     }
 
     default void parseThrows(final String cursorText, final String messagePart) {
-        this.parseThrows(TextCursors.charSequence(cursorText), messagePart);
+        this.parseThrows(this.createParser(), cursorText, messagePart);
     }
 
     default void parseThrows(final TextCursor cursor, final String messagePart) {
@@ -148,6 +148,7 @@ public interface ParserTesting2<P extends Parser<C>,
     }
 
     default void parseThrows(final Parser<C> parser, final String cursor, final String messagePart) {
+        this.parseThrows(parser, ParserTextCursors.indexed(cursor), messagePart);
         this.parseThrows(parser, TextCursors.charSequence(cursor), messagePart);
     }
 
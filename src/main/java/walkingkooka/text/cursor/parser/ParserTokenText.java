@@ -0,0 +1,109 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.text.cursor.parser;
+
+import walkingkooka.text.cursor.TextCursor;
+import walkingkooka.text.cursor.TextCursorSavePoint;
+
+/**
+ * A {@link CharSequence} view of the text matched by a {@link Parser}, holding the source text and the begin and end
+ * offsets, only creating the {@link String} when {@link #toString()} is called. This allows parent tokens such as
+ * {@link SequenceParserToken} to avoid copying the same characters already copied by their children.
+ */
+final class ParserTokenText implements CharSequence {
+
+    /**
+     * Returns the text between the {@link TextCursorSavePoint} and the current position of the {@link TextCursor}.
+     * If the source text is an immutable {@link String} a lazy {@link ParserTokenText} is returned, otherwise the text
+     * is copied immediately.
+     */
+    static CharSequence textBetween(final CharSequence text,
+                                    final int begin,
+                                    final TextCursor cursor,
+                                    final TextCursorSavePoint start) {
+        return text instanceof String ?
+                with(text, begin, IndexedTextCursors.offset(cursor)) :
+                start.textBetween().toString();
+    }
+
+    static ParserTokenText with(final CharSequence text,
+                                final int begin,
+                                final int end) {
+        if (begin < 0 || begin > end || end > text.length()) {
+            throw new IndexOutOfBoundsException("Invalid range " + begin + ".." + end + " for text length " + text.length());
+        }
+        return new ParserTokenText(text, begin, end);
+    }
+
+    private ParserTokenText(final CharSequence text,
+                            final int begin,
+                            final int end) {
+        this.text = text;
+        this.begin = begin;
+        this.end = end;
+    }
+
+    // CharSequence.....................................................................................................
+
+    @Override
+    public int length() {
+        return this.end - this.begin;
+    }
+
+    @Override
+    public char charAt(final int index) {
+        if (index < 0 || index >= this.length()) {
+            throw new StringIndexOutOfBoundsException("Invalid index " + index + " must be between 0 and " + this.length());
+        }
+        return this.text.charAt(this.begin + index);
+    }
+
+    @Override
+    public CharSequence subSequence(final int start,
+                                    final int end) {
+        final int length = this.length();
+        if (start < 0 || start > end || end > length) {
+            throw new StringIndexOutOfBoundsException("Invalid range " + start + ".." + end + " must be between 0 and " + length);
+        }
+        return 0 == start && length == end ?
+                this :
+                new ParserTokenText(this.text, this.begin + start, this.begin + end);
+    }
+
+    private final CharSequence text;
+
+    private final int begin;
+
+    private final int end;
+
+    // Object...........................................................................................................
+
+    /**
+     * Copies the characters from the source text the first time it is called, later calls return the same {@link String}.
+     */
+    @Override
+    public String toString() {
+        String string = this.string;
+        if (null == string) {
+            string = this.text.subSequence(this.begin, this.end).toString();
+            this.string = string;
+        }
+        return string;
+    }
+
+    private String string;
+}
@@ -56,7 +56,17 @@ public abstract class ParserTokenVisitor extends Visitor<ParserToken> {
         // nop
     }
 
+    /**
+     * By default dispatches the unboxed value to {@link #visit(double)}.
+     */
     protected void visit(final DoubleParserToken token) {
+        this.visit(token.doubleValue());
+    }
+
+    /**
+     * Receives the value of a {@link DoubleParserToken} without boxing.
+     */
+    protected void visit(final double value) {
         // nop
     }
 
@@ -76,7 +86,17 @@ public abstract class ParserTokenVisitor extends Visitor<ParserToken> {
         // nop
     }
 
+    /**
+     * By default dispatches the unboxed value to {@link #visit(long)}.
+     */
     protected void visit(final LongParserToken token) {
+        this.visit(token.longValue());
+    }
+
+    /**
+     * Receives the value of a {@link LongParserToken} without boxing.
+     */
+    protected void visit(final long value) {
         // nop
     }
 
@@ -0,0 +1,290 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import walkingkooka.predicate.character.CharPredicate;
+import walkingkooka.text.CaseSensitivity;
+import walkingkooka.visit.Visiting;
+import walkingkooka.visit.Visitor;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A {@link Visitor} that walks a graph of {@link Parser}, receiving each combinator along with the parsers it wraps
+ * and each leaf along with its properties. This may be used to analyse a grammar, for example to compute the
+ * characters a rule may start with or to detect left recursion.
+ * <br>
+ * Parsers shared by several rules are visited each time they are reached. {@link Parser} that were not created by
+ * {@link Parsers} are passed to {@link #visitOther(Parser)}.
+ */
+public abstract class ParserVisitor extends Visitor<Parser<?>> {
+
+    // Parser...........................................................................................................
+
+    public final void accept(final Parser<?> parser) {
+        Objects.requireNonNull(parser, "parser");
+
+        if (Visiting.CONTINUE == this.startVisit(parser)) {
+            if (parser instanceof Parser2) {
+                ((Parser2<?>) parser).accept(this);
+            } else {
+                if (parser instanceof AndNotParser) {
+                    ((AndNotParser<?>) parser).accept(this);
+                } else {
+                    this.visitOther(parser);
+                }
+            }
+        }
+        this.endVisit(parser);
+    }
+
+    protected Visiting startVisit(final Parser<?> parser) {
+        return Visiting.CONTINUE;
+    }
+
+    protected void endVisit(final Parser<?> parser) {
+        // nop
+    }
+
+    // combinators......................................................................................................
+
+    protected Visiting startVisitAlternatives(final Parser<?> parser,
+                                              final List<? extends Parser<?>> alternatives) {
+        return Visiting.CONTINUE;
+    }
+
+    protected void endVisitAlternatives(final Parser<?> parser,
+                                        final List<? extends Parser<?>> alternatives) {
+        // nop
+    }
+
+    protected Visiting startVisitAndEmptyTextCursor(final Parser<?> parser,
+                                                    final Parser<?> wrapped) {
+        return Visiting.CONTINUE;
+    }
+
+    protected void endVisitAndEmptyTextCursor(final Parser<?> parser,
+                                              final Parser<?> wrapped) {
+        // nop
+    }
+
+    /**
+     * The left {@link Parser} is visited before the right.
+     */
+    protected Visiting startVisitAndNot(final Parser<?> parser,
+                                        final Parser<?> left,
+                                        final Parser<?> right) {
+        return Visiting.CONTINUE;
+    }
+
+    protected void endVisitAndNot(final Parser<?> parser,
+                                  final Parser<?> left,
+                                  final Parser<?> right) {
+        // nop
+    }
+
+    /**
+     * The custom {@link Object#toString()} is the {@link Parser#toString()} of the given parser.
+     */
+    protected Visiting startVisitCustomToString(final Parser<?> parser,
+                                                final Parser<?> wrapped) {
+        return Visiting.CONTINUE;
+    }
+
+    protected void endVisitCustomToString(final Parser<?> parser,
+                                          final Parser<?> wrapped) {
+        // nop
+    }
+
+    protected Visiting startVisitExplicitStack(final Parser<?> parser,
+                                               final Parser<?> wrapped) {
+        return Visiting.CONTINUE;
+    }
+
+    protected void endVisitExplicitStack(final Parser<?> parser,
+                                         final Parser<?> wrapped) {
+        // nop
+    }
+
+    /**
+     * The operand {@link Parser} is visited followed by the operator parsers and any whitespace {@link Parser}.
+     */
+    protected Visiting startVisitExpression(final Parser<?> parser,
+                                            final Parser<?> operand,
+                                            final List<? extends Parser<?>> operators) {
+        return Visiting.CONTINUE;
+    }
+
+    protected void endVisitExpression(final Parser<?> parser,
+                                      final Parser<?> operand,
+                                      final List<? extends Parser<?>> operators) {
+        // nop
+    }
+
+    protected Visiting startVisitMemoize(final Parser<?> parser,
+                                         final Parser<?> wrapped) {
+        return Visiting.CONTINUE;
+    }
+
+    protected void endVisitMemoize(final Parser<?> parser,
+                                   final Parser<?> wrapped) {
+        // nop
+    }
+
+    protected Visiting startVisitRepeating(final Parser<?> parser,
+                                           final Parser<?> repeated) {
+        return Visiting.CONTINUE;
+    }
+
+    protected void endVisitRepeating(final Parser<?> parser,
+                                     final Parser<?> repeated) {
+        // nop
+    }
+
+    protected Visiting startVisitReport(final Parser<?> parser,
+                                        final ParserReporterCondition condition,
+                                        final ParserReporter<?> reporter,
+                                        final Parser<?> wrapped) {
+        return Visiting.CONTINUE;
+    }
+
+    protected void endVisitReport(final Parser<?> parser,
+                                  final ParserReporterCondition condition,
+                                  final ParserReporter<?> reporter,
+                                  final Parser<?> wrapped) {
+        // nop
+    }
+
+    /**
+     * Each required component {@link Parser} is visited in order, optional components are surrounded by
+     * {@link #startVisitOptional(Parser)} and {@link #endVisitOptional(Parser)}.
+     */
+    protected Visiting startVisitSequence(final Parser<?> parser) {
+        return Visiting.CONTINUE;
+    }
+
+    protected void endVisitSequence(final Parser<?> parser) {
+        // nop
+    }
+
+    /**
+     * Receives the {@link Parser} of an optional component of a sequence.
+     */
+    protected Visiting startVisitOptional(final Parser<?> parser) {
+        return Visiting.CONTINUE;
+    }
+
+    protected void endVisitOptional(final Parser<?> parser) {
+        // nop
+    }
+
+    protected Visiting startVisitTransform(final Parser<?> parser,
+                                           final Parser<?> wrapped) {
+        return Visiting.CONTINUE;
+    }
+
+    protected void endVisitTransform(final Parser<?> parser,
+                                     final Parser<?> wrapped) {
+        // nop
+    }
+
+    // leaves...........................................................................................................
+
+    protected void visitCharacter(final Parser<?> parser,
+                                  final CharPredicate predicate) {
+        this.visitLeaf(parser);
+    }
+
+    /**
+     * Receives a {@link ReferenceParser} and the {@link Parser} it is bound to if any, which is not visited as it will
+     * usually refer to the reference.
+     */
+    protected void visitReference(final Parser<?> parser,
+                                  final Optional<Parser<?>> bound) {
+        this.visitLeaf(parser);
+    }
+
+    /**
+     * Receives a {@link RuleParser} and its definition if bound, which is not visited as it will usually refer to the
+     * rule.
+     */
+    protected void visitRule(final Parser<?> parser,
+                             final String name,
+                             final Optional<Parser<?>> definition) {
+        this.visitLeaf(parser);
+    }
+
+    protected void visitString(final Parser<?> parser,
+                               final String string,
+                               final CaseSensitivity caseSensitivity) {
+        this.visitLeaf(parser);
+    }
+
+    protected void visitStringCharPredicate(final Parser<?> parser,
+                                            final CharPredicate predicate,
+                                            final int minLength,
+                                            final int maxLength) {
+        this.visitLeaf(parser);
+    }
+
+    protected void visitStringInitialAndPartCharPredicate(final Parser<?> parser,
+                                                          final CharPredicate initial,
+                                                          final CharPredicate part,
+                                                          final int minLength,
+                                                          final int maxLength) {
+        this.visitLeaf(parser);
+    }
+
+    protected void visitStrings(final Parser<?> parser,
+                                final List<String> strings,
+                                final CaseSensitivity caseSensitivity) {
+        this.visitLeaf(parser);
+    }
+
+    protected void visitSurround(final Parser<?> parser,
+                                 final String open,
+                                 final String close) {
+        this.visitLeaf(parser);
+    }
+
+    /**
+     * Receives all leaf parsers created by {@link Parsers}, such as numbers, dates and quoted strings. The leaf
+     * methods with properties such as {@link #visitString(Parser, String, CaseSensitivity)} also call this method
+     * by default.
+     */
+    protected void visitLeaf(final Parser<?> parser) {
+        // nop
+    }
+
+    /**
+     * Receives a {@link Parser} that was not created by {@link Parsers}, it is not possible to visit any parsers
+     * it uses.
+     */
+    protected void visitOther(final Parser<?> parser) {
+        // nop
+    }
+
+    /**
+     * Useful to dispatch and visit all the given parsers.
+     */
+    protected final void acceptParsers(final List<? extends Parser<?>> parsers) {
+        parsers.forEach(this::accept);
+    }
+}
@@ -32,4 +32,12 @@ abstract class ParserWrapper<C extends ParserContext> extends Parser2<C> {
     }
 
     final Parser<C> parser;
+
+    /**
+     * Most wrappers only match when the wrapped {@link Parser} matches.
+     */
+    @Override
+    boolean mayStartWith(final char c) {
+        return mayStartWith(this.parser, c);
+    }
 }
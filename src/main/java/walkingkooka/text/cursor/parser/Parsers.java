@@ -23,6 +23,7 @@ import walkingkooka.text.CaseSensitivity;
 
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -94,6 +95,28 @@ public final class Parsers implements PublicStaticHelper {
         return DoubleQuotedParser.instance();
     }
 
+    /**
+     * {@see ExplicitStackParser}
+     */
+    public static <C extends ParserContext> Parser<C> explicitStack(final Parser<C> parser) {
+        return ExplicitStackParser.with(parser);
+    }
+
+    /**
+     * {@see ExpressionParser}
+     */
+    public static <C extends ParserContext> Parser<C> expression(final Parser<C> operand,
+                                                                 final ExpressionParserOperatorTable<C> operators) {
+        return ExpressionParser.with(operand, operators);
+    }
+
+    /**
+     * {@see ExpressionParserOperatorTable}
+     */
+    public static <C extends ParserContext> ExpressionParserOperatorTable<C> expressionOperatorTable() {
+        return ExpressionParserOperatorTable.empty();
+    }
+
     /**
      * {@see FakeParser}
      */
@@ -129,6 +152,13 @@ public final class Parsers implements PublicStaticHelper {
         return LongParser.with(radix);
     }
 
+    /**
+     * {@see MemoizingParser}
+     */
+    public static <C extends ParserContext> Parser<C> memoize(final Parser<C> parser) {
+        return MemoizingParser.with(parser);
+    }
+
     /**
      * {@see NeverParser}
      */
@@ -150,6 +180,13 @@ public final class Parsers implements PublicStaticHelper {
         return DateTimeFormatterParserOffsetTime.with(formatter);
     }
 
+    /**
+     * {@see ReferenceParser}
+     */
+    public static <C extends ParserContext> ReferenceParser<C> reference() {
+        return ReferenceParser.with();
+    }
+
     /**
      * {@see RepeatingParser}
      */
@@ -166,6 +203,13 @@ public final class Parsers implements PublicStaticHelper {
         return ReportingParser.with(condition, reporter, parser);
     }
 
+    /**
+     * {@see RuleParser}
+     */
+    public static <C extends ParserContext> RuleParser<C> rule(final String name) {
+        return RuleParser.with(name);
+    }
+
     /**
      * {@see SequenceParserBuilder}
      */
@@ -207,6 +251,14 @@ public final class Parsers implements PublicStaticHelper {
         return StringParser.with(literal, caseSensitivity);
     }
 
+    /**
+     * {@see StringsParser}
+     */
+    public static <C extends ParserContext> Parser<C> strings(final Set<String> literals,
+                                                              final CaseSensitivity caseSensitivity) {
+        return StringsParser.with(literals, caseSensitivity);
+    }
+
     /**
      * {@see SurroundStringParser}
      */
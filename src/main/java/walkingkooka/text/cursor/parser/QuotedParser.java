@@ -19,7 +19,6 @@ package walkingkooka.text.cursor.parser;
 import walkingkooka.text.cursor.TextCursor;
 import walkingkooka.text.cursor.TextCursorSavePoint;
 
-import java.util.Optional;
 
 /**
  * This parser matches quoted strings, with support backslash escaping and unicode sequences in the form of backlash-u-4-hex-digits
@@ -31,19 +30,36 @@ abstract class QuotedParser<C extends ParserContext> extends NonEmptyParser<C> {
     }
 
     @Override
-    Optional<ParserToken> tryParse(final TextCursor cursor, final C context, final TextCursorSavePoint start) {
+    ParserToken tryParse(final TextCursor cursor, final C context, final TextCursorSavePoint start) {
         return this.quoteChar() == cursor.at() ?
                 this.tryParse1(cursor, start) :
-                this.empty();
+                null;
     }
 
     abstract char quoteChar();
 
-    private Optional<ParserToken> tryParse1(final TextCursor cursor,
-                                            final TextCursorSavePoint start) {
+    @Override
+    final boolean mayStartWith(final char c) {
+        return this.quoteChar() == c;
+    }
+
+    /**
+     * Consumes characters until the closing quote. If the {@link TextCursor} is backed by a {@link CharSequence} the
+     * text is read directly by index, and the cursor moved once at the end.
+     */
+    private ParserToken tryParse1(final TextCursor cursor,
+                                  final TextCursorSavePoint start) {
         final char quote = this.quoteChar();
 
-        cursor.next();
+        final CharSequence text = IndexedTextCursors.text(cursor);
+        final int length = null != text ? text.length() : 0;
+        int i = null != text ? IndexedTextCursors.offset(cursor) : 0;
+
+        // skip the opening quote
+        i++;
+        if (null == text) {
+            cursor.next();
+        }
 
         ParserToken result = null;
         boolean backslashed = false;
@@ -51,8 +67,13 @@ abstract class QuotedParser<C extends ParserContext> extends NonEmptyParser<C> {
         char unicodeCharValue = 0;
         final StringBuilder raw = new StringBuilder();
 
-        for (; !cursor.isEmpty(); cursor.next()) {
-            final char c = cursor.at();
+        for (; null != text ? i < length : !cursor.isEmpty(); ) {
+            final char c = null != text ? text.charAt(i) : cursor.at();
+            i++;
+            if (null == text) {
+                cursor.next();
+            }
+
             if (backslashed) {
                 backslashed = false;
                 switch (c) {
@@ -85,14 +106,14 @@ abstract class QuotedParser<C extends ParserContext> extends NonEmptyParser<C> {
                         unicodeCharValue = 0;
                         break;
                     default:
-                        throw new ParserException(invalidBackslashEscapeChar(c));
+                        throw fail(cursor, text, i, invalidBackslashEscapeChar(c));
                 }
                 continue;
             }
             if (unicodeDigitCounter >= 0) {
                 final int hex = Character.digit(c, 16);
                 if (-1 == hex) {
-                    throw new ParserException(invalidUnicodeEscapeChar(c));
+                    throw fail(cursor, text, i, invalidUnicodeEscapeChar(c));
                 }
                 unicodeCharValue = (char) (unicodeCharValue * 16 + hex);
                 unicodeDigitCounter++;
@@ -104,7 +125,9 @@ abstract class QuotedParser<C extends ParserContext> extends NonEmptyParser<C> {
             }
             // closing quote found...
             if (quote == c) {
-                cursor.next();
+                if (null != text) {
+                    IndexedTextCursors.setOffset(cursor, i);
+                }
                 result = this.token(raw.toString(), start.textBetween().toString());
                 break;
             }
@@ -116,10 +139,24 @@ abstract class QuotedParser<C extends ParserContext> extends NonEmptyParser<C> {
         }
 
         if (null == result) {
-            throw new ParserException(missingTerminatingQuote(quote));
+            throw fail(cursor, text, i, missingTerminatingQuote(quote));
         }
 
-        return Optional.of(result);
+        return result;
+    }
+
+    /**
+     * Moves a {@link CharSequence} backed cursor to the offset after the offending character, so it is left in the same
+     * position as a cursor that was walked one character at a time, before the {@link ParserException} is thrown.
+     */
+    private static ParserException fail(final TextCursor cursor,
+                                        final CharSequence text,
+                                        final int offset,
+                                        final String message) {
+        if (null != text) {
+            IndexedTextCursors.setOffset(cursor, offset);
+        }
+        return new ParserException(message);
     }
 
     /**
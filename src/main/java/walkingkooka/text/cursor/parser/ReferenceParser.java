@@ -0,0 +1,126 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import walkingkooka.text.cursor.TextCursor;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A placeholder {@link Parser} that is bound once to another {@link Parser}, allowing recursive grammars to refer to
+ * a {@link Parser} before it is created. Parsing simply calls the bound {@link Parser}.
+ * <br>
+ * {@link Parser#compile()} replaces the reference with its compiled target, so a reference that is only used to
+ * declare a {@link Parser} before it is created costs nothing once compiled. A reference that is used recursively is
+ * not removed from the cycle: each cycle keeps one reference, bound once to the compiled target, and each recursive
+ * use pays one extra call through it. The reference is what stops {@link ParserVisitor}, {@link Parser#compile()}
+ * and the first character dispatch of alternatives from walking a cycle forever, so it cannot be replaced by a cycle
+ * of the compiled parsers themselves.
+ */
+public final class ReferenceParser<C extends ParserContext> extends Parser2<C> {
+
+    static <C extends ParserContext> ReferenceParser<C> with() {
+        return new ReferenceParser<>(TO_STRING);
+    }
+
+    private final static String TO_STRING = "Reference";
+
+    private ReferenceParser(final String toString) {
+        super(toString);
+    }
+
+    /**
+     * Sets the {@link Parser} this reference parses with, which may only happen once.
+     */
+    public ReferenceParser<C> bind(final Parser<C> parser) {
+        Objects.requireNonNull(parser, "parser");
+
+        if (null != this.parser) {
+            throw new IllegalStateException("Reference already bound");
+        }
+        this.parser = parser;
+        return this;
+    }
+
+    /**
+     * The bound {@link Parser} which is null until bound.
+     */
+    private Parser<C> parser;
+
+    Parser<C> parserOrFail() {
+        final Parser<C> parser = this.parser;
+        if (null == parser) {
+            throw new IllegalStateException("Reference not bound");
+        }
+        return parser;
+    }
+
+    // Parser...........................................................................................................
+
+    @Override
+    public ParserToken parseOrNull(final TextCursor cursor,
+                                   final C context) {
+        return this.parserOrFail()
+                .parseOrNull(cursor, context);
+    }
+
+    // ParserVisitor....................................................................................................
+
+    /**
+     * The bound {@link Parser} is not visited, as it will usually contain this reference.
+     */
+    @Override
+    void accept(final ParserVisitor visitor) {
+        visitor.visitReference(
+                this,
+                Optional.ofNullable(this.parser)
+        );
+    }
+
+    // Parser2..........................................................................................................
+
+    /**
+     * Returns the compiled bound {@link Parser}. A new reference is recorded as the compiled form of this reference
+     * while the bound {@link Parser} is compiled, so any recursive uses refer to the new reference, which is then
+     * bound to the compiled {@link Parser}. The new reference is only reachable when the bound {@link Parser} refers
+     * back to this reference.
+     */
+    @Override
+    Parser<C> compile(final ParserCompiler compiler) {
+        final Parser<C> parser = this.parserOrFail();
+
+        final ReferenceParser<C> recursive = new ReferenceParser<>(this.toString);
+        compiler.put(this, recursive);
+
+        final Parser<C> compiled = compiler.compileParser(parser);
+        recursive.bind(compiled);
+        return compiled;
+    }
+
+    /**
+     * A renamed reference wraps this reference, so it parses using the {@link Parser} bound to this reference.
+     */
+    @Override
+    Parser<C> replaceToString(final String toString) {
+        return CustomToStringParser.wrap(
+                this,
+                toString
+        );
+    }
+}
@@ -30,7 +30,7 @@ abstract public class RepeatedOrSequenceParserToken extends ValueParserToken<Lis
     /**
      * Private ctor to limit subclassing.
      */
-    RepeatedOrSequenceParserToken(final List<ParserToken> value, final String text) {
+    RepeatedOrSequenceParserToken(final List<ParserToken> value, final CharSequence text) {
         super(value, text);
 
         if (value.isEmpty()) {
@@ -26,14 +26,14 @@ import java.util.Objects;
  */
 public final class RepeatedParserToken extends RepeatedOrSequenceParserToken {
 
-    static RepeatedParserToken with(final List<ParserToken> tokens, final String text) {
+    static RepeatedParserToken with(final List<ParserToken> tokens, final CharSequence text) {
         Objects.requireNonNull(tokens, "tokens");
         Objects.requireNonNull(text, "text");
 
         return new RepeatedParserToken(tokens, text);
     }
 
-    private RepeatedParserToken(final List<ParserToken> tokens, final String text) {
+    private RepeatedParserToken(final List<ParserToken> tokens, final CharSequence text) {
         super(tokens, text);
     }
 
@@ -19,10 +19,10 @@ package walkingkooka.text.cursor.parser;
 import walkingkooka.collect.list.Lists;
 import walkingkooka.text.cursor.TextCursor;
 import walkingkooka.text.cursor.TextCursorSavePoint;
+import walkingkooka.visit.Visiting;
 
 import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
 
 /**
  * A {@link Parser} that only matches one or more tokens matched by a different provided {@link Parser}.
@@ -48,28 +48,62 @@ final class RepeatingParser<C extends ParserContext> extends NonEmptyParser<C> {
     }
 
     @Override
-    Optional<ParserToken> tryParse(final TextCursor cursor,
-                                   final C context,
-                                   final TextCursorSavePoint start) {
+    ParserToken tryParse(final TextCursor cursor,
+                         final C context,
+                         final TextCursorSavePoint start) {
+        final Parser<C> parser = this.parser;
         final List<ParserToken> tokens = Lists.array();
 
+        final CharSequence text = IndexedTextCursors.text(cursor);
+        final int begin = null != text ? IndexedTextCursors.offset(cursor) : 0;
+
         for (; ; ) {
-            final Optional<ParserToken> maybe = this.parser.parse(cursor, context);
-            if (!maybe.isPresent()) {
+            final ParserToken token = parser.parseOrNull(cursor, context);
+            if (null == token) {
                 break;
             }
-            tokens.add(maybe.get());
+            tokens.add(token);
         }
 
         return tokens.isEmpty() ?
-                this.empty() :
-                Optional.of(RepeatedParserToken.with(tokens, start.textBetween().toString()));
+                null :
+                RepeatedParserToken.with(
+                        tokens,
+                        ParserTokenText.textBetween(text, begin, cursor, start)
+                );
     }
 
-    private final Parser<C> parser;
+    final Parser<C> parser;
+
+    @Override
+    boolean mayStartWith(final char c) {
+        return mayStartWith(this.parser, c);
+    }
+
+    // ParserVisitor....................................................................................................
+
+    @Override
+    void accept(final ParserVisitor visitor) {
+        if (Visiting.CONTINUE == visitor.startVisitRepeating(this, this.parser)) {
+            visitor.accept(this.parser);
+        }
+        visitor.endVisitRepeating(this, this.parser);
+    }
 
     // Parser2..........................................................................................................
 
+    @Override
+    Parser<C> compile(final ParserCompiler compiler) {
+        final Parser<C> parser = compiler.compileParser(this.parser);
+
+        return parser == this.parser ?
+                this :
+                new RepeatingParser<>(
+                        parser,
+                        this.toString
+                );
+    }
+
     @Override
     RepeatingParser<C> replaceToString(final String toString) {
         return new RepeatingParser<>(
@@ -18,9 +18,9 @@
 package walkingkooka.text.cursor.parser;
 
 import walkingkooka.text.cursor.TextCursor;
+import walkingkooka.visit.Visiting;
 
 import java.util.Objects;
-import java.util.Optional;
 
 /**
  * A {@link Parser} that acts as a bridge invoking a {@link ParserReporter}. The reporter will
@@ -60,27 +60,60 @@ final class ReportingParser<C extends ParserContext> extends ParserWrapper<C> {
     }
 
     @Override
-    public Optional<ParserToken> parse(final TextCursor cursor, final C context) {
+    public ParserToken parseOrNull(final TextCursor cursor, final C context) {
         return this.condition.parse(cursor, this, context);
     }
 
-    Optional<ParserToken> report(final TextCursor cursor, final C context) {
-        return this.reporter.report(cursor, context, this.parser);
+    ParserToken report(final TextCursor cursor, final C context) {
+        return this.reporter.report(cursor, context, this.parser)
+                .orElse(null);
     }
 
-    Optional<ParserToken> reportIfNotEmpty(final TextCursor cursor, final C context) {
-        final Optional<ParserToken> result = this.parser.parse(cursor, context);
+    ParserToken reportIfNotEmpty(final TextCursor cursor, final C context) {
+        final ParserToken result = this.parser.parseOrNull(cursor, context);
         return cursor.isEmpty() ?
                 result :
                 this.report(cursor, context);
     }
 
-    private final ParserReporterCondition condition;
+    /**
+     * The {@link ParserReporter} may be triggered by any character, so this parser must always be tried.
+     */
+    @Override
+    boolean mayStartWith(final char c) {
+        return true;
+    }
+
+    final ParserReporterCondition condition;
 
     private final ParserReporter<C> reporter;
 
+    // ParserVisitor....................................................................................................
+
+    @Override
+    void accept(final ParserVisitor visitor) {
+        if (Visiting.CONTINUE == visitor.startVisitReport(this, this.condition, this.reporter, this.parser)) {
+            visitor.accept(this.parser);
+        }
+        visitor.endVisitReport(this, this.condition, this.reporter, this.parser);
+    }
+
     // Parser2..........................................................................................................
 
+    @Override
+    Parser<C> compile(final ParserCompiler compiler) {
+        final Parser<C> parser = compiler.compileParser(this.parser);
+
+        return parser == this.parser ?
+                this :
+                new ReportingParser<>(
+                        this.condition,
+                        this.reporter,
+                        parser,
+                        this.toString
+                );
+    }
+
     @Override
     ReportingParser<C> replaceToString(final String toString) {
         return new ReportingParser(
@@ -0,0 +1,240 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import walkingkooka.text.CharSequences;
+import walkingkooka.text.Whitespace;
+import walkingkooka.text.cursor.TextCursor;
+import walkingkooka.text.cursor.TextCursorSavePoint;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A named {@link Parser} that is bound to the {@link Parser} holding its definition after it is created, so it may
+ * be used within its own definition. Rules may be left recursive, such as <code>expr := expr '+' term | term</code>,
+ * which produces left nested tokens directly.
+ * <br>
+ * Left recursion is handled by growing a seed. When the rule is called again at the same offset before it consumed
+ * anything, that call fails, and the first result becomes the seed. The definition is then parsed again with
+ * recursive calls returning the seed, until the result no longer gets longer. Indirect left recursion through other
+ * rules or parsers is handled the same way.
+ */
+public final class RuleParser<C extends ParserContext> extends Parser2<C> {
+
+    static <C extends ParserContext> RuleParser<C> with(final String name) {
+        Whitespace.failIfNullOrEmptyOrWhitespace(name, "name");
+
+        return new RuleParser<>(name);
+    }
+
+    private RuleParser(final String name) {
+        super(name);
+    }
+
+    /**
+     * Sets the definition of this rule, which may only happen once.
+     */
+    public RuleParser<C> bind(final Parser<C> parser) {
+        Objects.requireNonNull(parser, "parser");
+
+        if (null != this.parser) {
+            throw new IllegalStateException("Rule " + CharSequences.quote(this.toString) + " already bound");
+        }
+        this.parser = parser;
+        return this;
+    }
+
+    /**
+     * The definition of this rule, which is null until bound.
+     */
+    private Parser<C> parser;
+
+    Parser<C> parserOrFail() {
+        final Parser<C> parser = this.parser;
+        if (null == parser) {
+            throw new IllegalStateException("Rule " + CharSequences.quote(this.toString) + " not bound");
+        }
+        return parser;
+    }
+
+    // Parser...........................................................................................................
+
+    @Override
+    public ParserToken parseOrNull(final TextCursor cursor,
+                                   final C context) {
+        final Parser<C> parser = this.parserOrFail();
+        final ParserToken token;
+
+        if (cursor instanceof MemoizingParserTextCursor) {
+            token = this.parseRule(
+                    (MemoizingParserTextCursor) cursor,
+                    context,
+                    parser
+            );
+        } else {
+            // the outermost rule, any heads are discarded after this parse
+            token = this.parseRule(
+                    MemoizingParserTextCursor.with(cursor),
+                    context,
+                    parser
+            );
+        }
+
+        return token;
+    }
+
+    private ParserToken parseRule(final MemoizingParserTextCursor cursor,
+                                  final C context,
+                                  final Parser<C> parser) {
+        final int offset = cursor.offset();
+        final Long key = MemoizingParserTable.key(
+                cursor.table().id(this),
+                offset
+        );
+        final Map<Long, RuleParserHead> heads = cursor.heads;
+        final RuleParserHead head = heads.get(key);
+
+        ParserToken token;
+
+        if (null != head) {
+            // called again at the same offset without consuming anything
+            if (false == head.leftRecursion) {
+                head.leftRecursion = true;
+                cursor.leftRecursions++;
+            }
+            token = head.token;
+            if (null != token) {
+                cursor.setOffset(head.end);
+            }
+        } else {
+            final RuleParserHead newHead = RuleParserHead.empty();
+            heads.put(key, newHead);
+
+            // a definition that throws must not leave its head behind or memoizing disabled
+            try {
+                final TextCursorSavePoint start = cursor.save();
+                token = parser.parseOrNull(cursor, context);
+                if (newHead.leftRecursion) {
+                    token = this.grow(
+                            cursor,
+                            context,
+                            parser,
+                            start,
+                            newHead,
+                            token
+                    );
+                }
+            } finally {
+                if (newHead.leftRecursion) {
+                    cursor.leftRecursions--;
+                }
+                heads.remove(key);
+            }
+        }
+
+        return token;
+    }
+
+    /**
+     * Parses the definition again with the previous result as the result of any left recursive call, until the result
+     * stops getting longer.
+     */
+    private ParserToken grow(final MemoizingParserTextCursor cursor,
+                             final C context,
+                             final Parser<C> parser,
+                             final TextCursorSavePoint start,
+                             final RuleParserHead head,
+                             final ParserToken seed) {
+        ParserToken token = seed;
+
+        if (null != token) {
+            int end = cursor.offset();
+
+            for (; ; ) {
+                head.token = token;
+                head.end = end;
+
+                start.restore();
+                final ParserToken grown = parser.parseOrNull(cursor, context);
+                final int grownEnd = cursor.offset();
+
+                if (null == grown || grownEnd <= end) {
+                    break;
+                }
+                token = grown;
+                end = grownEnd;
+            }
+
+            cursor.setOffset(end);
+        }
+
+        return token;
+    }
+
+    // ParserVisitor....................................................................................................
+
+    /**
+     * The definition is not visited, as it will usually contain this rule.
+     */
+    @Override
+    void accept(final ParserVisitor visitor) {
+        visitor.visitRule(
+                this,
+                this.toString,
+                Optional.ofNullable(this.parser)
+        );
+    }
+
+    // Parser2..........................................................................................................
+
+    /**
+     * Returns a new rule with the same name bound to the compiled definition, or this rule if the definition is
+     * unchanged. The new rule is recorded as the compiled form of this rule before the definition is compiled, so
+     * recursive uses within the definition refer to the new rule.
+     */
+    @Override
+    Parser<C> compile(final ParserCompiler compiler) {
+        final Parser<C> parser = this.parserOrFail();
+
+        final RuleParser<C> compiled = new RuleParser<>(this.toString);
+        compiler.put(this, compiled);
+
+        final Parser<C> compiledParser = compiler.compileParser(parser);
+        final RuleParser<C> rule;
+        if (parser == compiledParser) {
+            compiler.put(this, this);
+            rule = this;
+        } else {
+            rule = compiled.bind(compiledParser);
+        }
+        return rule;
+    }
+
+    /**
+     * A renamed rule wraps this rule, so it parses using the definition bound to this rule.
+     */
+    @Override
+    Parser<C> replaceToString(final String toString) {
+        return CustomToStringParser.wrap(
+                this,
+                toString
+        );
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+/**
+ * Records a {@link RuleParser} being parsed at an offset, detecting when the rule is called again at the same offset
+ * before it has consumed any text, which is left recursion. While the rule grows its result, the best result so far is
+ * returned for these recursive calls.
+ */
+final class RuleParserHead {
+
+    static RuleParserHead empty() {
+        return new RuleParserHead();
+    }
+
+    private RuleParserHead() {
+        super();
+    }
+
+    /**
+     * Becomes true when the rule is called again at the same offset.
+     */
+    boolean leftRecursion;
+
+    /**
+     * The best result so far, which is null until the first result is parsed.
+     */
+    ParserToken token;
+
+    /**
+     * The end offset of {@link #token}.
+     */
+    int end;
+
+    @Override
+    public String toString() {
+        return (this.leftRecursion ? "leftRecursion " : "") + this.token + " " + this.end;
+    }
+}
@@ -19,9 +19,9 @@ package walkingkooka.text.cursor.parser;
 import walkingkooka.collect.list.Lists;
 import walkingkooka.text.cursor.TextCursor;
 import walkingkooka.text.cursor.TextCursorSavePoint;
+import walkingkooka.visit.Visiting;
 
 import java.util.List;
-import java.util.Optional;
 
 /**
  * A {@link Parser} that requires all parsers are matched in order returning all tokens within a {@link SequenceParserToken}
@@ -45,17 +45,20 @@ final class SequenceParser<C extends ParserContext> extends NonEmptyParser<C> {
     }
 
     @Override
-    Optional<ParserToken> tryParse(final TextCursor cursor,
-                                   final C context,
-                                   final TextCursorSavePoint start) {
-        Optional<ParserToken> result = Optional.empty();
+    ParserToken tryParse(final TextCursor cursor,
+                         final C context,
+                         final TextCursorSavePoint start) {
+        ParserToken result = null;
+
+        final CharSequence text = IndexedTextCursors.text(cursor);
+        final int begin = null != text ? IndexedTextCursors.offset(cursor) : 0;
 
         final List<ParserToken> tokens = Lists.array();
 
         for (SequenceParserComponent<C> component : this.components) {
-            final Optional<ParserToken> token = component.parse(cursor, context);
-            if (token.isPresent()) {
-                tokens.add(token.get());
+            final ParserToken token = component.parseOrNull(cursor, context);
+            if (null != token) {
+                tokens.add(token);
                 continue;
             }
             if (component.abortIfMissing()) {
@@ -65,12 +68,35 @@ final class SequenceParser<C extends ParserContext> extends NonEmptyParser<C> {
         }
 
         if (!tokens.isEmpty()) {
-            result = Optional.of(SequenceParserToken.with(tokens, start.textBetween().toString()));
+            result = SequenceParserToken.with(
+                    tokens,
+                    ParserTokenText.textBetween(text, begin, cursor, start)
+            );
         }
         return result;
     }
 
-    private final List<SequenceParserComponent<C>> components;
+    final List<SequenceParserComponent<C>> components;
+
+    /**
+     * Tests all optional components until the first required component, as any of these may consume the first character.
+     */
+    @Override
+    boolean mayStartWith(final char c) {
+        boolean may = false;
+
+        for (final SequenceParserComponent<C> component : this.components) {
+            if (mayStartWith(component.parser, c)) {
+                may = true;
+                break;
+            }
+            if (component.abortIfMissing()) {
+                break;
+            }
+        }
+
+        return may;
+    }
 
     // Object .............................................................................................................
 
@@ -88,8 +114,47 @@ final class SequenceParser<C extends ParserContext> extends NonEmptyParser<C> {
         return this.components.equals(other.components);
     }
 
+    // ParserVisitor....................................................................................................
+
+    @Override
+    void accept(final ParserVisitor visitor) {
+        if (Visiting.CONTINUE == visitor.startVisitSequence(this)) {
+            for (final SequenceParserComponent<C> component : this.components) {
+                component.accept(visitor);
+            }
+        }
+        visitor.endVisitSequence(this);
+    }
+
     // Parser2..........................................................................................................
 
+    /**
+     * Compiles the {@link Parser} of each component. Nested {@link SequenceParser} are not merged, because they
+     * produce nested {@link SequenceParserToken}.
+     */
+    @Override
+    Parser<C> compile(final ParserCompiler compiler) {
+        final List<SequenceParserComponent<C>> components = Lists.array();
+        boolean changed = false;
+
+        for (final SequenceParserComponent<C> component : this.components) {
+            final Parser<C> parser = compiler.compileParser(component.parser);
+            if (parser == component.parser) {
+                components.add(component);
+            } else {
+                components.add(component.setParser(parser));
+                changed = true;
+            }
+        }
+
+        return changed ?
+                new SequenceParser<>(
+                        components,
+                        this.toString
+                ) :
+                this;
+    }
+
     @Override
     SequenceParser<C> replaceToString(final String toString) {
         return new SequenceParser<>(
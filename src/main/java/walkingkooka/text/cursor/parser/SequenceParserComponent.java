@@ -20,7 +20,6 @@ import walkingkooka.text.cursor.TextCursor;
 
 import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -34,12 +33,25 @@ abstract class SequenceParserComponent<C extends ParserContext> {
         this.parser = parser;
     }
 
-    abstract Optional<ParserToken> parse(final TextCursor cursor, final C context);
+    /**
+     * Returns the token or null if the {@link Parser} failed.
+     */
+    abstract ParserToken parseOrNull(final TextCursor cursor, final C context);
 
     abstract boolean abortIfMissing();
 
+    /**
+     * Returns a component of the same type with the given {@link Parser}.
+     */
+    abstract SequenceParserComponent<C> setParser(final Parser<C> parser);
+
     final Parser<C> parser;
 
+    /**
+     * Visits the {@link Parser} of this component.
+     */
+    abstract void accept(final ParserVisitor visitor);
+
     // Object .............................................................................................................
 
     @Override
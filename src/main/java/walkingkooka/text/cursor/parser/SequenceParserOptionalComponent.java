@@ -17,8 +17,7 @@
 package walkingkooka.text.cursor.parser;
 
 import walkingkooka.text.cursor.TextCursor;
-
-import java.util.Optional;
+import walkingkooka.visit.Visiting;
 
 /**
  * A component that is optional.
@@ -33,8 +32,9 @@ final class SequenceParserOptionalComponent<C extends ParserContext> extends Seq
         super(parser);
     }
 
-    @Override Optional<ParserToken> parse(final TextCursor cursor, final C context) {
-        return this.parser.parse(cursor, context);
+    @Override
+    ParserToken parseOrNull(final TextCursor cursor, final C context) {
+        return this.parser.parseOrNull(cursor, context);
     }
 
     @Override
@@ -42,6 +42,19 @@ final class SequenceParserOptionalComponent<C extends ParserContext> extends Seq
         return false;
     }
 
+    @Override
+    SequenceParserOptionalComponent<C> setParser(final Parser<C> parser) {
+        return with(parser);
+    }
+
+    @Override
+    void accept(final ParserVisitor visitor) {
+        if (Visiting.CONTINUE == visitor.startVisitOptional(this.parser)) {
+            visitor.accept(this.parser);
+        }
+        visitor.endVisitOptional(this.parser);
+    }
+
     @Override
     boolean canBeEqual(final Object other) {
         return other instanceof SequenceParserOptionalComponent;
@@ -18,8 +18,6 @@ package walkingkooka.text.cursor.parser;
 
 import walkingkooka.text.cursor.TextCursor;
 
-import java.util.Optional;
-
 final class SequenceParserRequiredComponent<C extends ParserContext> extends SequenceParserComponent<C> {
 
     static <C extends ParserContext> SequenceParserRequiredComponent<C> with(final Parser<C> parser) {
@@ -30,8 +28,9 @@ final class SequenceParserRequiredComponent<C extends ParserContext> extends Seq
         super(parser);
     }
 
-    @Override Optional<ParserToken> parse(final TextCursor cursor, final C context) {
-        return this.parser.parse(cursor, context);
+    @Override
+    ParserToken parseOrNull(final TextCursor cursor, final C context) {
+        return this.parser.parseOrNull(cursor, context);
     }
 
     @Override
@@ -39,6 +38,16 @@ final class SequenceParserRequiredComponent<C extends ParserContext> extends Seq
         return true;
     }
 
+    @Override
+    SequenceParserRequiredComponent<C> setParser(final Parser<C> parser) {
+        return with(parser);
+    }
+
+    @Override
+    void accept(final ParserVisitor visitor) {
+        visitor.accept(this.parser);
+    }
+
     @Override
     boolean canBeEqual(final Object other) {
         return other instanceof SequenceParserRequiredComponent;
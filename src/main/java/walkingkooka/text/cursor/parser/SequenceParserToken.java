@@ -32,14 +32,14 @@ public final class SequenceParserToken extends RepeatedOrSequenceParserToken {
     /**
      * Factory that wraps many tokens in a {@link SequenceParserToken}.
      */
-    static SequenceParserToken with(final List<ParserToken> tokens, final String text) {
+    static SequenceParserToken with(final List<ParserToken> tokens, final CharSequence text) {
         Objects.requireNonNull(tokens, "tokens");
         Objects.requireNonNull(text, "text");
 
         return new SequenceParserToken(tokens, text);
     }
 
-    private SequenceParserToken(final List<ParserToken> tokens, final String text) {
+    private SequenceParserToken(final List<ParserToken> tokens, final CharSequence text) {
         super(tokens, text);
     }
 
@@ -124,6 +124,22 @@ public final class SequenceParserToken extends RepeatedOrSequenceParserToken {
 
     private ParserToken tryFindAndIntroduceBinaryOperator(final List<ParserToken> tokens,
                                                           final BinaryOperatorTransformer transformer) {
+        List<ParserToken> result = SequenceParserTokenBinaryOperatorShuntingYard.transform(tokens, transformer);
+        if (null == result) {
+            result = tryFindAndIntroduceBinaryOperatorEachPriority(tokens, transformer);
+        }
+
+        return result.size() == 1 ?
+                result.get(0) :
+                ParserTokens.sequence(result, this.text());
+    }
+
+    /**
+     * Handles tokens that are not an alternating list of operands and operators, scanning for the first operator of
+     * each priority from highest to lowest, reducing it with its nearest non whitespace siblings.
+     */
+    private static List<ParserToken> tryFindAndIntroduceBinaryOperatorEachPriority(final List<ParserToken> tokens,
+                                                                                final BinaryOperatorTransformer transformer) {
         List<ParserToken> result = Lists.array();
         result.addAll(tokens);
 
@@ -158,9 +174,7 @@ public final class SequenceParserToken extends RepeatedOrSequenceParserToken {
             } while (changed && result.size() > 1);
         }
 
-        return result.size() == 1 ?
-                result.get(0) :
-                ParserTokens.sequence(result, this.text());
+        return result;
     }
 
     private static int findNonWhitespaceSibling(final List<ParserToken> tokens,
@@ -0,0 +1,226 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import walkingkooka.collect.list.Lists;
+
+import java.util.List;
+
+/**
+ * Introduces binary operators into the flattened tokens of a {@link SequenceParserToken} in a single pass, using an
+ * operand and operator stack. Operators with the same priority are grouped from the left, and whitespace around an
+ * operator is included in the tokens given to {@link BinaryOperatorTransformer#binaryOperand(List, String, ParserToken)}.
+ * <br>
+ * Only tokens that alternate between operands and operators, with optional whitespace between them, are handled.
+ * For anything else, such as two operators in a row or a trailing operator, null is returned and the caller falls back
+ * to the original algorithm, which has its own rules for these cases.
+ */
+final class SequenceParserTokenBinaryOperatorShuntingYard {
+
+    /**
+     * Returns the tokens with all binary operators introduced or null if the tokens are not an alternating list of
+     * operands and operators.
+     */
+    static List<ParserToken> transform(final List<ParserToken> tokens,
+                                       final BinaryOperatorTransformer transformer) {
+        return new SequenceParserTokenBinaryOperatorShuntingYard(transformer)
+                .transform(tokens);
+    }
+
+    private SequenceParserTokenBinaryOperatorShuntingYard(final BinaryOperatorTransformer transformer) {
+        super();
+        this.transformer = transformer;
+        this.highestPriority = transformer.highestPriority();
+        this.lowestPriority = transformer.lowestPriority();
+    }
+
+    private List<ParserToken> transform(final List<ParserToken> tokens) {
+        final List<ParserToken> result = Lists.array();
+
+        final int count = tokens.size();
+        int i = 0;
+
+        // leading whitespace
+        while (i < count) {
+            final ParserToken token = tokens.get(i);
+            if (false == token.isWhitespace()) {
+                break;
+            }
+            if (this.isOperator(token)) {
+                return null;
+            }
+            result.add(token);
+            i++;
+        }
+
+        List<ParserToken> whitespace = Lists.array();
+        boolean operand = true;
+
+        while (i < count) {
+            final ParserToken token = tokens.get(i);
+            i++;
+
+            final int priority = this.transformer.priority(token);
+            final boolean operator = this.isOperator(priority);
+
+            if (token.isWhitespace()) {
+                if (operator) {
+                    return null;
+                }
+                whitespace.add(token);
+                continue;
+            }
+
+            if (operand) {
+                if (operator) {
+                    return null;
+                }
+                if (this.operatorCount > 0) {
+                    this.operatorTokens[this.operatorCount - 1].addAll(whitespace);
+                    whitespace.clear();
+                }
+                this.pushOperand(token);
+            } else {
+                if (false == operator) {
+                    return null;
+                }
+                // operators with the same priority group from the left
+                while (this.operatorCount > 0 && this.operatorPriorities[this.operatorCount - 1] >= priority) {
+                    if (false == this.reduce()) {
+                        return null;
+                    }
+                }
+                whitespace.add(token);
+                this.pushOperator(token, priority, whitespace);
+                whitespace = Lists.array();
+            }
+            operand = !operand;
+        }
+
+        // missing the right operand of the last operator
+        if (operand) {
+            return null;
+        }
+
+        while (this.operatorCount > 0) {
+            if (false == this.reduce()) {
+                return null;
+            }
+        }
+
+        result.add(this.operands[0]);
+        result.addAll(whitespace);
+        return result;
+    }
+
+    /**
+     * Replaces the top operator and its two operands with the {@link ParserToken} created by
+     * {@link BinaryOperatorTransformer#binaryOperand(List, String, ParserToken)}. Returns false if the new token is
+     * itself reported as an operator, which the original algorithm would then try to reduce.
+     */
+    private boolean reduce() {
+        final int operatorIndex = --this.operatorCount;
+        final ParserToken right = this.operands[--this.operandCount];
+        final ParserToken left = this.operands[this.operandCount - 1];
+
+        final List<ParserToken> tokens = Lists.array();
+        tokens.add(left);
+        tokens.addAll(this.operatorTokens[operatorIndex]);
+        tokens.add(right);
+
+        final ParserToken binary = this.transformer.binaryOperand(
+                tokens,
+                ParserToken.text(tokens),
+                this.operators[operatorIndex]
+        );
+        this.operands[this.operandCount - 1] = binary;
+
+        this.operators[operatorIndex] = null;
+        this.operatorTokens[operatorIndex] = null;
+
+        return false == this.isOperator(binary);
+    }
+
+    private void pushOperand(final ParserToken operand) {
+        final int count = this.operandCount;
+        if (count == this.operands.length) {
+            final ParserToken[] operands = new ParserToken[count * 2];
+            System.arraycopy(this.operands, 0, operands, 0, count);
+            this.operands = operands;
+        }
+        this.operands[count] = operand;
+        this.operandCount = count + 1;
+    }
+
+    private void pushOperator(final ParserToken operator,
+                              final int priority,
+                              final List<ParserToken> tokens) {
+        final int count = this.operatorCount;
+        if (count == this.operators.length) {
+            final int length = count * 2;
+
+            final ParserToken[] operators = new ParserToken[length];
+            System.arraycopy(this.operators, 0, operators, 0, count);
+            this.operators = operators;
+
+            final int[] operatorPriorities = new int[length];
+            System.arraycopy(this.operatorPriorities, 0, operatorPriorities, 0, count);
+            this.operatorPriorities = operatorPriorities;
+
+            @SuppressWarnings("unchecked") final List<ParserToken>[] operatorTokens = new List[length];
+            System.arraycopy(this.operatorTokens, 0, operatorTokens, 0, count);
+            this.operatorTokens = operatorTokens;
+        }
+        this.operators[count] = operator;
+        this.operatorPriorities[count] = priority;
+        this.operatorTokens[count] = tokens;
+        this.operatorCount = count + 1;
+    }
+
+    private boolean isOperator(final ParserToken token) {
+        return this.isOperator(this.transformer.priority(token));
+    }
+
+    private boolean isOperator(final int priority) {
+        return priority >= this.lowestPriority && priority <= this.highestPriority;
+    }
+
+    private final BinaryOperatorTransformer transformer;
+
+    private final int highestPriority;
+
+    private final int lowestPriority;
+
+    private ParserToken[] operands = new ParserToken[INITIAL_CAPACITY];
+
+    private int operandCount;
+
+    private ParserToken[] operators = new ParserToken[INITIAL_CAPACITY];
+
+    private int[] operatorPriorities = new int[INITIAL_CAPACITY];
+
+    /**
+     * The whitespace before, the operator itself and the whitespace after each operator.
+     */
+    @SuppressWarnings("unchecked")
+    private List<ParserToken>[] operatorTokens = new List[INITIAL_CAPACITY];
+
+    private int operatorCount;
+
+    private final static int INITIAL_CAPACITY = 8;
+}
@@ -21,7 +21,6 @@ import walkingkooka.text.cursor.TextCursor;
 import walkingkooka.text.cursor.TextCursorSavePoint;
 
 import java.util.Objects;
-import java.util.Optional;
 
 /**
  * A {@link Parser} that continues to consume characters that are matched by a given {@link CharPredicate}.
@@ -57,26 +56,64 @@ final class StringCharPredicateParser<C extends ParserContext> extends NonEmptyP
         super(toString);
 
         this.predicate = predicate;
+        this.bitmap = StringCharPredicateParserAsciiBitmap.with(predicate);
         this.minLength = minLength;
         this.maxLength = maxLength;
     }
 
     @Override
-    Optional<ParserToken> tryParse(final TextCursor cursor,
-                                   final C context,
-                                   final TextCursorSavePoint start) {
-        return this.predicate.test(cursor.at()) ?
-                this.consumeRemaining(cursor, start) :
-                this.empty();
+    ParserToken tryParse(final TextCursor cursor,
+                         final C context,
+                         final TextCursorSavePoint start) {
+        final CharSequence text = IndexedTextCursors.text(cursor);
+
+        return null != text ?
+                this.tryParseIndexed(cursor, text, start) :
+                this.bitmap.test(cursor.at()) ?
+                        this.consumeRemaining(cursor, start) :
+                        null;
     }
 
     private final CharPredicate predicate;
 
-    private Optional<ParserToken> consumeRemaining(final TextCursor cursor, final TextCursorSavePoint start) {
+    /**
+     * Used to test characters, avoiding calling the {@link CharPredicate} for ASCII characters.
+     */
+    private final StringCharPredicateParserAsciiBitmap bitmap;
+
+    @Override
+    boolean mayStartWith(final char c) {
+        return this.bitmap.test(c);
+    }
+
+    /**
+     * Scans the text directly by index, moving the {@link TextCursor} only once if successful.
+     */
+    private ParserToken tryParseIndexed(final TextCursor cursor,
+                                        final CharSequence text,
+                                        final TextCursorSavePoint start) {
+        final int begin = IndexedTextCursors.offset(cursor);
+        final int length = text.length();
+        final int end = length - begin > this.maxLength ?
+                begin + this.maxLength :
+                length;
+
+        final int i = this.bitmap.scan(text, begin, end);
+
+        ParserToken token = null;
+        if (i - begin >= this.minLength) {
+            IndexedTextCursors.setOffset(cursor, i);
+            token = stringParserToken(start);
+        }
+        return token;
+    }
+
+    private ParserToken consumeRemaining(final TextCursor cursor, final TextCursorSavePoint start) {
         cursor.next();
 
         int i = 1;
-        while (!cursor.isEmpty() && i < this.maxLength && this.predicate.test(cursor.at())) {
+        final StringCharPredicateParserAsciiBitmap bitmap = this.bitmap;
+        while (!cursor.isEmpty() && i < this.maxLength && bitmap.test(cursor.at())) {
             cursor.next();
 
             i++;
@@ -84,15 +121,22 @@ final class StringCharPredicateParser<C extends ParserContext> extends NonEmptyP
 
         return i >= this.minLength ?
                 stringParserToken(start) :
-                this.empty();
+                null;
     }
 
     private final int minLength;
     private final int maxLength;
 
-    private static Optional<ParserToken> stringParserToken(final TextCursorSavePoint start) {
+    private static ParserToken stringParserToken(final TextCursorSavePoint start) {
         final String text = start.textBetween().toString();
-        return Optional.of(StringParserToken.with(text, text));
+        return StringParserToken.with(text, text);
+    }
+
+    // ParserVisitor....................................................................................................
+
+    @Override
+    void accept(final ParserVisitor visitor) {
+        visitor.visitStringCharPredicate(this, this.predicate, this.minLength, this.maxLength);
     }
 
     // Parser2..........................................................................................................
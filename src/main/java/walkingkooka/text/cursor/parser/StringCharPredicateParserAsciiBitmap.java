@@ -0,0 +1,107 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import walkingkooka.predicate.character.CharPredicate;
+
+/**
+ * Holds the results of testing every ASCII character against a {@link CharPredicate} in two longs, other
+ * characters are tested using the {@link CharPredicate}. This assumes the {@link CharPredicate} always gives the same
+ * answer for a character.
+ */
+final class StringCharPredicateParserAsciiBitmap {
+
+    static StringCharPredicateParserAsciiBitmap with(final CharPredicate predicate) {
+        long low = 0;
+        long high = 0;
+
+        for (char c = 0; c < 64; c++) {
+            if (predicate.test(c)) {
+                low |= 1L << c;
+            }
+            if (predicate.test((char) (c + 64))) {
+                high |= 1L << c;
+            }
+        }
+
+        return new StringCharPredicateParserAsciiBitmap(
+                predicate,
+                low,
+                high
+        );
+    }
+
+    private StringCharPredicateParserAsciiBitmap(final CharPredicate predicate,
+                                                 final long low,
+                                                 final long high) {
+        this.predicate = predicate;
+        this.low = low;
+        this.high = high;
+    }
+
+    boolean test(final char c) {
+        return c < 128 ?
+                0 != ((c < 64 ? this.low : this.high) & (1L << c)) :
+                this.predicate.test(c);
+    }
+
+    /**
+     * Returns the index of the first character between begin and end that is not matched, or end if all matched.
+     */
+    int scan(final CharSequence text,
+             final int begin,
+             final int end) {
+        final long low = this.low;
+        final long high = this.high;
+
+        int i = begin;
+        while (i < end) {
+            final char c = text.charAt(i);
+            if (c < 64) {
+                if (0 == (low & (1L << c))) {
+                    break;
+                }
+            } else if (c < 128) {
+                if (0 == (high & (1L << c))) {
+                    break;
+                }
+            } else if (!this.predicate.test(c)) {
+                break;
+            }
+            i++;
+        }
+        return i;
+    }
+
+    private final CharPredicate predicate;
+
+    /**
+     * Characters 0 to 63.
+     */
+    private final long low;
+
+    /**
+     * Characters 64 to 127.
+     */
+    private final long high;
+
+    @Override
+    public String toString() {
+        return this.predicate.toString();
+    }
+}
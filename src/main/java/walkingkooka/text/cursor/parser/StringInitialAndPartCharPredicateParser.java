@@ -21,7 +21,6 @@ import walkingkooka.text.cursor.TextCursor;
 import walkingkooka.text.cursor.TextCursorSavePoint;
 
 import java.util.Objects;
-import java.util.Optional;
 
 /**
  * A {@link Parser} that uses two {@link walkingkooka.predicate.character.CharPredicate}.
@@ -71,9 +70,9 @@ final class StringInitialAndPartCharPredicateParser<C extends ParserContext> ext
     }
 
     @Override
-    Optional<ParserToken> tryParse(final TextCursor cursor,
-                                   final C context,
-                                   final TextCursorSavePoint start) {
+    ParserToken tryParse(final TextCursor cursor,
+                         final C context,
+                         final TextCursorSavePoint start) {
         StringParserToken result = null;
 
         if (!cursor.isEmpty()) {
@@ -109,7 +108,7 @@ final class StringInitialAndPartCharPredicateParser<C extends ParserContext> ext
             }
         }
 
-        return Optional.ofNullable(result);
+        return result;
     }
 
     private StringParserToken stringParserToken(final StringBuilder text) {
@@ -129,8 +128,20 @@ final class StringInitialAndPartCharPredicateParser<C extends ParserContext> ext
     private final int maxLength;
 
 
+    // ParserVisitor....................................................................................................
+
+    @Override
+    void accept(final ParserVisitor visitor) {
+        visitor.visitStringInitialAndPartCharPredicate(this, this.initial, this.part, this.minLength, this.maxLength);
+    }
+
     // Parser2..........................................................................................................
 
+    @Override
+    boolean mayStartWith(final char c) {
+        return this.initial.test(c);
+    }
+
     @Override
     StringInitialAndPartCharPredicateParser<C> replaceToString(final String toString) {
         return new StringInitialAndPartCharPredicateParser<>(
@@ -22,7 +22,6 @@ import walkingkooka.text.cursor.TextCursor;
 import walkingkooka.text.cursor.TextCursorSavePoint;
 
 import java.util.Objects;
-import java.util.Optional;
 
 /**
  * A {@link Parser} that only matches the given {@link String} which must not be null or empty.
@@ -57,9 +56,9 @@ final class StringParser<C extends ParserContext> extends NonEmptyParser<C> {
     }
 
     @Override
-    Optional<ParserToken> tryParse(final TextCursor cursor,
-                                   final C context,
-                                   final TextCursorSavePoint start) {
+    ParserToken tryParse(final TextCursor cursor,
+                         final C context,
+                         final TextCursorSavePoint start) {
         final String string = this.string;
         final CaseSensitivity caseSensitivity = this.caseSensitivity;
 
@@ -80,11 +79,18 @@ final class StringParser<C extends ParserContext> extends NonEmptyParser<C> {
             }
         }
 
-        return Optional.ofNullable(result);
+        return result;
     }
 
-    private final String string;
-    private final CaseSensitivity caseSensitivity;
+    final String string;
+    final CaseSensitivity caseSensitivity;
+
+    // Parser2..........................................................................................................
+
+    @Override
+    boolean mayStartWith(final char c) {
+        return this.caseSensitivity.isEqual(this.string.charAt(0), c);
+    }
 
     // Object.................................................................................................
 
@@ -104,6 +110,13 @@ final class StringParser<C extends ParserContext> extends NonEmptyParser<C> {
                 this.caseSensitivity.equals(other.caseSensitivity);
     }
 
+    // ParserVisitor....................................................................................................
+
+    @Override
+    void accept(final ParserVisitor visitor) {
+        visitor.visitString(this, this.string, this.caseSensitivity);
+    }
+
     // Parser2..........................................................................................................
 
     @Override
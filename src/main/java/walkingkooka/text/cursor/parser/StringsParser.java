@@ -0,0 +1,213 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.text.cursor.parser;
+
+import walkingkooka.text.CaseSensitivity;
+import walkingkooka.text.CharSequences;
+import walkingkooka.text.cursor.TextCursor;
+import walkingkooka.text.cursor.TextCursorSavePoint;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * A {@link Parser} that matches the longest of many {@link String literals} in a single pass, using a compact
+ * char trie held entirely in primitive arrays. Successful matches return a {@link StringParserToken} just like
+ * {@link StringParser}.
+ */
+final class StringsParser<C extends ParserContext> extends NonEmptyParser<C> {
+
+    static <C extends ParserContext> StringsParser<C> with(final Collection<String> strings,
+                                                          final CaseSensitivity caseSensitivity) {
+        Objects.requireNonNull(strings, "strings");
+        Objects.requireNonNull(caseSensitivity, "caseSensitivity");
+
+        strings.forEach(s -> CharSequences.failIfNullOrEmpty(s, "string"));
+
+        final String[] sorted = strings.stream()
+                .sorted()
+                .distinct()
+                .toArray(String[]::new);
+        if (sorted.length == 0) {
+            throw new IllegalArgumentException("Strings must not be empty");
+        }
+
+        final StringBuilder b = new StringBuilder();
+        b.append(
+                Arrays.stream(sorted)
+                        .map(s -> CharSequences.quoteAndEscape(s).toString())
+                        .collect(Collectors.joining(" | ", "(", ")"))
+        );
+        if (CaseSensitivity.INSENSITIVE == caseSensitivity) {
+            b.append(" (CaseInsensitive)");
+        }
+
+        return new StringsParser<>(
+                sorted,
+                caseSensitivity,
+                trie(sorted, caseSensitivity),
+                b.toString()
+        );
+    }
+
+    /**
+     * Builds the trie from the literals, case folding each character if the {@link CaseSensitivity} is insensitive.
+     * Each node is an index into the 3 arrays, node 0 is the root.
+     */
+    private static StringsParserTrie trie(final String[] strings,
+                                          final CaseSensitivity caseSensitivity) {
+        final String[] folded = Arrays.stream(strings)
+                .map(s -> fold(s, caseSensitivity))
+                .sorted()
+                .distinct()
+                .toArray(String[]::new);
+
+        // upper bound on the number of nodes, one per character plus the root.
+        final int max = 1 + Arrays.stream(folded)
+                .mapToInt(String::length)
+                .sum();
+        final StringsParserTrie trie = new StringsParserTrie(max);
+        trie.count = 1;
+
+        trie.add(0, folded, 0, folded.length, 0);
+        return trie;
+    }
+
+    static String fold(final String string,
+                               final CaseSensitivity caseSensitivity) {
+        final int length = string.length();
+        final char[] chars = new char[length];
+
+        for (int i = 0; i < length; i++) {
+            chars[i] = fold(string.charAt(i), caseSensitivity);
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Case insensitive matching folds all characters so they may be compared with a simple equality test.
+     */
+    static char fold(final char c,
+                     final CaseSensitivity caseSensitivity) {
+        return CaseSensitivity.SENSITIVE == caseSensitivity ?
+                c :
+                Character.toLowerCase(Character.toUpperCase(c));
+    }
+
+    private StringsParser(final String[] strings,
+                          final CaseSensitivity caseSensitivity,
+                          final StringsParserTrie trie,
+                          final String toString) {
+        super(toString);
+
+        this.strings = strings;
+        this.caseSensitivity = caseSensitivity;
+        this.trie = trie;
+    }
+
+    /**
+     * Walks the trie consuming characters, remembering the length of the longest literal matched. If characters past
+     * the longest literal were consumed, the cursor is restored and advanced to the end of that literal.
+     */
+    @Override
+    ParserToken tryParse(final TextCursor cursor,
+                         final C context,
+                         final TextCursorSavePoint start) {
+        final CaseSensitivity caseSensitivity = this.caseSensitivity;
+        final StringsParserTrie trie = this.trie;
+
+        int node = 0;
+        int consumed = 0;
+        int matched = 0;
+
+        while (!cursor.isEmpty()) {
+            node = trie.child(node, fold(cursor.at(), caseSensitivity));
+            if (-1 == node) {
+                break;
+            }
+            cursor.next();
+            consumed++;
+
+            if (trie.terminal[node]) {
+                matched = consumed;
+            }
+        }
+
+        StringParserToken token = null;
+        if (matched > 0) {
+            if (consumed != matched) {
+                start.restore();
+                for (int i = 0; i < matched; i++) {
+                    cursor.next();
+                }
+            }
+            final String text = start.textBetween().toString();
+            token = StringParserToken.with(text, text);
+        }
+
+        return token;
+    }
+
+    private final String[] strings;
+    private final CaseSensitivity caseSensitivity;
+    private final StringsParserTrie trie;
+
+    // ParserVisitor....................................................................................................
+
+    @Override
+    void accept(final ParserVisitor visitor) {
+        visitor.visitStrings(this, Collections.unmodifiableList(Arrays.asList(this.strings)), this.caseSensitivity);
+    }
+
+    // Parser2..........................................................................................................
+
+    @Override
+    boolean mayStartWith(final char c) {
+        return -1 != this.trie.child(0, fold(c, this.caseSensitivity));
+    }
+
+    @Override
+    StringsParser<C> replaceToString(final String toString) {
+        return new StringsParser<>(
+                this.strings,
+                this.caseSensitivity,
+                this.trie,
+                toString
+        );
+    }
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(Arrays.hashCode(this.strings), this.caseSensitivity);
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+                other instanceof StringsParser && this.equals0((StringsParser<?>) other);
+    }
+
+    private boolean equals0(final StringsParser<?> other) {
+        return Arrays.equals(this.strings, other.strings) &&
+                this.caseSensitivity.equals(other.caseSensitivity);
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.text.cursor.parser;
+
+import java.util.Arrays;
+
+/**
+ * A char trie used by {@link StringsParser}, with each node stored as an index into parallel primitive arrays,
+ * avoiding any boxing of characters or node references. The children of each node are sorted by character so
+ * they may be found with a binary search.
+ */
+final class StringsParserTrie {
+
+    private final static char[] NO_CHARS = new char[0];
+    private final static int[] NO_NODES = new int[0];
+
+    StringsParserTrie(final int max) {
+        this.chars = new char[max][];
+        this.children = new int[max][];
+        this.terminal = new boolean[max];
+    }
+
+    /**
+     * Adds the sorted range of strings that share the first depth characters to the given node.
+     */
+    void add(final int node,
+             final String[] strings,
+             final int from,
+             final int to,
+             final int depth) {
+        int start = from;
+
+        // the sorted strings mean that any string ending at this node will be first.
+        if (strings[start].length() == depth) {
+            this.terminal[node] = true;
+            start++;
+        }
+
+        // count the distinct characters at depth
+        int count = 0;
+        for (int i = start; i < to; i++) {
+            if (i == start || strings[i].charAt(depth) != strings[i - 1].charAt(depth)) {
+                count++;
+            }
+        }
+
+        final char[] chars = 0 == count ?
+                NO_CHARS :
+                new char[count];
+        final int[] children = 0 == count ?
+                NO_NODES :
+                new int[count];
+        this.chars[node] = chars;
+        this.children[node] = children;
+
+        int child = 0;
+        int i = start;
+        while (i < to) {
+            final char c = strings[i].charAt(depth);
+            int end = i + 1;
+            while (end < to && strings[end].charAt(depth) == c) {
+                end++;
+            }
+
+            final int childNode = this.count++;
+            chars[child] = c;
+            children[child] = childNode;
+            child++;
+
+            this.add(childNode, strings, i, end, depth + 1);
+            i = end;
+        }
+    }
+
+    /**
+     * Returns the child node for the given character or -1 if none exists.
+     */
+    int child(final int node,
+              final char c) {
+        final int index = Arrays.binarySearch(this.chars[node], c);
+        return index < 0 ?
+                -1 :
+                this.children[node][index];
+    }
+
+    /**
+     * The number of nodes in use.
+     */
+    int count;
+
+    /**
+     * The sorted child characters for each node.
+     */
+    private final char[][] chars;
+
+    /**
+     * The child node for each character in {@link #chars}.
+     */
+    private final int[][] children;
+
+    /**
+     * Flags for nodes that complete a literal.
+     */
+    final boolean[] terminal;
+
+    @Override
+    public String toString() {
+        return this.count + " node(s)";
+    }
+}
@@ -20,7 +20,6 @@ import walkingkooka.text.CharSequences;
 import walkingkooka.text.cursor.TextCursor;
 import walkingkooka.text.cursor.TextCursorSavePoint;
 
-import java.util.Optional;
 
 /**
  * A {@link Parser} that only requires an opening string and is terminated by another closing string.
@@ -47,9 +46,9 @@ final class SurroundStringParser<C extends ParserContext> extends NonEmptyParser
     }
 
     @Override
-    Optional<ParserToken> tryParse(final TextCursor cursor,
-                                   final C context,
-                                   final TextCursorSavePoint start) {
+    ParserToken tryParse(final TextCursor cursor,
+                         final C context,
+                         final TextCursorSavePoint start) {
         StringParserToken result = null;
 
         int matched = 0;
@@ -103,15 +102,27 @@ final class SurroundStringParser<C extends ParserContext> extends NonEmptyParser
             }
         }
 
-        return Optional.ofNullable(result);
+        return result;
     }
 
     private final String open;
 
     private final String close;
 
+    // ParserVisitor....................................................................................................
+
+    @Override
+    void accept(final ParserVisitor visitor) {
+        visitor.visitSurround(this, this.open, this.close);
+    }
+
     // Parser2..........................................................................................................
 
+    @Override
+    boolean mayStartWith(final char c) {
+        return this.open.charAt(0) == c;
+    }
+
     @Override
     SurroundStringParser<C> replaceToString(final String toString) {
         return new SurroundStringParser<>(
@@ -17,9 +17,9 @@
 package walkingkooka.text.cursor.parser;
 
 import walkingkooka.text.cursor.TextCursor;
+import walkingkooka.visit.Visiting;
 
 import java.util.Objects;
-import java.util.Optional;
 import java.util.function.BiFunction;
 
 /**
@@ -50,19 +50,65 @@ final class TransformingParser<C extends ParserContext> extends ParserWrapper<C>
     // Parser..........................................................................................................
 
     @Override
-    public Optional<ParserToken> parse(final TextCursor cursor, final C context) {
-        final Optional<ParserToken> token = this.parser.parse(cursor, context);
-        return token.map(parserToken -> this.transformer.apply(parserToken, context));
-
+    public ParserToken parseOrNull(final TextCursor cursor, final C context) {
+        final ParserToken token = this.parser.parseOrNull(cursor, context);
+        return null != token ?
+                this.transformer.apply(token, context) :
+                null;
     }
 
     /**
      * A {@link BiFunction} that transforms successful tokens into another.
      */
-    private final BiFunction<ParserToken, C, ParserToken> transformer;
+    final BiFunction<ParserToken, C, ParserToken> transformer;
+
+    // ParserVisitor....................................................................................................
+
+    @Override
+    void accept(final ParserVisitor visitor) {
+        if (Visiting.CONTINUE == visitor.startVisitTransform(this, this.parser)) {
+            visitor.accept(this.parser);
+        }
+        visitor.endVisitTransform(this, this.parser);
+    }
 
     // Parser2..........................................................................................................
 
+    /**
+     * If the compiled wrapped {@link Parser} is also a {@link TransformingParser} both transformers are combined
+     * into a single {@link TransformingParser}.
+     */
+    @Override
+    Parser<C> compile(final ParserCompiler compiler) {
+        final Parser<C> parser = compiler.compileParser(this.parser);
+
+        return parser instanceof TransformingParser ?
+                this.merge(parser.cast()) :
+                parser == this.parser ?
+                        this :
+                        new TransformingParser<>(
+                                parser,
+                                this.transformer,
+                                this.toString
+                        );
+    }
+
+    private TransformingParser<C> merge(final TransformingParser<C> parser) {
+        final BiFunction<ParserToken, C, ParserToken> first = parser.transformer;
+        final BiFunction<ParserToken, C, ParserToken> second = this.transformer;
+
+        return new TransformingParser<>(
+                parser.parser,
+                (t, c) -> {
+                    final ParserToken token = first.apply(t, c);
+                    return null != token ?
+                            second.apply(token, c) :
+                            null;
+                },
+                this.toString
+        );
+    }
+
     @Override
     TransformingParser<C> replaceToString(final String toString) {
         return new TransformingParser(
@@ -20,7 +20,6 @@ import walkingkooka.Cast;
 import walkingkooka.text.cursor.TextCursor;
 import walkingkooka.text.cursor.TextCursorSavePoint;
 
-import java.util.Optional;
 
 /**
  * A {@link Parser} that matches unicode escape sequences returning the decoded character.
@@ -46,15 +45,16 @@ final class UnicodeEscapeCharacterParser<C extends ParserContext> extends NonEmp
     }
 
     @Override
-    Optional<ParserToken> tryParse(final TextCursor cursor,
-                                   final C context,
-                                   final TextCursorSavePoint save) {
-        Optional<ParserToken> result = null;
+    ParserToken tryParse(final TextCursor cursor,
+                         final C context,
+                         final TextCursorSavePoint save) {
+        ParserToken result = null;
+        boolean failed = false;
 
         int value = 0;
         for (int i = 0; i < 6; i++) {
             if (cursor.isEmpty()) {
-                result = Optional.empty();
+                failed = true;
                 break;
             }
             final char c = cursor.at();
@@ -82,8 +82,8 @@ final class UnicodeEscapeCharacterParser<C extends ParserContext> extends NonEmp
             }
         }
 
-        if (null == result) {
-            result = Optional.of(ParserTokens.character((char) value, save.textBetween().toString()));
+        if (!failed) {
+            result = ParserTokens.character((char) value, save.textBetween().toString());
         }
 
         return result;
@@ -19,6 +19,8 @@ package walkingkooka.text.cursor.parser;
 
 import walkingkooka.Value;
 
+import java.util.Objects;
+
 /**
  * Represents a result of a parser attempt to consume a {@link walkingkooka.text.cursor.TextCursor}
  */
@@ -27,26 +29,45 @@ abstract class ValueParserToken<V> implements ParserToken, Value<V> {
     /**
      * Private ctor to limit subclassing.
      */
-    ValueParserToken(final V value, final String text) {
+    ValueParserToken(final V value, final CharSequence text) {
         this.value = value;
         this.text = text;
     }
 
+    /**
+     * Sub classes holding a primitive value pass a null value and override this method.
+     */
     @Override
-    public final V value() {
+    public V value() {
         return this.value;
     }
 
+    /**
+     * The value or null for sub classes that keep a primitive value, such as {@link LongParserToken}.
+     */
     private final V value;
 
     /**
-     * The text matched by the {@link Parser}.
+     * The text matched by the {@link Parser}. If the text is a lazy {@link ParserTokenText} the {@link String} is
+     * created and kept on the first call.
      */
     public final String text() {
-        return this.text;
+        final CharSequence text = this.text;
+
+        final String string;
+        if (text instanceof String) {
+            string = (String) text;
+        } else {
+            string = text.toString();
+            this.text = string;
+        }
+        return string;
     }
 
-    private final String text;
+    /**
+     * Either a {@link String} or a {@link ParserTokenText} which will be replaced by its {@link String} by {@link #text()}.
+     */
+    private CharSequence text;
 
     /**
      * Sub classes have a value, so cant be symbols.
@@ -60,7 +81,7 @@ abstract class ValueParserToken<V> implements ParserToken, Value<V> {
 
     @Override
     public final int hashCode() {
-        return this.text.hashCode();
+        return this.text().hashCode();
     }
 
     @Override
@@ -72,7 +93,7 @@ abstract class ValueParserToken<V> implements ParserToken, Value<V> {
     abstract boolean canBeEqual(final Object other);
 
     private boolean equals0(final ValueParserToken<?> other) {
-        return this.value.equals(other.value) && this.text.equals(other.text) && this.equals1(other);
+        return Objects.equals(this.value, other.value) && this.text().equals(other.text()) && this.equals1(other);
     }
 
     abstract boolean equals1(final ValueParserToken<?> other);
@@ -19,6 +19,7 @@ package walkingkooka.text.cursor.parser;
 import org.junit.jupiter.api.Test;
 import walkingkooka.Cast;
 import walkingkooka.collect.list.Lists;
+import walkingkooka.predicate.character.CharPredicates;
 import walkingkooka.text.CaseSensitivity;
 
 import java.util.List;
@@ -132,6 +133,116 @@ public class AlternativesParserTest extends ParserTestCase<AlternativesParser<Pa
                 text);
     }
 
+    @Test
+    public void testFirstMatchOrderKeptWithDispatch() {
+        final String text = "abcd";
+        this.parseAndCheck(
+                this.createParser1(parser("ab"), parser(text)),
+                text,
+                string("ab"),
+                "ab",
+                "cd"
+        );
+    }
+
+    @Test
+    public void testNonAsciiTriesAllParsers() {
+        final String text = "\u00e9t\u00e9";
+        this.parseAndCheck(
+                this.createParser1(PARSER1, parser(text)),
+                text,
+                string(text),
+                text
+        );
+    }
+
+    @Test
+    public void testReportingParserTriedWhenOtherParsersCannotStart() {
+        this.parseThrows(
+                PARSER1.orReport(ParserReporters.basic()).cast(),
+                "xyz",
+                "Invalid character 'x' at (1,1)"
+        );
+    }
+
+    @Test
+    public void testFusedStringParsers() {
+        final AlternativesParser<ParserContext> parser = this.createParser0(PARSER1, PARSER2, parser("123"));
+        this.checkEquals(Lists.of(PARSER1, PARSER2, parser("123")), parser.parsers, "parsers");
+        this.checkEquals(
+                Lists.of(StringsParser.with(Lists.of(TEXT1, TEXT2, "123"), CaseSensitivity.SENSITIVE)),
+                parser.fused,
+                "fused"
+        );
+    }
+
+    @Test
+    public void testFusedStringParsersPrefixNotFused() {
+        final Parser<ParserContext> ab = parser("ab");
+        final Parser<ParserContext> abcd = parser("abcd");
+        final AlternativesParser<ParserContext> parser = this.createParser0(ab, abcd);
+        this.checkEquals(Lists.of(ab, abcd), parser.fused, "fused");
+    }
+
+    @Test
+    public void testFusedStringParsersDifferentCaseSensitivityNotFused() {
+        final Parser<ParserContext> insensitive = Parsers.string(TEXT2, CaseSensitivity.INSENSITIVE);
+        final AlternativesParser<ParserContext> parser = this.createParser0(PARSER1, insensitive);
+        this.checkEquals(Lists.of(PARSER1, insensitive), parser.fused, "fused");
+    }
+
+    @Test
+    public void testFusedStringParsersLongerFirst() {
+        final String text = "abcd";
+        this.parseAndCheck(
+                this.createParser1(parser(text), parser("ab")),
+                text + "!",
+                string(text),
+                text,
+                "!"
+        );
+    }
+
+    @Test
+    public void testFusedStringParsersLongerFirst2() {
+        this.parseAndCheck(
+                this.createParser1(parser("abcd"), parser("ab")),
+                "abc!",
+                string("ab"),
+                "ab",
+                "c!"
+        );
+    }
+
+    @Test
+    public void testFusedStringParsersAndOtherParser() {
+        final String text = "123";
+        this.parseAndCheck(
+                this.createParser1(PARSER1, PARSER2, Parsers.stringCharPredicate(CharPredicates.digit(), 1, 10), parser("!")),
+                text,
+                ParserTokens.string(text, text),
+                text
+        );
+    }
+
+    @Test
+    public void testMayStartWith() {
+        final AlternativesParser<ParserContext> parser = this.createParser();
+        this.checkEquals(true, parser.mayStartWith('a'), "a");
+        this.checkEquals(true, parser.mayStartWith('x'), "x");
+        this.checkEquals(false, parser.mayStartWith('!'), "!");
+    }
+
+    @Test
+    public void testMayStartWithAfterParse() {
+        final AlternativesParser<ParserContext> parser = this.createParser();
+        this.parseFailAndCheck(parser, "!");
+
+        this.checkEquals(true, parser.mayStartWith('a'), "a");
+        this.checkEquals(true, parser.mayStartWith('x'), "x");
+        this.checkEquals(false, parser.mayStartWith('!'), "!");
+    }
+
     @Test
     public void testToString() {
         this.toStringAndCheck(this.createParser(), "(" + PARSER1 + " | " + PARSER2 + ")");
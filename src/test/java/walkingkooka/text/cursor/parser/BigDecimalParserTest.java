@@ -438,6 +438,98 @@ public final class BigDecimalParserTest extends NonEmptyParserTestCase<BigDecima
                 "");
     }
 
+    @Test
+    public void testManyDigits() {
+        this.parseAndCheckMathContext("1234567890123456789012345", MathContext.UNLIMITED);
+    }
+
+    @Test
+    public void testManyDigitsDecimal32() {
+        this.parseAndCheckMathContext("1234567890123456789012345", MathContext.DECIMAL32);
+    }
+
+    @Test
+    public void testManyDigitsDecimal128() {
+        this.parseAndCheckMathContext("-98765432109876543210987654321098765432109876543210", MathContext.DECIMAL128);
+    }
+
+    @Test
+    public void testManyDigitsLeadingZeroes() {
+        this.parseAndCheckMathContext("0000000000000000000000001234567", MathContext.DECIMAL32);
+    }
+
+    @Test
+    public void testManyDigitsDecimalFraction() {
+        this.parseAndCheckMathContext("123456789.123456789123456789", MathContext.DECIMAL64);
+    }
+
+    @Test
+    public void testManyDigitsDecimalFractionExponent() {
+        this.parseAndCheckMathContext("-12345678901234567890.123456789E5", MathContext.DECIMAL32);
+    }
+
+    @Test
+    public void testMaxLongPlusOne() {
+        this.parseAndCheckMathContext("9223372036854775808", MathContext.UNLIMITED);
+    }
+
+    @Test
+    public void testMaxLongPlusOneDecimal32() {
+        this.parseAndCheckMathContext("9223372036854775808", MathContext.DECIMAL32);
+    }
+
+    /**
+     * Parses the text and compares the value against multiplying and adding a {@link BigDecimal} for each digit.
+     */
+    private void parseAndCheckMathContext(final String text,
+                                          final MathContext mathContext) {
+        this.parseAndCheck(this.createParser(),
+                ParserContexts.basic(DateTimeContexts.fake(),
+                        DecimalNumberContexts.basic("C", '.', "E", 'G', '-', 'R', '+', Locale.ENGLISH, mathContext)),
+                text,
+                ParserTokens.bigDecimal(bigDecimalPerDigit(text, mathContext), text),
+                text,
+                "");
+    }
+
+    private static BigDecimal bigDecimalPerDigit(final String text,
+                                                 final MathContext mathContext) {
+        BigDecimal number = BigDecimal.ZERO;
+        int exponent = 0;
+        boolean decimal = false;
+
+        final int exponentIndex = text.indexOf('E');
+        final String digits = -1 == exponentIndex ?
+                text :
+                text.substring(0, exponentIndex);
+
+        for (final char c : digits.toCharArray()) {
+            switch (c) {
+                case '-':
+                    break;
+                case '.':
+                    decimal = true;
+                    break;
+                default:
+                    number = number.multiply(BigDecimal.TEN, mathContext)
+                            .add(BigDecimal.valueOf(c - '0'));
+                    if (decimal) {
+                        exponent--;
+                    }
+                    break;
+            }
+        }
+        if (text.startsWith("-")) {
+            number = number.negate(mathContext);
+        }
+        if (-1 != exponentIndex) {
+            exponent += Integer.parseInt(text.substring(exponentIndex + 1));
+        }
+        return 0 != exponent ?
+                number.scaleByPowerOfTen(exponent) :
+                number;
+    }
+
     @Test
     public void testToString() {
         this.toStringAndCheck(this.createParser(), "Decimal");
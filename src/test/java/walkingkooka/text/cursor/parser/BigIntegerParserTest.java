@@ -142,6 +142,68 @@ public class BigIntegerParserTest extends NonEmptyParserTestCase<BigIntegerParse
         this.parseAndCheck3(8, "012345678xyz", 01234567, "01234567", "8xyz");
     }
 
+    @Test
+    public void testLongMaxValue() {
+        this.parseAndCheckBigInteger(RADIX, String.valueOf(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void testLongMinValue() {
+        this.parseAndCheckBigInteger(RADIX, String.valueOf(Long.MIN_VALUE));
+    }
+
+    @Test
+    public void testManyDigits() {
+        this.parseAndCheckBigInteger(RADIX, "123456789012345678901234567890123456789012345678901234567890");
+    }
+
+    @Test
+    public void testManyDigitsNegative() {
+        this.parseAndCheckBigInteger(RADIX, "-98765432109876543210987654321");
+    }
+
+    @Test
+    public void testManyDigitsLeadingZeroes() {
+        this.parseAndCheckBigInteger(RADIX, "000000000000000000000000000000000001");
+    }
+
+    @Test
+    public void testManyDigitsBlockSize() {
+        // exactly 18 and 36 digits, the number of decimal digits that fit in a long
+        this.parseAndCheckBigInteger(RADIX, "999999999999999999");
+        this.parseAndCheckBigInteger(RADIX, "999999999999999999999999999999999999");
+    }
+
+    @Test
+    public void testManyDigitsHex() {
+        this.parseAndCheckBigInteger(16, "0123456789abcdefABCDEF0123456789abcdefABCDEF0123456789abcdef");
+    }
+
+    @Test
+    public void testManyDigitsHex16() {
+        this.parseAndCheckBigInteger(16, "ffffffffffffffff");
+    }
+
+    @Test
+    public void testManyDigitsBinary() {
+        this.parseAndCheckBigInteger(2, "1011010111010101010111110101010101010101000101010101010101011101010111011");
+    }
+
+    @Test
+    public void testManyDigitsRadix36() {
+        this.parseAndCheckBigInteger(36, "zyxwvutsrqponmlkjihgfedcba9876543210");
+    }
+
+    private void parseAndCheckBigInteger(final int radix,
+                                         final String text) {
+        this.parseAndCheck(BigIntegerParser.with(radix),
+                this.createContext(),
+                TextCursors.charSequence(text + "!"),
+                BigIntegerParserToken.with(new BigInteger(text, radix), text),
+                text,
+                "!");
+    }
+
     @Test
     public void testDifferentMinusSign() {
         this.parseAndCheck3("M123", -123);
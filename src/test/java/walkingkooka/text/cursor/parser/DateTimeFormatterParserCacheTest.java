@@ -26,6 +26,42 @@ import java.util.Locale;
 public final class DateTimeFormatterParserCacheTest extends DateTimeFormatterParserTestCase<DateTimeFormatterParserCache>
         implements ToStringTesting<DateTimeFormatterParserCache> {
 
+    @Test
+    public void testMatches() {
+        this.checkEquals(
+                true,
+                DateTimeFormatterParserCache.with(Locale.ENGLISH, 20, DateTimeFormatter.ISO_LOCAL_DATE)
+                        .matches(Locale.ENGLISH, 20)
+        );
+    }
+
+    @Test
+    public void testMatchesEqualLocale() {
+        this.checkEquals(
+                true,
+                DateTimeFormatterParserCache.with(Locale.ENGLISH, 20, DateTimeFormatter.ISO_LOCAL_DATE)
+                        .matches(new Locale("en"), 20)
+        );
+    }
+
+    @Test
+    public void testMatchesDifferentLocale() {
+        this.checkEquals(
+                false,
+                DateTimeFormatterParserCache.with(Locale.ENGLISH, 20, DateTimeFormatter.ISO_LOCAL_DATE)
+                        .matches(Locale.FRENCH, 20)
+        );
+    }
+
+    @Test
+    public void testMatchesDifferentTwoDigitYear() {
+        this.checkEquals(
+                false,
+                DateTimeFormatterParserCache.with(Locale.ENGLISH, 20, DateTimeFormatter.ISO_LOCAL_DATE)
+                        .matches(Locale.ENGLISH, 21)
+        );
+    }
+
     @Test
     public void testToString() {
         final DateTimeFormatter formatter = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
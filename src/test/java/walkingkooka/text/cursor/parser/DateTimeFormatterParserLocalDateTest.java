@@ -100,6 +100,56 @@ public final class DateTimeFormatterParserLocalDateTest extends DateTimeFormatte
         this.parseAndCheck2("yyyy-MM-dd", "2000-12-31");
     }
 
+    @Test
+    public void testYearSeparatorMonthSeparatorDayNonIndexed() {
+        this.parseAndCheckNonIndexed("yyyy-MM-dd", "2001-12-31", "ZZ");
+    }
+
+    @Test
+    public void testYearSeparatorMonthSeparatorDayLongTextAfterNonIndexed() {
+        this.parseAndCheckNonIndexed("yyyy-MM-dd", "2001-12-31", " followed by a long line of text that is never read");
+    }
+
+    @Test
+    public void testYearSeparatorMonthSeparatorDayLongTextAfter() {
+        this.parseAndCheck2("yyyy-MM-dd", "2001-12-31", " followed by a long line of text that is never read");
+    }
+
+    @Test
+    public void testDayInvalidLongTextFails() {
+        this.parseFailAndCheck2("dd-MM-yyyy", "0X-12-2000 followed by a long line of text that is never read");
+    }
+
+    @Test
+    public void testDayInvalidLongTextNonIndexedFails() {
+        this.parseFailAndCheckNonIndexed("dd-MM-yyyy", "0X-12-2000 followed by a long line of text that is never read");
+    }
+
+    @Test
+    public void testDayInvalidVeryLongTextNonIndexedStopsReading() {
+        final StringBuilder text = new StringBuilder("0X-12-2000");
+        for (int i = 0; i < 10000; i++) {
+            text.append(' ');
+        }
+        final NonIndexedTextCursor cursor = NonIndexedTextCursor.with(text.toString());
+
+        this.parseFailAndCheck(
+                this.createParser("dd-MM-yyyy"),
+                this.createContext(),
+                cursor
+        );
+        this.checkEquals(
+                true,
+                cursor.nextCount < 4 * DateTimeFormatterParser.MAX_ELEMENT_LENGTH,
+                () -> "read " + cursor.nextCount + " characters"
+        );
+    }
+
+    @Test
+    public void testDayMonthYearMissingNonIndexedFails() {
+        this.parseFailAndCheckNonIndexed("dd-MM-yyyy", "31-12");
+    }
+
     @Test
     public void testYearMonthDay() {
         this.parseAndCheck2("yyyyMMdd", "20011231", "");
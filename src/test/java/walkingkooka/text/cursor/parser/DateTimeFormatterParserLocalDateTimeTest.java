@@ -133,6 +133,16 @@ public final class DateTimeFormatterParserLocalDateTimeTest extends DateTimeForm
         this.parseAndCheck2("dd-MM-yyyy HH:mm:ss.SSS", "31-12-2000 12:58:59.789", "");
     }
 
+    @Test
+    public void testYearSeparatorMonthSeparatorDaySeparatorHourSeparatorMinutesSeparatorSecondsOptionalMillis() {
+        this.parseAndCheck2("yyyy-MM-dd HH:mm:ss[.SSS]", "2000-12-31 12:58:59.789", "!");
+    }
+
+    @Test
+    public void testDayMonthYearHourMinutesSecondsNanosNonIndexed() {
+        this.parseAndCheckNonIndexed("dd-MM-yyyy HH:mm:ss.SSSSSSSSS", "31-12-2000 12:58:59.123456789", "!");
+    }
+
     @Test
     public void testYearSeparatorMonthSeparatorDaySeparatorHourSeparatorMinutesSeparatorAmpm() {
         this.parseAndCheck2("dd-MM-yyyy hh:mm:ss a", "31-12-2000 12:58:59 AM", "!");
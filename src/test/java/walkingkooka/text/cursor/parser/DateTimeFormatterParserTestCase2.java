@@ -18,6 +18,7 @@
 package walkingkooka.text.cursor.parser;
 
 import org.junit.jupiter.api.Test;
+import walkingkooka.collect.list.Lists;
 import walkingkooka.datetime.DateTimeContext;
 import walkingkooka.datetime.DateTimeContexts;
 import walkingkooka.math.DecimalNumberContexts;
@@ -28,6 +29,8 @@ import java.math.MathContext;
 import java.text.DecimalFormatSymbols;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.util.List;
 import java.util.Locale;
 import java.util.function.Function;
 
@@ -46,6 +49,63 @@ public abstract class DateTimeFormatterParserTestCase2<P extends DateTimeFormatt
         assertThrows(NullPointerException.class, () -> this.createParser((Function<DateTimeContext, DateTimeFormatter>) null));
     }
 
+    @Test
+    public final void testDateTimeFormatterCachedPerLocale() {
+        final List<Locale> created = Lists.array();
+        final P parser = this.createParser((c) -> {
+            created.add(c.locale());
+            return this.formatter().withLocale(c.locale());
+        });
+
+        parser.cache(this.createContext(Locale.ENGLISH, 50));
+        parser.cache(this.createContext(Locale.FRENCH, 50));
+        parser.cache(this.createContext(Locale.ENGLISH, 50));
+        parser.cache(this.createContext(Locale.FRENCH, 50));
+
+        this.checkEquals(Lists.of(Locale.ENGLISH, Locale.FRENCH), created);
+    }
+
+    @Test
+    public final void testDateTimeFormatterCachedPerTwoDigitYear() {
+        final List<Integer> created = Lists.array();
+        final P parser = this.createParser((c) -> {
+            created.add(c.twoDigitYear());
+            return this.formatter().withLocale(c.locale());
+        });
+
+        parser.cache(this.createContext(Locale.ENGLISH, 20));
+        parser.cache(this.createContext(Locale.ENGLISH, 50));
+        parser.cache(this.createContext(Locale.ENGLISH, 20));
+
+        this.checkEquals(Lists.of(20, 50), created);
+    }
+
+    @Test
+    public final void testFirstCharacterMismatchFails() {
+        final DateTimeFormatter formatter = this.formatter();
+        final P parser = this.createParser((c) -> new DateTimeFormatterBuilder()
+                .appendLiteral('!')
+                .append(formatter)
+                .toFormatter(c.locale())
+        );
+        this.parseFailAndCheck(
+                parser,
+                "?" + this.pattern()
+        );
+    }
+
+    @Test
+    public final void testDateTimeFormatterCacheBounded() {
+        final P parser = this.createParser((c) -> this.formatter().withLocale(c.locale()));
+
+        for (int i = 0; i <= DateTimeFormatterParser.MAX_CACHE_SIZE; i++) {
+            parser.cache(this.createContext(Locale.ENGLISH, i));
+        }
+
+        this.checkEquals(DateTimeFormatterParser.MAX_CACHE_SIZE, parser.caches.length, "caches");
+        this.checkEquals(1, parser.caches[0].twoDigitYear, "oldest dropped");
+    }
+
     @Override
     public final P createParser() {
         return this.createParser(this.pattern());
@@ -73,17 +133,22 @@ public abstract class DateTimeFormatterParserTestCase2<P extends DateTimeFormatt
 
     @Override
     public ParserContext createContext() {
+        return this.createContext(LOCALE, 50);
+    }
+
+    private ParserContext createContext(final Locale locale,
+                                        final int twoDigitYear) {
         return ParserContexts.basic(
                 DateTimeContexts.locale(
-                        LOCALE,
+                        locale,
                         1900,
-                        50,
+                        twoDigitYear,
                         LocalDateTime::now
                 ),
                 DecimalNumberContexts.decimalFormatSymbols(
-                        new DecimalFormatSymbols(LOCALE),
+                        new DecimalFormatSymbols(locale),
                         '+',
-                        LOCALE,
+                        locale,
                         MathContext.UNLIMITED
                 )
         );
@@ -123,6 +188,29 @@ public abstract class DateTimeFormatterParserTestCase2<P extends DateTimeFormatt
                 after);
     }
 
+    final void parseAndCheckNonIndexed(final String pattern,
+                                       final String text,
+                                       final String after) {
+        final DateTimeFormatter formatter = DateTimeFormatter.ofPattern(pattern).withLocale(LOCALE);
+
+        this.parseAndCheck(
+                this.createParser(formatter),
+                this.createContext(),
+                NonIndexedTextCursor.with(text + after),
+                this.createParserToken(formatter, text),
+                text,
+                after
+        );
+    }
+
+    final TextCursor parseFailAndCheckNonIndexed(final String pattern, final String cursorText) {
+        return this.parseFailAndCheck(
+                this.createParser(pattern),
+                this.createContext(),
+                NonIndexedTextCursor.with(cursorText)
+        );
+    }
+
     final TextCursor parseFailAndCheck2(final String pattern, final String cursorText) {
         return this.parseFailAndCheck(this.createParser(pattern), cursorText);
     }
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.text.cursor.parser;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+public final class DoubleParserEiselLemireTest implements ClassTesting2<DoubleParserEiselLemire> {
+
+    @Test
+    public void testZero() {
+        this.toDoubleAndCheck(false, 0, 0, 0.0);
+    }
+
+    @Test
+    public void testNegativeZero() {
+        this.toDoubleAndCheck(true, 0, 123, -0.0);
+    }
+
+    @Test
+    public void testOne() {
+        this.toDoubleAndCheck(false, 1, 0, 1.0);
+    }
+
+    @Test
+    public void testClinger() {
+        this.toDoubleAndCheck(false, 125, -2, 1.25);
+    }
+
+    @Test
+    public void testNegative() {
+        this.toDoubleAndCheck(true, 125, 1, -1250.0);
+    }
+
+    @Test
+    public void testLargePower() {
+        this.toDoubleAndCheck(false, 17976931348623157L, 292, Double.MAX_VALUE);
+    }
+
+    @Test
+    public void testSmallPower() {
+        this.toDoubleAndCheck(false, 22250738585072014L, -324, Double.MIN_NORMAL);
+    }
+
+    @Test
+    public void testUnsignedSignificand() {
+        // 19 nines does not fit in a signed long
+        this.toDoubleAndCheck(false, Long.parseUnsignedLong("9999999999999999999"), 10, 1.0E29);
+    }
+
+    @Test
+    public void testPowerTooSmall() {
+        this.toDoubleAndCheck(false, -1, DoubleParserEiselLemire.SMALLEST_POWER_OF_TEN - 1, 0.0);
+    }
+
+    @Test
+    public void testPowerTooLarge() {
+        this.toDoubleAndCheck(false, 1, DoubleParserEiselLemire.LARGEST_POWER_OF_TEN + 1, Double.POSITIVE_INFINITY);
+    }
+
+    @Test
+    public void testHalfwayNaN() {
+        this.toDoubleAndCheck(false, 1, 23, Double.NaN);
+    }
+
+    @Test
+    public void testSubnormalNaN() {
+        this.toDoubleAndCheck(false, 49, -325, Double.NaN);
+    }
+
+    @Test
+    public void testRandom() {
+        final Random random = new Random(1);
+
+        for (int i = 0; i < 100000; i++) {
+            final long significand = random.nextLong() >>> random.nextInt(64);
+            final int power = random.nextInt(2 * 330) - 330;
+
+            final double value = DoubleParserEiselLemire.toDouble(false, significand, power);
+            if (Double.isNaN(value)) {
+                continue; // caller must use the slow path
+            }
+
+            final String text = Long.toUnsignedString(significand) + "E" + power;
+            this.checkEquals(
+                    Double.parseDouble(text),
+                    value,
+                    text
+            );
+        }
+    }
+
+    @Test
+    public void testMultiplyHighUnsigned() {
+        final Random random = new Random(1);
+        final BigInteger mask = BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE);
+
+        for (int i = 0; i < 10000; i++) {
+            final long x = random.nextLong();
+            final long y = random.nextLong();
+
+            this.checkEquals(
+                    new BigInteger(Long.toUnsignedString(x))
+                            .multiply(new BigInteger(Long.toUnsignedString(y)))
+                            .shiftRight(64)
+                            .and(mask)
+                            .longValue(),
+                    DoubleParserEiselLemire.multiplyHighUnsigned(x, y),
+                    Long.toHexString(x) + " * " + Long.toHexString(y)
+            );
+        }
+    }
+
+    private void toDoubleAndCheck(final boolean negative,
+                                  final long significand,
+                                  final int power,
+                                  final double expected) {
+        this.checkEquals(
+                expected,
+                DoubleParserEiselLemire.toDouble(negative, significand, power),
+                (negative ? "-" : "") + Long.toUnsignedString(significand) + "E" + power
+        );
+    }
+
+    @Override
+    public Class<DoubleParserEiselLemire> type() {
+        return DoubleParserEiselLemire.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -21,6 +21,9 @@ import walkingkooka.Cast;
 import walkingkooka.datetime.DateTimeContexts;
 import walkingkooka.math.FakeDecimalNumberContext;
 import walkingkooka.text.cursor.TextCursor;
+import walkingkooka.text.cursor.TextCursors;
+
+import java.util.Random;
 
 public final class DoubleParserTest extends NonEmptyParserTestCase<DoubleParser<ParserContext>, DoubleParserToken> {
 
@@ -541,6 +544,167 @@ public final class DoubleParserTest extends NonEmptyParserTestCase<DoubleParser<
                 "");
     }
 
+    @Test
+    public void testTwoPower53PlusOne() {
+        this.parseAndCheckExact("9007199254740993");
+    }
+
+    @Test
+    public void testHalfwayRoundsToEven() {
+        this.parseAndCheckExact("1e23");
+    }
+
+    @Test
+    public void testEiselLemireSecondMultiplication() {
+        this.parseAndCheckExact("7.3177701707893310e+15");
+    }
+
+    @Test
+    public void testMantissaOverflowsAfterRounding() {
+        this.parseAndCheckExact("7.2057594037927933e+16");
+    }
+
+    @Test
+    public void testPointOne() {
+        this.parseAndCheckExact("0.1");
+    }
+
+    @Test
+    public void testManyFractionDigits() {
+        this.parseAndCheckExact("0.1000000000000000055511151231257827021181583404541015625");
+    }
+
+    @Test
+    public void testManyIntegerDigits() {
+        this.parseAndCheckExact("123456789012345678901234567890");
+    }
+
+    @Test
+    public void testManyIntegerDigitsTrailingZeros() {
+        this.parseAndCheckExact("100000000000000000000000000000");
+    }
+
+    @Test
+    public void testLeadingFractionZeros() {
+        this.parseAndCheckExact("0.000000000000000000000000012345678901234567");
+    }
+
+    @Test
+    public void testExponentDigitZero() {
+        this.parseAndCheckExact("1.5e10");
+    }
+
+    @Test
+    public void testMaxValue() {
+        this.parseAndCheckExact("1.7976931348623157e308");
+    }
+
+    @Test
+    public void testOverflowInfinity() {
+        this.parseAndCheckExact("1.7976931348623159e308");
+    }
+
+    @Test
+    public void testMinNormal() {
+        this.parseAndCheckExact("2.2250738585072014E-308");
+    }
+
+    @Test
+    public void testSubnormal() {
+        this.parseAndCheckExact("2.2250738585072011e-308");
+    }
+
+    @Test
+    public void testMinValue() {
+        this.parseAndCheckExact("4.9e-324");
+    }
+
+    @Test
+    public void testUnderflowZero() {
+        this.parseAndCheckExact("2e-324");
+    }
+
+    @Test
+    public void testHugeExponent() {
+        this.parseAndCheck2("1E99999999999", Double.POSITIVE_INFINITY);
+    }
+
+    @Test
+    public void testHugeNegativeExponent() {
+        this.parseAndCheck2("1E-99999999999", 0.0);
+    }
+
+    @Test
+    public void testRandomRoundTrip() {
+        final Random random = new Random(1);
+
+        for (int i = 0; i < 10000; i++) {
+            final double value = Double.longBitsToDouble(random.nextLong() & Long.MAX_VALUE);
+            if (Double.isNaN(value) || Double.isInfinite(value)) {
+                continue;
+            }
+            final String text = Double.toString(value);
+            this.checkEquals(
+                    value,
+                    this.createParser()
+                            .parseOrNull(
+                                    TextCursors.charSequence(text),
+                                    this.createContext()
+                            ).cast(DoubleParserToken.class)
+                            .value(),
+                    text
+            );
+        }
+    }
+
+    @Test
+    public void testDifferentSymbolsManyDigits() {
+        this.parseAndCheck3("M1!0000000000000000000000001X5", -1.0000000000000000000000001e5);
+    }
+
+    @Test
+    public void testDifferentSymbolsManyDigitsLongExponentSymbol() {
+        this.parseAndCheck4("1!0000000000000000000000001XYZM5", 1.0000000000000000000000001e-5);
+    }
+
+    @Test
+    public void testManyDigitsNonIndexed() {
+        this.parseAndCheckNonIndexed("123456789012345678901234567890E-5", 123456789012345678901234567890E-5, "!");
+    }
+
+    private void parseAndCheckExact(final String text) {
+        this.parseAndCheck2(text, Double.parseDouble(text));
+    }
+
+    @Test
+    public void testNumberNonIndexed() {
+        this.parseAndCheckNonIndexed("-1.25E+2", -125.0, "!");
+    }
+
+    @Test
+    public void testNanNonIndexed() {
+        this.parseAndCheckNonIndexed("NaN", Double.NaN, "!");
+    }
+
+    @Test
+    public void testInfinityNonIndexed() {
+        this.parseAndCheckNonIndexed("-Infinity", Double.NEGATIVE_INFINITY, "!");
+    }
+
+    @Test
+    public void testFailureNonIndexed() {
+        this.parseFailAndCheck(NonIndexedTextCursor.with("Nx"));
+    }
+
+    private void parseAndCheckNonIndexed(final String text, final double value, final String textAfter) {
+        this.parseAndCheck(
+                NonIndexedTextCursor.with(text + textAfter),
+                DoubleParserToken.with(value, text),
+                text,
+                textAfter
+        );
+    }
+
     @Override
     public DoubleParser<ParserContext> createParser() {
         return DoubleParser.instance();
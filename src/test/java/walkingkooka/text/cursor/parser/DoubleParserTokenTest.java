@@ -19,6 +19,7 @@ package walkingkooka.text.cursor.parser;
 import org.junit.jupiter.api.Test;
 import walkingkooka.visit.Visiting;
 
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
 
 public final class DoubleParserTokenTest extends ValueParserTokenTestCase<DoubleParserToken> {
@@ -51,6 +52,42 @@ public final class DoubleParserTokenTest extends ValueParserTokenTestCase<Double
         this.checkEquals("132", b.toString());
     }
 
+    @Test
+    public void testAcceptPrimitive() {
+        final StringBuilder b = new StringBuilder();
+        final DoubleParserToken token = DoubleParserToken.with(123.5, "123.5");
+
+        new ParserTokenVisitor() {
+            @Override
+            protected void visit(final double value) {
+                b.append(value);
+            }
+        }.accept(token);
+        this.checkEquals("123.5", b.toString());
+    }
+
+    @Test
+    public void testDoubleValue() {
+        final DoubleParserToken token = DoubleParserToken.with(123.5, "123.5");
+        this.checkEquals(123.5, token.doubleValue(), "doubleValue");
+        this.checkEquals(Double.valueOf(123.5), token.value(), "value");
+    }
+
+    @Test
+    public void testEqualsDifferentValue() {
+        assertNotEquals(DoubleParserToken.with(456.5, "123.5"), DoubleParserToken.with(123.5, "123.5"));
+    }
+
+    @Test
+    public void testEqualsNaN() {
+        this.checkEquals(DoubleParserToken.with(Double.NaN, "NaN"), DoubleParserToken.with(Double.NaN, "NaN"));
+    }
+
+    @Test
+    public void testEqualsDifferentZeroSign() {
+        assertNotEquals(DoubleParserToken.with(-0.0, "0"), DoubleParserToken.with(0.0, "0"));
+    }
+
     @Test
     public void testIgnoresPrefix() {
         DoubleParserToken.with(123, "+123");
@@ -0,0 +1,546 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.text.cursor.parser;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.predicate.character.CharPredicates;
+import walkingkooka.text.CaseSensitivity;
+import walkingkooka.text.cursor.TextCursor;
+import walkingkooka.text.cursor.TextCursorSavePoint;
+import walkingkooka.text.cursor.TextCursors;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ExplicitStackParserTest extends ParserWrapperTestCase<ExplicitStackParser<ParserContext>> {
+
+    private final static Parser<ParserContext> A = string("a");
+    private final static Parser<ParserContext> B = string("b");
+    private final static Parser<ParserContext> C = string("c");
+
+    /**
+     * <code>'a' 'b'? 'c'</code>
+     */
+    private final static Parser<ParserContext> WRAPPED = A.builder()
+            .optional(B)
+            .required(C)
+            .build();
+
+    @Test
+    public void testWithExplicitStackParserSame() {
+        final ExplicitStackParser<ParserContext> parser = ExplicitStackParser.with(WRAPPED);
+        assertSame(parser, ExplicitStackParser.with(parser));
+    }
+
+    @Test
+    public void testParsersExplicitStack() {
+        final Parser<ParserContext> parser = Parsers.explicitStack(WRAPPED);
+        this.checkEquals(ExplicitStackParser.class, parser.getClass(), parser::toString);
+    }
+
+    @Test
+    public void testParseSequence() {
+        this.parseAndCheckSame(
+                WRAPPED,
+                "abc!"
+        );
+    }
+
+    @Test
+    public void testParseSequenceOptionalMissing() {
+        this.parseAndCheckSame(
+                WRAPPED,
+                "ac!"
+        );
+    }
+
+    @Test
+    public void testParseSequenceRequiredMissing() {
+        this.parseAndCheckSame(
+                WRAPPED,
+                "ab!"
+        );
+    }
+
+    @Test
+    public void testParseAlternatives() {
+        this.parseAndCheckSame(
+                A.or(B).or(C),
+                "c!"
+        );
+    }
+
+    @Test
+    public void testParseAlternativesBacktracks() {
+        this.parseAndCheckSame(
+                A.builder()
+                        .required(B)
+                        .build()
+                        .or(A.builder().required(C).build()),
+                "ac!"
+        );
+    }
+
+    @Test
+    public void testParseRepeating() {
+        this.parseAndCheckSame(
+                A.or(B).repeating(),
+                "abba!"
+        );
+    }
+
+    @Test
+    public void testParseRepeatingNone() {
+        this.parseAndCheckSame(
+                A.repeating(),
+                "b"
+        );
+    }
+
+    @Test
+    public void testParseTransform() {
+        this.parseAndCheckSame(
+                WRAPPED.transform((t, c) -> ParserTokens.string(t.text().toUpperCase(), t.text())),
+                "abc"
+        );
+    }
+
+    @Test
+    public void testParseAndEmptyTextCursor() {
+        this.parseAndCheckSame(
+                WRAPPED.andEmptyTextCursor(),
+                "abc!"
+        );
+    }
+
+    @Test
+    public void testParseMemoize() {
+        this.parseAndCheckSame(
+                A.builder()
+                        .required(B)
+                        .build()
+                        .memoize()
+                        .or(A.memoize()),
+                "ac"
+        );
+    }
+
+    @Test
+    public void testParseIndexedCursorWrappedOnlyForMemoize() {
+        final TextCursor cursor = IndexedTextCursor.with("ab!");
+        final Parser<ParserContext> notWrapped = (c, ctx) -> {
+            assertSame(cursor, c, "cursor before memoize");
+            return A.parse(c, ctx);
+        };
+        final Parser<ParserContext> wrapped = (c, ctx) -> {
+            this.checkEquals(MemoizingParserTextCursor.class, c.getClass(), "cursor within memoize");
+            return B.parse(c, ctx);
+        };
+
+        this.checkEquals(
+                Optional.of("ab"),
+                ExplicitStackParser.with(
+                        notWrapped.builder()
+                                .required(wrapped.memoize())
+                                .build()
+                ).parse(cursor, this.createContext())
+                        .map(ParserToken::text)
+        );
+        this.checkEquals('!', cursor.at(), "cursor");
+    }
+
+    @Test
+    public void testParseNonIndexedCursorWrapped() {
+        final TextCursor cursor = NonIndexedTextCursor.with("a!");
+        final Parser<ParserContext> parser = (c, ctx) -> {
+            assertNotSame(cursor, c, "cursor");
+            return A.parse(c, ctx);
+        };
+
+        this.checkEquals(
+                Optional.of("a"),
+                ExplicitStackParser.with(parser)
+                        .parse(cursor, this.createContext())
+                        .map(ParserToken::text)
+        );
+        this.checkEquals('!', cursor.at(), "cursor");
+    }
+
+    @Test
+    public void testParseReportNotEmpty() {
+        this.parseThrows(
+                ExplicitStackParser.with(
+                        ReportingParser.with(
+                                ParserReporterCondition.NOT_EMPTY,
+                                ParserReporters.basic(),
+                                WRAPPED
+                        )
+                ),
+                "abc!",
+                "Invalid character '!' at (4,1)"
+        );
+    }
+
+    @Test
+    public void testParseReference() {
+        final ReferenceParser<ParserContext> reference = Parsers.reference();
+        reference.bind(WRAPPED);
+
+        this.parseAndCheckSame(
+                reference.setToString("Abc"),
+                "abc!"
+        );
+    }
+
+    @Test
+    public void testParseRuleLeftRecursion() {
+        // sum := sum '+' digit | digit
+        final RuleParser<ParserContext> sum = Parsers.rule("sum");
+        sum.bind(
+                sum.builder()
+                        .required(string("+"))
+                        .required(DIGIT)
+                        .build()
+                        .or(DIGIT)
+        );
+
+        this.parseAndCheckSame(
+                sum,
+                "1+2+3!"
+        );
+    }
+
+    @Test
+    public void testParseRuleIndirectLeftRecursion() {
+        // list := item 'x' | 'y'
+        // item := list
+        final RuleParser<ParserContext> list = Parsers.rule("list");
+        final RuleParser<ParserContext> item = Parsers.rule("item");
+        list.bind(
+                item.builder()
+                        .required(string("x"))
+                        .build()
+                        .or(string("y"))
+        );
+        item.bind(list);
+
+        this.parseAndCheckSame(
+                list,
+                "yxxx!"
+        );
+    }
+
+    @Test
+    public void testParseRuleThrowsRestoresCursorState() {
+        // sum := sum '+' digit | throws
+        final RuleParser<ParserContext> sum = Parsers.rule("sum");
+        final Parser<ParserContext> throwing = (c, ctx) -> {
+            throw new UnsupportedOperationException();
+        };
+        sum.bind(
+                sum.builder()
+                        .required(string("+"))
+                        .required(DIGIT)
+                        .build()
+                        .or(throwing)
+        );
+
+        final MemoizingParserTextCursor cursor = MemoizingParserTextCursor.with(
+                IndexedTextCursor.with("1+2")
+        );
+        assertThrows(
+                UnsupportedOperationException.class,
+                () -> ExplicitStackParser.with(sum)
+                        .parseOrNull(cursor, this.createContext())
+        );
+
+        this.checkEquals(0, cursor.heads.size(), "heads");
+        this.checkEquals(0, cursor.leftRecursions, "leftRecursions");
+    }
+
+    @Test
+    public void testParseRuleDeeplyNested() {
+        // nested := '(' nested ')' | 'x'
+        final RuleParser<ParserContext> nested = Parsers.rule("nested");
+        nested.bind(
+                string("(").builder()
+                        .required(nested)
+                        .required(string(")"))
+                        .build()
+                        .or(string("x"))
+        );
+
+        this.parseDeeplyNestedAndCheck(nested);
+    }
+
+    @Test
+    public void testParseExpression() {
+        final Parser<ParserContext> expression = expression(DIGIT);
+
+        this.parseAndCheckSame(
+                expression,
+                "1 + -2 * 3% ^ 4 ^ 5 - 6!"
+        );
+    }
+
+    @Test
+    public void testParseExpressionOperatorWithoutOperand() {
+        this.parseAndCheckSame(
+                expression(DIGIT),
+                "1+2*-!"
+        );
+    }
+
+    @Test
+    public void testParseExpressionPrefixWithoutOperand() {
+        this.parseAndCheckSame(
+                expression(DIGIT),
+                "--!"
+        );
+    }
+
+    @Test
+    public void testParseExpressionManyPrefixOperators() {
+        final int count = 3000;
+        final StringBuilder b = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            b.append('-');
+        }
+        b.append('1');
+        final String text = b.toString();
+
+        final TextCursor cursor = TextCursors.charSequence(text + "!");
+        this.checkEquals(
+                text,
+                ExplicitStackParser.with(expression(DIGIT))
+                        .parse(cursor, this.createContext())
+                        .map(ParserToken::text)
+                        .orElse(null)
+        );
+        this.checkEquals('!', cursor.at(), "cursor");
+    }
+
+    @Test
+    public void testParseExpressionDeeplyNested() {
+        // expression := operand ('+' operand)*
+        // operand := '(' expression ')' | 'x'
+        final ReferenceParser<ParserContext> expression = Parsers.reference();
+        expression.bind(
+                expression(
+                        string("(").builder()
+                                .required(expression)
+                                .required(string(")"))
+                                .build()
+                                .or(string("x"))
+                )
+        );
+
+        this.parseDeeplyNestedAndCheck(expression);
+    }
+
+    @Test
+    public void testParseNonIndexedCursor() {
+        final Parser<ParserContext> parser = A.or(B).repeating()
+                .builder()
+                .required(C)
+                .build();
+
+        this.parseAndCheck(
+                ExplicitStackParser.with(parser),
+                this.createContext(),
+                NonIndexedTextCursor.with("abac!"),
+                parser.parse(TextCursors.charSequence("abac!"), this.createContext())
+                        .get(),
+                "abac",
+                "!"
+        );
+    }
+
+    @Test
+    public void testParseDeeplyNested() {
+        // nested := '(' nested ')' | 'x'
+        final ReferenceParser<ParserContext> nested = Parsers.reference();
+        nested.bind(
+                string("(").builder()
+                        .required(nested)
+                        .required(string(")"))
+                        .build()
+                        .or(string("x"))
+        );
+
+        this.parseDeeplyNestedAndCheck(nested);
+    }
+
+    @Test
+    public void testParseDeeplyNestedThreadStackOverflows() throws InterruptedException {
+        // nested := '(' nested ')' | 'x'
+        final ReferenceParser<ParserContext> nested = Parsers.reference();
+        nested.bind(
+                string("(").builder()
+                        .required(nested)
+                        .required(string(")"))
+                        .build()
+                        .or(string("x"))
+        );
+
+        final String text = nestedText(5000);
+
+        final Object overflow = this.parseWithSmallStack(nested, text);
+        this.checkEquals(
+                StackOverflowError.class,
+                overflow.getClass(),
+                () -> "parse without explicit stack " + overflow
+        );
+
+        this.checkEquals(
+                text,
+                this.parseWithSmallStack(ExplicitStackParser.with(nested), text)
+        );
+    }
+
+    /**
+     * Parses the text on a new {@link Thread} with a small stack, returning the text of the token or any
+     * {@link StackOverflowError}.
+     */
+    private Object parseWithSmallStack(final Parser<ParserContext> parser,
+                                       final String text) throws InterruptedException {
+        final Object[] result = new Object[1];
+
+        final Thread thread = new Thread(
+                null,
+                () -> {
+                    try {
+                        result[0] = parser.parse(TextCursors.charSequence(text), this.createContext())
+                                .map(ParserToken::text)
+                                .orElse(null);
+                    } catch (final StackOverflowError cause) {
+                        result[0] = cause;
+                    }
+                },
+                "small-stack",
+                256 * 1024
+        );
+        thread.start();
+        thread.join();
+
+        return result[0];
+    }
+
+    private void parseDeeplyNestedAndCheck(final Parser<ParserContext> nested) {
+        final String text = nestedText(3000);
+
+        // only the text is compared, as comparing deeply nested tokens would itself recurse
+        final TextCursor cursor = TextCursors.charSequence(text + "!");
+        this.checkEquals(
+                text,
+                ExplicitStackParser.with(nested)
+                        .parse(cursor, this.createContext())
+                        .map(ParserToken::text)
+                        .orElse(null)
+        );
+        this.checkEquals('!', cursor.at(), "cursor");
+    }
+
+    /**
+     * Returns the given number of opening parens, followed by an <code>x</code> and the same number of closing parens.
+     */
+    private static String nestedText(final int depth) {
+        final StringBuilder b = new StringBuilder();
+        for (int i = 0; i < depth; i++) {
+            b.append('(');
+        }
+        b.append('x');
+        for (int i = 0; i < depth; i++) {
+            b.append(')');
+        }
+        return b.toString();
+    }
+
+    private void parseAndCheckSame(final Parser<ParserContext> parser,
+                                   final String text) {
+        final TextCursor expectedCursor = TextCursors.charSequence(text);
+        final TextCursor actualCursor = TextCursors.charSequence(text);
+
+        this.checkEquals(
+                parser.parse(expectedCursor, this.createContext()),
+                ExplicitStackParser.with(parser).parse(actualCursor, this.createContext()),
+                () -> parser + " " + text
+        );
+        this.checkEquals(
+                remaining(expectedCursor),
+                remaining(actualCursor),
+                () -> "remaining text " + parser + " " + text
+        );
+    }
+
+    private static String remaining(final TextCursor cursor) {
+        final TextCursorSavePoint save = cursor.save();
+        cursor.end();
+        return save.textBetween().toString();
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(this.createParser(), WRAPPED.toString());
+    }
+
+    @Override
+    ExplicitStackParser<ParserContext> createParser(final Parser<ParserContext> parser) {
+        return ExplicitStackParser.with(parser);
+    }
+
+    @Override
+    Parser<ParserContext> wrappedParser() {
+        return WRAPPED;
+    }
+
+    private static Parser<ParserContext> string(final String text) {
+        return Parsers.string(text, CaseSensitivity.SENSITIVE);
+    }
+
+    private final static Parser<ParserContext> DIGIT = Parsers.character(CharPredicates.digit());
+
+    private static Parser<ParserContext> expression(final Parser<ParserContext> operand) {
+        return Parsers.expression(
+                operand,
+                Parsers.<ParserContext>expressionOperatorTable()
+                        .prefix(string("-"), 3, ExplicitStackParserTest::operator)
+                        .postfix(string("%"), 5, ExplicitStackParserTest::operator)
+                        .binaryLeft(string("+"), 1, ExplicitStackParserTest::operator)
+                        .binaryLeft(string("-"), 1, ExplicitStackParserTest::operator)
+                        .binaryLeft(string("*"), 2, ExplicitStackParserTest::operator)
+                        .binaryRight(string("^"), 4, ExplicitStackParserTest::operator)
+                        .whitespace(Parsers.stringCharPredicate(CharPredicates.whitespace(), 1, 10))
+        );
+    }
+
+    private static ParserToken operator(final List<ParserToken> tokens,
+                                        final String text,
+                                        final ParserToken operator) {
+        return ParserTokens.sequence(tokens, text);
+    }
+
+    @Override
+    public Class<ExplicitStackParser<ParserContext>> type() {
+        return Cast.to(ExplicitStackParser.class);
+    }
+}
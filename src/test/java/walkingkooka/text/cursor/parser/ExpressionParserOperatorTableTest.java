@@ -0,0 +1,115 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.text.CaseSensitivity;
+import walkingkooka.text.cursor.TextCursors;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ExpressionParserOperatorTableTest implements ClassTesting2<ExpressionParserOperatorTable<ParserContext>>,
+        ToStringTesting<ExpressionParserOperatorTable<ParserContext>> {
+
+    private final static ExpressionParserOperatorFactory FACTORY = (tokens, text, operator) -> operator;
+
+    @Test
+    public void testPrefixNullOperatorFails() {
+        assertThrows(
+                NullPointerException.class,
+                () -> ExpressionParserOperatorTable.empty()
+                        .prefix(null, 1, FACTORY)
+        );
+    }
+
+    @Test
+    public void testBinaryLeftNullFactoryFails() {
+        assertThrows(
+                NullPointerException.class,
+                () -> ExpressionParserOperatorTable.<ParserContext>empty()
+                        .binaryLeft(string("+"), 1, null)
+        );
+    }
+
+    @Test
+    public void testWhitespaceNullFails() {
+        assertThrows(
+                NullPointerException.class,
+                () -> ExpressionParserOperatorTable.empty()
+                        .whitespace(null)
+        );
+    }
+
+    @Test
+    public void testParserUnaffectedByLaterChanges() {
+        final ExpressionParserOperatorTable<ParserContext> table = ExpressionParserOperatorTable.empty();
+        final Parser<ParserContext> parser = Parsers.expression(
+                string("1"),
+                table
+        );
+        table.binaryLeft(string("+"), 1, FACTORY);
+
+        this.checkEquals(
+                "1",
+                parser.parse(TextCursors.charSequence("1+1"), ParserContexts.fake())
+                        .get()
+                        .text(),
+                "operator added after the parser was created"
+        );
+    }
+
+    @Test
+    public void testToStringEmpty() {
+        this.toStringAndCheck(
+                ExpressionParserOperatorTable.empty(),
+                "prefix=() postfix=() binary=()"
+        );
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+                ExpressionParserOperatorTable.<ParserContext>empty()
+                        .prefix(string("-"), 3, FACTORY)
+                        .postfix(string("%"), 4, FACTORY)
+                        .binaryLeft(string("+"), 1, FACTORY)
+                        .binaryRight(string("^"), 2, FACTORY),
+                "prefix=(\"-\") postfix=(\"%\") binary=(\"+\", \"^\")"
+        );
+    }
+
+    private static Parser<ParserContext> string(final String text) {
+        return Parsers.string(text, CaseSensitivity.SENSITIVE);
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<ExpressionParserOperatorTable<ParserContext>> type() {
+        return Cast.to(ExpressionParserOperatorTable.class);
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
@@ -0,0 +1,433 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.predicate.character.CharPredicates;
+import walkingkooka.text.CaseSensitivity;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ExpressionParserTest extends NonEmptyParserTestCase<ExpressionParser<ParserContext>, ParserToken> {
+
+    private final static Parser<ParserContext> OPERAND = Parsers.stringCharPredicate(
+            CharPredicates.digit(),
+            1,
+            10
+    );
+
+    @Test
+    public void testWithNullOperandFails() {
+        assertThrows(
+                NullPointerException.class,
+                () -> ExpressionParser.with(null, this.operators())
+        );
+    }
+
+    @Test
+    public void testWithNullOperatorsFails() {
+        assertThrows(
+                NullPointerException.class,
+                () -> ExpressionParser.with(OPERAND, null)
+        );
+    }
+
+    @Test
+    public void testWithInvalidPriorityFails() {
+        final IllegalArgumentException thrown = assertThrows(
+                IllegalArgumentException.class,
+                () -> this.operators()
+                        .binaryLeft(operator("="), Integer.MIN_VALUE, ExpressionParserTest::create)
+        );
+        this.checkEquals(
+                "Priority -2147483648 must be greater than -2147483648",
+                thrown.getMessage(),
+                "message"
+        );
+    }
+
+    @Test
+    public void testInvalidOperandFails() {
+        this.parseFailAndCheck("a");
+    }
+
+    @Test
+    public void testOperatorFails() {
+        this.parseFailAndCheck("+");
+    }
+
+    @Test
+    public void testOperand() {
+        this.parseAndCheck2(
+                "1",
+                "1"
+        );
+    }
+
+    @Test
+    public void testOperandInvalidOperator() {
+        this.parseAndCheck2(
+                "1a",
+                "1",
+                "1",
+                "a"
+        );
+    }
+
+    @Test
+    public void testBinary() {
+        this.parseAndCheck2(
+                "1+2",
+                "(1+2)"
+        );
+    }
+
+    @Test
+    public void testBinaryMissingRightOperand() {
+        this.parseAndCheck2(
+                "1+",
+                "1",
+                "1",
+                "+"
+        );
+    }
+
+    @Test
+    public void testBinaryMissingRightOperand2() {
+        this.parseAndCheck2(
+                "1+2*",
+                "(1+2)",
+                "1+2",
+                "*"
+        );
+    }
+
+    @Test
+    public void testBinaryLeftAssociative() {
+        this.parseAndCheck2(
+                "1-2-3",
+                "((1-2)-3)"
+        );
+    }
+
+    @Test
+    public void testBinaryLeftAssociative2() {
+        this.parseAndCheck2(
+                "1+2-3+4",
+                "(((1+2)-3)+4)"
+        );
+    }
+
+    @Test
+    public void testBinaryRightAssociative() {
+        this.parseAndCheck2(
+                "2^3^4",
+                "(2^(3^4))"
+        );
+    }
+
+    @Test
+    public void testBinaryHigherPriorityRight() {
+        this.parseAndCheck2(
+                "1+2*3",
+                "(1+(2*3))"
+        );
+    }
+
+    @Test
+    public void testBinaryHigherPriorityLeft() {
+        this.parseAndCheck2(
+                "1*2+3",
+                "((1*2)+3)"
+        );
+    }
+
+    @Test
+    public void testBinaryMixedPriorities() {
+        this.parseAndCheck2(
+                "1+2*3^4^5-6/7",
+                "((1+(2*(3^(4^5))))-(6/7))"
+        );
+    }
+
+    @Test
+    public void testPrefix() {
+        this.parseAndCheck2(
+                "-1",
+                "(-1)"
+        );
+    }
+
+    @Test
+    public void testPrefixPrefix() {
+        this.parseAndCheck2(
+                "--1",
+                "(-(-1))"
+        );
+    }
+
+    @Test
+    public void testPrefixMissingOperandFails() {
+        this.parseFailAndCheck("-a");
+    }
+
+    @Test
+    public void testPrefixBinds() {
+        this.parseAndCheck2(
+                "-1*2",
+                "((-1)*2)"
+        );
+    }
+
+    @Test
+    public void testPrefixLowerPriorityThanBinary() {
+        this.parseAndCheck2(
+                "-2^3",
+                "(-(2^3))"
+        );
+    }
+
+    @Test
+    public void testPostfix() {
+        this.parseAndCheck2(
+                "1%",
+                "(1%)"
+        );
+    }
+
+    @Test
+    public void testPostfixPostfix() {
+        this.parseAndCheck2(
+                "1%%",
+                "((1%)%)"
+        );
+    }
+
+    @Test
+    public void testPostfixBinary() {
+        this.parseAndCheck2(
+                "1+2%*3",
+                "(1+((2%)*3))"
+        );
+    }
+
+    @Test
+    public void testPrefixPostfix() {
+        this.parseAndCheck2(
+                "-1%",
+                "(-(1%))"
+        );
+    }
+
+    @Test
+    public void testWhitespace() {
+        this.parseAndCheck2(
+                "1 + 2 * 3",
+                "(1+(2*3))"
+        );
+    }
+
+    @Test
+    public void testWhitespacePrefix() {
+        this.parseAndCheck2(
+                "- 1",
+                "(-1)"
+        );
+    }
+
+    @Test
+    public void testWhitespaceTrailingNotConsumed() {
+        this.parseAndCheck2(
+                "1+2 ",
+                "(1+2)",
+                "1+2",
+                " "
+        );
+    }
+
+    @Test
+    public void testWhitespaceWithoutWhitespaceParser() {
+        final ExpressionParser<ParserContext> parser = ExpressionParser.with(
+                OPERAND,
+                Parsers.<ParserContext>expressionOperatorTable()
+                        .binaryLeft(operator("+"), 1, ExpressionParserTest::create)
+        );
+
+        this.parseAndCheck(
+                parser,
+                "1 +2",
+                token("1", "1"),
+                "1",
+                " +2"
+        );
+    }
+
+    @Test
+    public void testNonIndexedCursor() {
+        this.parseAndCheck(
+                NonIndexedTextCursor.with("1+2*3!"),
+                token("(1+(2*3))", "1+2*3"),
+                "1+2*3",
+                "!"
+        );
+    }
+
+    @Test
+    public void testTokensIncludeWhitespace() {
+        final ExpressionParser<ParserContext> parser = ExpressionParser.with(
+                OPERAND,
+                Parsers.<ParserContext>expressionOperatorTable()
+                        .binaryLeft(
+                                operator("+"),
+                                1,
+                                (tokens, text, operator) -> {
+                                    this.checkEquals(
+                                            "1| |+| |2",
+                                            tokens.stream()
+                                                    .map(ParserToken::text)
+                                                    .collect(Collectors.joining("|")),
+                                            "tokens"
+                                    );
+                                    this.checkEquals(
+                                            "+",
+                                            operator.text(),
+                                            "operator"
+                                    );
+                                    return ParserTokens.sequence(tokens, text);
+                                })
+                        .whitespace(whitespace())
+        );
+
+        this.parseAndCheck(
+                parser,
+                "1 + 2",
+                ParserTokens.sequence(
+                        Lists.of(
+                                token("1", "1"),
+                                token(" ", " "),
+                                token("+", "+"),
+                                token(" ", " "),
+                                token("2", "2")
+                        ),
+                        "1 + 2"
+                ),
+                "1 + 2",
+                ""
+        );
+    }
+
+    @Test
+    public void testMayStartWith() {
+        final ExpressionParser<ParserContext> parser = this.createParser();
+        this.checkEquals(true, parser.mayStartWith('1'), "operand");
+        this.checkEquals(true, parser.mayStartWith('-'), "prefix");
+        this.checkEquals(false, parser.mayStartWith('+'), "binary");
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+                this.createParser(),
+                "Expression(" + OPERAND + ")"
+        );
+    }
+
+    @Override
+    public ExpressionParser<ParserContext> createParser() {
+        return ExpressionParser.with(
+                OPERAND,
+                this.operators()
+        );
+    }
+
+    private ExpressionParserOperatorTable<ParserContext> operators() {
+        return Parsers.<ParserContext>expressionOperatorTable()
+                .prefix(operator("-"), 3, ExpressionParserTest::create)
+                .postfix(operator("%"), 5, ExpressionParserTest::create)
+                .binaryLeft(operator("+"), 1, ExpressionParserTest::create)
+                .binaryLeft(operator("-"), 1, ExpressionParserTest::create)
+                .binaryLeft(operator("*"), 2, ExpressionParserTest::create)
+                .binaryLeft(operator("/"), 2, ExpressionParserTest::create)
+                .binaryRight(operator("^"), 4, ExpressionParserTest::create)
+                .whitespace(whitespace());
+    }
+
+    private static Parser<ParserContext> operator(final String symbol) {
+        return Parsers.string(symbol, CaseSensitivity.SENSITIVE);
+    }
+
+    private static Parser<ParserContext> whitespace() {
+        return Parsers.stringCharPredicate(
+                CharPredicates.whitespace(),
+                1,
+                10
+        );
+    }
+
+    /**
+     * Creates a token whose value shows the grouping of operands, ignoring whitespace.
+     */
+    private static ParserToken create(final List<ParserToken> tokens,
+                                      final String text,
+                                      final ParserToken operator) {
+        return token(
+                tokens.stream()
+                        .filter(t -> false == t.text().trim().isEmpty())
+                        .map(t -> ((StringParserToken) t).value())
+                        .collect(Collectors.joining("", "(", ")")),
+                text
+        );
+    }
+
+    private static StringParserToken token(final String value,
+                                           final String text) {
+        return StringParserToken.with(value, text);
+    }
+
+    private void parseAndCheck2(final String text,
+                                final String value) {
+        this.parseAndCheck2(
+                text,
+                value,
+                text,
+                ""
+        );
+    }
+
+    private void parseAndCheck2(final String text,
+                                final String value,
+                                final String consumed,
+                                final String after) {
+        this.parseAndCheck(
+                text,
+                token(value, consumed),
+                consumed,
+                after
+        );
+    }
+
+    @Override
+    public Class<ExpressionParser<ParserContext>> type() {
+        return Cast.to(ExpressionParser.class);
+    }
+}
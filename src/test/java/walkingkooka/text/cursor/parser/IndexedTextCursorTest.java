@@ -0,0 +1,173 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.text.cursor.parser;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.text.cursor.TextCursor;
+import walkingkooka.text.cursor.TextCursorLineInfo;
+import walkingkooka.text.cursor.TextCursorSavePoint;
+import walkingkooka.text.cursor.TextCursorTesting2;
+import walkingkooka.text.cursor.TextCursors;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class IndexedTextCursorTest implements ClassTesting2<IndexedTextCursor>,
+        TextCursorTesting2<IndexedTextCursor>,
+        ToStringTesting<IndexedTextCursor> {
+
+    @Test
+    public void testWithNullFails() {
+        assertThrows(
+                NullPointerException.class,
+                () -> IndexedTextCursor.with(null)
+        );
+    }
+
+    @Test
+    public void testAtWhenEmpty() {
+        this.atFails(IndexedTextCursor.with(""));
+    }
+
+    @Test
+    public void testAtWhenEmpty2() {
+        final IndexedTextCursor cursor = IndexedTextCursor.with("123");
+        cursor.next();
+        cursor.next();
+        cursor.next();
+        this.atFails(cursor);
+    }
+
+    @Test
+    public void testSetOffset() {
+        final IndexedTextCursor cursor = IndexedTextCursor.with("abc");
+        cursor.setOffset(2);
+        this.checkEquals('c', cursor.at(), "at");
+
+        cursor.setOffset(0);
+        this.checkEquals('a', cursor.at(), "at");
+    }
+
+    @Test
+    public void testSetOffsetEnd() {
+        final IndexedTextCursor cursor = IndexedTextCursor.with("abc");
+        cursor.setOffset(3);
+        this.checkEquals(true, cursor.isEmpty(), "isEmpty");
+    }
+
+    @Test
+    public void testSetOffsetInvalidFails() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> IndexedTextCursor.with("abc").setOffset(4)
+        );
+    }
+
+    @Test
+    public void testSaveRestore() {
+        final IndexedTextCursor cursor = IndexedTextCursor.with("abc");
+        cursor.next();
+
+        final TextCursorSavePoint save = cursor.save();
+        cursor.next();
+        cursor.next();
+        this.checkEquals("bc", save.textBetween().toString(), "textBetween");
+
+        save.restore();
+        this.checkEquals('b', cursor.at(), "at");
+    }
+
+    @Test
+    @Override
+    public void testLineInfo() {
+        final IndexedTextCursor cursor = IndexedTextCursor.with("text\nnext");
+        cursor.next();
+        this.lineInfoCheck(cursor, "text", 1, 2);
+    }
+
+    @Test
+    public void testLineInfoSameAsCharSequenceTextCursor() {
+        final String text = "first\nsecond\rthird";
+
+        final IndexedTextCursor indexed = IndexedTextCursor.with(text);
+        final TextCursor charSequence = TextCursors.charSequence(text);
+
+        for (int i = 0; i < text.length(); i++) {
+            this.checkLineInfo(
+                    charSequence.lineInfo(),
+                    indexed.lineInfo(),
+                    i
+            );
+            indexed.next();
+            charSequence.next();
+        }
+
+        // backwards
+        indexed.setOffset(1);
+        this.checkEquals(2, indexed.lineInfo().column(), "column after moving backwards");
+    }
+
+    private void checkLineInfo(final TextCursorLineInfo expected,
+                               final TextCursorLineInfo actual,
+                               final int offset) {
+        this.checkEquals(expected.lineNumber(), actual.lineNumber(), () -> "lineNumber at " + offset);
+        this.checkEquals(expected.column(), actual.column(), () -> "column at " + offset);
+        this.checkEquals(expected.text(), actual.text(), () -> "text at " + offset);
+    }
+
+    @Test
+    public void testSaveLineInfo() {
+        final IndexedTextCursor cursor = IndexedTextCursor.with("text\nnext");
+        cursor.next();
+
+        final TextCursorSavePoint save = cursor.save();
+        cursor.end();
+
+        this.checkEquals(2, save.lineInfo().column(), "column");
+    }
+
+    @Test
+    public void testToString() {
+        final IndexedTextCursor cursor = IndexedTextCursor.with("abcdefghijklmnopqrstuvwxyz");
+        cursor.setOffset(13);
+        this.toStringAndCheck(cursor, "at 13 ghijklm[n]opqrstu");
+    }
+
+    @Test
+    public void testToStringAtEnd() {
+        final IndexedTextCursor cursor = IndexedTextCursor.with("abc");
+        cursor.end();
+        this.toStringAndCheck(cursor, "at 3 abc[]");
+    }
+
+    @Override
+    public IndexedTextCursor createTextCursor(final String text) {
+        return IndexedTextCursor.with(text);
+    }
+
+    @Override
+    public Class<IndexedTextCursor> type() {
+        return IndexedTextCursor.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.text.cursor.parser;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.text.cursor.TextCursor;
+import walkingkooka.text.cursor.TextCursors;
+
+public final class IndexedTextCursorsTest implements ClassTesting2<IndexedTextCursors> {
+
+    @Test
+    public void testTextNonIndexed() {
+        this.checkEquals(null, IndexedTextCursors.text(NonIndexedTextCursor.with("abc")));
+    }
+
+    @Test
+    public void testTextCharSequenceTextCursor() {
+        this.checkEquals(null, IndexedTextCursors.text(TextCursors.charSequence("abc")));
+    }
+
+    @Test
+    public void testText() {
+        final String text = "abc";
+        this.checkEquals(text, IndexedTextCursors.text(IndexedTextCursor.with(text)).toString());
+    }
+
+    @Test
+    public void testTextMemoizingParserTextCursor() {
+        final String text = "abc";
+        this.checkEquals(
+                text,
+                IndexedTextCursors.text(MemoizingParserTextCursor.with(IndexedTextCursor.with(text))).toString()
+        );
+    }
+
+    @Test
+    public void testTextMemoizingParserTextCursorNonIndexed() {
+        this.checkEquals(
+                null,
+                IndexedTextCursors.text(MemoizingParserTextCursor.with(NonIndexedTextCursor.with("abc")))
+        );
+    }
+
+    @Test
+    public void testOffsetAndSetOffset() {
+        final TextCursor cursor = IndexedTextCursor.with("abc");
+        cursor.next();
+        this.checkEquals(1, IndexedTextCursors.offset(cursor), "offset");
+
+        IndexedTextCursors.setOffset(cursor, 2);
+        this.checkEquals('c', cursor.at(), "at");
+    }
+
+    @Test
+    public void testSetOffsetMemoizingParserTextCursor() {
+        final MemoizingParserTextCursor cursor = MemoizingParserTextCursor.with(IndexedTextCursor.with("abc"));
+
+        IndexedTextCursors.setOffset(cursor, 2);
+        this.checkEquals(2, IndexedTextCursors.offset(cursor), "offset");
+        this.checkEquals(2, cursor.offset(), "memoizing offset");
+        this.checkEquals('c', cursor.at(), "at");
+    }
+
+    @Override
+    public Class<IndexedTextCursors> type() {
+        return IndexedTextCursors.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
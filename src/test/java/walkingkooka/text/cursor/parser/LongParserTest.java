@@ -206,6 +206,28 @@ public class LongParserTest extends NonEmptyParserTestCase<LongParser<ParserCont
                 "");
     }
 
+    @Test
+    public void testDecimalNonIndexed() {
+        this.parseAndCheck(
+                NonIndexedTextCursor.with("-123//"),
+                LongParserToken.with(-123, "-123"),
+                "-123",
+                "//"
+        );
+    }
+
+    @Test
+    public void testMinusSignNonIndexedFails() {
+        this.parseFailAndCheck(NonIndexedTextCursor.with("-"));
+    }
+
+    @Test
+    public void testGreaterMaxValueNonIndexedFails() {
+        final BigInteger bigInteger = BigInteger.valueOf(Long.MAX_VALUE).add(BigInteger.ONE);
+
+        assertThrows(ParserException.class, () -> this.parseFailAndCheck(NonIndexedTextCursor.with(bigInteger.toString())));
+    }
+
     @Test
     public void testToString() {
         this.toStringAndCheck(this.createParser(), "Long");
@@ -19,6 +19,7 @@ package walkingkooka.text.cursor.parser;
 import org.junit.jupiter.api.Test;
 import walkingkooka.visit.Visiting;
 
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
 
 public final class LongParserTokenTest extends ValueParserTokenTestCase<LongParserToken> {
@@ -51,6 +52,32 @@ public final class LongParserTokenTest extends ValueParserTokenTestCase<LongPars
         this.checkEquals("132", b.toString());
     }
 
+    @Test
+    public void testAcceptPrimitive() {
+        final StringBuilder b = new StringBuilder();
+        final LongParserToken token = LongParserToken.with(123L, "123");
+
+        new ParserTokenVisitor() {
+            @Override
+            protected void visit(final long value) {
+                b.append(value);
+            }
+        }.accept(token);
+        this.checkEquals("123", b.toString());
+    }
+
+    @Test
+    public void testLongValue() {
+        final LongParserToken token = LongParserToken.with(123L, "123");
+        this.checkEquals(123L, token.longValue(), "longValue");
+        this.checkEquals(Long.valueOf(123L), token.value(), "value");
+    }
+
+    @Test
+    public void testEqualsDifferentValue() {
+        assertNotEquals(LongParserToken.with(456L, "123"), LongParserToken.with(123L, "123"));
+    }
+
     @Test
     public void testIgnoresPrefix() {
         LongParserToken.with(123, "+123");
@@ -61,6 +88,14 @@ public final class LongParserTokenTest extends ValueParserTokenTestCase<LongPars
         LongParserToken.with(0x1234, "0x1234");
     }
 
+    @Test
+    public void testWithParserTokenText() {
+        final LongParserToken token = LongParserToken.with(123, ParserTokenText.with("x123y", 1, 4));
+        this.checkEquals("123", token.text(), "text");
+        assertSame(token.text(), token.text(), "text cached");
+        this.checkEquals(LongParserToken.with(123, "123"), token);
+    }
+
     @Override
     public LongParserToken createToken(final String text) {
         return LongParserToken.with(null != text ?
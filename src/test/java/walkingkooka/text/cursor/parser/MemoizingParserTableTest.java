@@ -0,0 +1,140 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.text.cursor.parser;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.text.CaseSensitivity;
+
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public final class MemoizingParserTableTest implements ClassTesting2<MemoizingParserTable>,
+        ToStringTesting<MemoizingParserTable> {
+
+    private final static MemoizingParser<ParserContext> PARSER1 = MemoizingParser.with(Parsers.string("a", CaseSensitivity.SENSITIVE));
+    private final static MemoizingParser<ParserContext> PARSER2 = MemoizingParser.with(Parsers.string("b", CaseSensitivity.SENSITIVE));
+    private final static ParserToken TOKEN = ParserTokens.string("a", "a");
+
+    @Test
+    public void testId() {
+        final MemoizingParserTable table = MemoizingParserTable.empty();
+        this.checkEquals(0, table.id(PARSER1), "id parser1");
+        this.checkEquals(1, table.id(PARSER2), "id parser2");
+        this.checkEquals(0, table.id(PARSER1), "id parser1 again");
+    }
+
+    @Test
+    public void testGetMissing() {
+        this.checkEquals(-1, MemoizingParserTable.empty().get(0, 0));
+    }
+
+    @Test
+    public void testPutGet() {
+        final MemoizingParserTable table = MemoizingParserTable.empty();
+        table.put(0, 5, TOKEN, 6);
+
+        final int slot = table.get(0, 5);
+        assertSame(TOKEN, table.token(slot), "token");
+        this.checkEquals(6, table.end(slot), "end");
+
+        this.checkEquals(-1, table.get(1, 5), "different id");
+        this.checkEquals(-1, table.get(0, 6), "different offset");
+    }
+
+    @Test
+    public void testPutFailed() {
+        final MemoizingParserTable table = MemoizingParserTable.empty();
+        table.put(0, 5, null, 5);
+
+        final int slot = table.get(0, 5);
+        this.checkEquals(null, table.token(slot), "token");
+        this.checkEquals(MemoizingParserTable.FAILED, table.end(slot), "end");
+    }
+
+    @Test
+    public void testPutReplaces() {
+        final MemoizingParserTable table = MemoizingParserTable.empty();
+        table.put(0, 5, null, 5);
+        table.put(0, 5, TOKEN, 6);
+
+        this.checkEquals(1, table.size, "size");
+        this.checkEquals(6, table.end(table.get(0, 5)), "end");
+    }
+
+    @Test
+    public void testPutGrows() {
+        final MemoizingParserTable table = MemoizingParserTable.empty();
+        final int count = 1000;
+        for (int i = 0; i < count; i++) {
+            table.put(0, i, TOKEN, i + 1);
+        }
+
+        this.checkEquals(count, table.size, "size");
+        for (int i = 0; i < count; i++) {
+            this.checkEquals(i + 1, table.end(table.get(0, i)), "end");
+        }
+    }
+
+    @Test
+    public void testPutEvictsLowestOffsetsWhenFull() {
+        final MemoizingParserTable table = MemoizingParserTable.empty();
+        final int count = MemoizingParserTable.MAX_CAPACITY;
+        for (int i = 0; i < count; i++) {
+            table.put(0, i, TOKEN, i + 1);
+        }
+
+        this.checkEquals(true, table.size < MemoizingParserTable.MAX_CAPACITY, () -> "size " + table.size);
+        this.checkEquals(true, table.size > MemoizingParserTable.MAX_CAPACITY / 4, () -> "size " + table.size);
+        this.checkEquals(-1, table.get(0, 0), "lowest offset evicted");
+        this.checkEquals(count - 1, table.end(table.get(0, count - 2)), "offset before last put kept");
+        this.checkEquals(count, table.end(table.get(0, count - 1)), "last put");
+    }
+
+    @Test
+    public void testPutEvictsSameOffsetWhenFull() {
+        final MemoizingParserTable table = MemoizingParserTable.empty();
+        final int count = MemoizingParserTable.MAX_CAPACITY;
+        for (int i = 0; i < count; i++) {
+            table.put(i, 0, TOKEN, 1);
+        }
+
+        this.checkEquals(true, table.size < MemoizingParserTable.MAX_CAPACITY, () -> "size " + table.size);
+        this.checkEquals(1, table.end(table.get(count - 1, 0)), "last put");
+    }
+
+    @Test
+    public void testToString() {
+        final MemoizingParserTable table = MemoizingParserTable.empty();
+        table.put(0, 5, TOKEN, 6);
+
+        this.toStringAndCheck(table, "1/64");
+    }
+
+    @Override
+    public Class<MemoizingParserTable> type() {
+        return Cast.to(MemoizingParserTable.class);
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
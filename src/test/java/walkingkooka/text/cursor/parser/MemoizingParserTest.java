@@ -0,0 +1,197 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.text.cursor.parser;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.text.CaseSensitivity;
+import walkingkooka.text.cursor.TextCursor;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public final class MemoizingParserTest extends ParserWrapperTestCase<MemoizingParser<ParserContext>> {
+
+    private final static String STRING = "abc";
+    private final static Parser<ParserContext> WRAPPED = Parsers.string(STRING, CaseSensitivity.SENSITIVE);
+
+    @Test
+    public void testWithMemoizingParserSame() {
+        final MemoizingParser<ParserContext> parser = MemoizingParser.with(WRAPPED);
+        assertSame(parser, MemoizingParser.with(parser));
+    }
+
+    @Test
+    public void testMemoizeSame() {
+        final MemoizingParser<ParserContext> parser = MemoizingParser.with(WRAPPED);
+        assertSame(parser, parser.memoize());
+    }
+
+    @Test
+    public void testMemoizeDefaultMethod() {
+        final Parser<ParserContext> parser = WRAPPED.memoize();
+        assertSame(MemoizingParser.class.getName(), parser.getClass().getName(), () -> "" + parser);
+    }
+
+    @Test
+    public void testParse() {
+        this.parseAndCheck(
+                STRING,
+                ParserTokens.string(STRING, STRING),
+                STRING
+        );
+    }
+
+    @Test
+    public void testParseIgnoresRemainder() {
+        this.parseAndCheck(
+                STRING + "!",
+                ParserTokens.string(STRING, STRING),
+                STRING,
+                "!"
+        );
+    }
+
+    @Test
+    public void testParseFails() {
+        this.parseFailAndCheck("ab!");
+    }
+
+    @Test
+    public void testParseBacktrackingReusesResult() {
+        final CountingParser counting = new CountingParser();
+        final Parser<ParserContext> memoized = counting.memoize();
+
+        this.parseAndCheck(
+                this.backtracking(memoized).memoize(),
+                this.createContext(),
+                ParserTextCursors.indexed(STRING + "?"),
+                ParserTokens.sequence(
+                        Lists.of(
+                                ParserTokens.string(STRING, STRING),
+                                ParserTokens.string("?", "?")
+                        ),
+                        STRING + "?"
+                ),
+                STRING + "?"
+        );
+        this.checkEquals(1, counting.count, "wrapped parser invocations");
+    }
+
+    @Test
+    public void testParseBacktrackingReusesFailure() {
+        final CountingParser counting = new CountingParser();
+        final Parser<ParserContext> memoized = counting.memoize();
+
+        this.parseFailAndCheck(
+                this.backtracking(memoized).memoize(),
+                this.createContext(),
+                ParserTextCursors.indexed("xyz")
+        );
+        this.checkEquals(1, counting.count, "wrapped parser invocations");
+    }
+
+    @Test
+    public void testParseBacktrackingNonIndexedReusesResult() {
+        final CountingParser counting = new CountingParser();
+        final Parser<ParserContext> memoized = counting.memoize();
+
+        this.parseAndCheck(
+                this.backtracking(memoized).memoize(),
+                this.createContext(),
+                NonIndexedTextCursor.with(STRING + "?"),
+                ParserTokens.sequence(
+                        Lists.of(
+                                ParserTokens.string(STRING, STRING),
+                                ParserTokens.string("?", "?")
+                        ),
+                        STRING + "?"
+                ),
+                STRING + "?"
+        );
+        this.checkEquals(1, counting.count, "wrapped parser invocations");
+    }
+
+    @Test
+    public void testParseWithoutOutermostMemoizingParser() {
+        final CountingParser counting = new CountingParser();
+        final Parser<ParserContext> memoized = counting.memoize();
+
+        this.parseFailAndCheck(
+                this.backtracking(memoized),
+                this.createContext(),
+                ParserTextCursors.indexed("xyz")
+        );
+        this.checkEquals(2, counting.count, "wrapped parser invocations");
+    }
+
+    /**
+     * Creates a parser that tries the given parser twice at the same offset, ie (parser "!") | (parser "?").
+     */
+    private Parser<ParserContext> backtracking(final Parser<ParserContext> parser) {
+        return parser.builder()
+                .required(Parsers.string("!", CaseSensitivity.SENSITIVE))
+                .build()
+                .or(
+                        parser.builder()
+                                .required(Parsers.string("?", CaseSensitivity.SENSITIVE))
+                                .build()
+                );
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(this.createParser(), WRAPPED.toString());
+    }
+
+    @Override
+    MemoizingParser<ParserContext> createParser(final Parser<ParserContext> parser) {
+        return MemoizingParser.with(parser);
+    }
+
+    @Override
+    Parser<ParserContext> wrappedParser() {
+        return WRAPPED;
+    }
+
+    @Override
+    public Class<MemoizingParser<ParserContext>> type() {
+        return Cast.to(MemoizingParser.class);
+    }
+
+    /**
+     * A {@link Parser} that counts the number of times it was invoked.
+     */
+    private static final class CountingParser implements Parser<ParserContext> {
+
+        @Override
+        public Optional<ParserToken> parse(final TextCursor cursor,
+                                           final ParserContext context) {
+            this.count++;
+            return WRAPPED.parse(cursor, context);
+        }
+
+        int count;
+
+        @Override
+        public String toString() {
+            return WRAPPED.toString();
+        }
+    }
+}
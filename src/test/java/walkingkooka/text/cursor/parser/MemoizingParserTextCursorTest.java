@@ -0,0 +1,110 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.text.cursor.parser;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.text.cursor.TextCursorSavePoint;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class MemoizingParserTextCursorTest implements ClassTesting2<MemoizingParserTextCursor> {
+
+    @Test
+    public void testOffsetIndexed() {
+        final IndexedTextCursor indexed = IndexedTextCursor.with("abc");
+        final MemoizingParserTextCursor cursor = MemoizingParserTextCursor.with(indexed);
+        cursor.next();
+        indexed.setOffset(2);
+
+        this.checkEquals(2, cursor.offset(), "offset");
+    }
+
+    @Test
+    public void testSetOffsetIndexedBackwards() {
+        final MemoizingParserTextCursor cursor = MemoizingParserTextCursor.with(IndexedTextCursor.with("abc"));
+        cursor.setOffset(2);
+        cursor.setOffset(1);
+
+        this.checkEquals(1, cursor.offset(), "offset");
+        this.checkEquals('b', cursor.at(), "at");
+    }
+
+    @Test
+    public void testOffsetNonIndexed() {
+        final MemoizingParserTextCursor cursor = MemoizingParserTextCursor.with(NonIndexedTextCursor.with("abc"));
+        cursor.next();
+        cursor.next();
+
+        this.checkEquals(2, cursor.offset(), "offset");
+    }
+
+    @Test
+    public void testSetOffsetNonIndexed() {
+        final MemoizingParserTextCursor cursor = MemoizingParserTextCursor.with(NonIndexedTextCursor.with("abc"));
+        cursor.setOffset(2);
+
+        this.checkEquals(2, cursor.offset(), "offset");
+        this.checkEquals('c', cursor.at(), "at");
+    }
+
+    @Test
+    public void testSetOffsetNonIndexedBackwardsFails() {
+        final MemoizingParserTextCursor cursor = MemoizingParserTextCursor.with(NonIndexedTextCursor.with("abc"));
+        cursor.setOffset(2);
+
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> cursor.setOffset(1)
+        );
+    }
+
+    @Test
+    public void testSaveRestoreNonIndexed() {
+        final MemoizingParserTextCursor cursor = MemoizingParserTextCursor.with(NonIndexedTextCursor.with("abc"));
+        cursor.next();
+
+        final TextCursorSavePoint save = cursor.save();
+        cursor.next();
+        cursor.next();
+        this.checkEquals("bc", save.textBetween().toString(), "textBetween");
+
+        save.restore();
+        this.checkEquals(1, cursor.offset(), "offset");
+        this.checkEquals('b', cursor.at(), "at");
+    }
+
+    @Test
+    public void testEndNonIndexed() {
+        final MemoizingParserTextCursor cursor = MemoizingParserTextCursor.with(NonIndexedTextCursor.with("abc"));
+        cursor.end();
+
+        this.checkEquals(3, cursor.offset(), "offset");
+        this.checkEquals(true, cursor.isEmpty(), "isEmpty");
+    }
+
+    @Override
+    public Class<MemoizingParserTextCursor> type() {
+        return MemoizingParserTextCursor.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
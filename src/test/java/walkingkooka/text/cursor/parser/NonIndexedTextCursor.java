@@ -0,0 +1,82 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.text.cursor.parser;
+
+import walkingkooka.text.cursor.TextCursor;
+import walkingkooka.text.cursor.TextCursorLineInfo;
+import walkingkooka.text.cursor.TextCursorSavePoint;
+import walkingkooka.text.cursor.TextCursors;
+
+/**
+ * A {@link TextCursor} that hides the {@link CharSequence} backed {@link TextCursor} it delegates to, forcing
+ * parsers to walk the text one character at a time.
+ */
+final class NonIndexedTextCursor implements TextCursor {
+
+    static NonIndexedTextCursor with(final String text) {
+        return new NonIndexedTextCursor(TextCursors.charSequence(text));
+    }
+
+    private NonIndexedTextCursor(final TextCursor cursor) {
+        this.cursor = cursor;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.cursor.isEmpty();
+    }
+
+    @Override
+    public char at() {
+        return this.cursor.at();
+    }
+
+    @Override
+    public TextCursor next() {
+        this.cursor.next();
+        this.nextCount++;
+        return this;
+    }
+
+    /**
+     * The number of times {@link #next()} was called, allowing tests to check how much text a parser read.
+     */
+    int nextCount;
+
+    @Override
+    public TextCursor end() {
+        this.cursor.end();
+        return this;
+    }
+
+    @Override
+    public TextCursorSavePoint save() {
+        return this.cursor.save();
+    }
+
+    @Override
+    public TextCursorLineInfo lineInfo() {
+        return this.cursor.lineInfo();
+    }
+
+    private final TextCursor cursor;
+
+    @Override
+    public String toString() {
+        return this.cursor.toString();
+    }
+}
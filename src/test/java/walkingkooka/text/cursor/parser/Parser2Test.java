@@ -21,6 +21,10 @@ import org.junit.jupiter.api.Test;
 import walkingkooka.Cast;
 import walkingkooka.reflect.ClassTesting;
 import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.text.CaseSensitivity;
+import walkingkooka.text.cursor.TextCursors;
+
+import java.util.Optional;
 
 public final class Parser2Test implements ClassTesting<Parser2<FakeParserContext>> {
 
@@ -40,6 +44,60 @@ public final class Parser2Test implements ClassTesting<Parser2<FakeParserContext
         );
     }
 
+    @Test
+    public void testParseAdaptsParseOrNull() {
+        final Parser2<FakeParserContext> parser = Cast.to(Parsers.string("abc", CaseSensitivity.SENSITIVE));
+        final ParserToken token = ParserTokens.string("abc", "abc");
+
+        this.checkEquals(
+                token,
+                parser.parseOrNull(TextCursors.charSequence("abc"), new FakeParserContext()),
+                "parseOrNull"
+        );
+        this.checkEquals(
+                Optional.of(token),
+                parser.parse(TextCursors.charSequence("abc"), new FakeParserContext()),
+                "parse"
+        );
+    }
+
+    @Test
+    public void testParseAdaptsParseOrNullFails() {
+        final Parser2<FakeParserContext> parser = Cast.to(Parsers.string("abc", CaseSensitivity.SENSITIVE));
+
+        this.checkEquals(
+                null,
+                parser.parseOrNull(TextCursors.charSequence("xyz"), new FakeParserContext()),
+                "parseOrNull"
+        );
+        this.checkEquals(
+                Optional.empty(),
+                parser.parse(TextCursors.charSequence("xyz"), new FakeParserContext()),
+                "parse"
+        );
+    }
+
+    @Test
+    public void testParseOrNullDefaultMethod() {
+        final ParserToken token = ParserTokens.string("abc", "abc");
+        final Parser<FakeParserContext> parser = (c, context) -> Optional.of(token);
+
+        this.checkEquals(
+                token,
+                parser.parseOrNull(TextCursors.charSequence("abc"), new FakeParserContext())
+        );
+    }
+
+    @Test
+    public void testParseOrNullDefaultMethodEmpty() {
+        final Parser<FakeParserContext> parser = (c, context) -> Optional.empty();
+
+        this.checkEquals(
+                null,
+                parser.parseOrNull(TextCursors.charSequence("abc"), new FakeParserContext())
+        );
+    }
+
     // ClassTesting.....................................................................................................
 
     @Override
@@ -0,0 +1,376 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.text.cursor.parser;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.predicate.character.CharPredicate;
+import walkingkooka.predicate.character.CharPredicates;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.text.CaseSensitivity;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ParserChunksTest implements ClassTesting2<ParserChunks> {
+
+    private final static CharPredicate NEW_LINE = CharPredicates.is('\n');
+
+    private final static Parser<ParserContext> LINE = Parsers.stringCharPredicate(CharPredicates.digit(), 1, 10)
+            .builder()
+            .required(Parsers.string("\n", CaseSensitivity.SENSITIVE))
+            .build();
+
+    @Test
+    public void testStreamNullParserFails() {
+        assertThrows(NullPointerException.class, () -> ParserChunks.stream(null, "1\n", NEW_LINE, 1, this.context(), ParserReporters.basic()));
+    }
+
+    @Test
+    public void testStreamNullTextFails() {
+        assertThrows(NullPointerException.class, () -> ParserChunks.stream(LINE, null, NEW_LINE, 1, this.context(), ParserReporters.basic()));
+    }
+
+    @Test
+    public void testStreamNullBoundaryFails() {
+        assertThrows(NullPointerException.class, () -> ParserChunks.stream(LINE, "1\n", null, 1, this.context(), ParserReporters.basic()));
+    }
+
+    @Test
+    public void testStreamInvalidChunkSizeFails() {
+        assertThrows(IllegalArgumentException.class, () -> ParserChunks.stream(LINE, "1\n", NEW_LINE, 0, this.context(), ParserReporters.basic()));
+    }
+
+    @Test
+    public void testStreamNullContextFails() {
+        assertThrows(NullPointerException.class, () -> ParserChunks.stream(LINE, "1\n", NEW_LINE, 1, null, ParserReporters.basic()));
+    }
+
+    @Test
+    public void testStreamNullReporterFails() {
+        assertThrows(NullPointerException.class, () -> ParserChunks.stream(LINE, "1\n", NEW_LINE, 1, this.context(), null));
+    }
+
+    @Test
+    public void testEndsEmpty() {
+        this.endsAndCheck("", 2);
+    }
+
+    @Test
+    public void testEndsSingleChunk() {
+        this.endsAndCheck("1\n22\n333\n", 100, 9);
+    }
+
+    @Test
+    public void testEndsChunkSizeOne() {
+        this.endsAndCheck("1\n22\n333\n", 1, 2, 5, 9);
+    }
+
+    @Test
+    public void testEndsChunkSizeFour() {
+        this.endsAndCheck("1\n22\n333\n", 4, 5, 9);
+    }
+
+    @Test
+    public void testEndsWithoutFinalBoundary() {
+        this.endsAndCheck("1\n22", 1, 2, 4);
+    }
+
+    @Test
+    public void testStreamEmpty() {
+        this.streamAndCheck("", 1);
+    }
+
+    @Test
+    public void testStreamChunkSizeOne() {
+        this.streamAndCheck("1\n22\n333\n", 1, "1\n", "22\n", "333\n");
+    }
+
+    @Test
+    public void testStreamChunkSizeFour() {
+        this.streamAndCheck("1\n22\n333\n", 4, "1\n", "22\n", "333\n");
+    }
+
+    @Test
+    public void testStreamManyLines() {
+        final StringBuilder text = new StringBuilder();
+        final List<String> lines = Lists.array();
+
+        for (int i = 0; i < 1000; i++) {
+            final String line = i + "\n";
+            text.append(line);
+            lines.add(line);
+        }
+
+        this.streamAndCheck(
+                text.toString(),
+                16,
+                lines.toArray(new String[0])
+        );
+    }
+
+    @Test
+    public void testStreamInvalidReportsLineAndColumn() {
+        final ParserReporterException thrown = assertThrows(
+                ParserReporterException.class,
+                () -> ParserChunks.stream(
+                        LINE,
+                        "1\n22\n3x3\n4\n",
+                        NEW_LINE,
+                        1,
+                        this.context(),
+                        ParserReporters.basic()
+                ).collect(Collectors.toList())
+        );
+        this.checkEquals(
+                true,
+                thrown.getMessage().startsWith("Invalid character '3' at (1,3)"),
+                thrown.getMessage()
+        );
+    }
+
+    @Test
+    public void testStreamInvalidReporterToken() {
+        final ParserToken reported = ParserTokens.string("!", "!");
+
+        this.checkEquals(
+                Lists.of(
+                        line("1\n"),
+                        reported
+                ),
+                ParserChunks.stream(
+                        LINE,
+                        "1\n3x3\n4\n",
+                        NEW_LINE,
+                        1,
+                        this.context(),
+                        (c, ctx, p) -> Optional.of(reported)
+                ).collect(Collectors.toList())
+        );
+    }
+
+    @Test
+    public void testStreamInvalidReporterTokenStopsWithinChunk() {
+        final ParserToken reported = ParserTokens.string("!", "!");
+
+        this.checkEquals(
+                Lists.of(
+                        line("1\n"),
+                        line("22\n"),
+                        reported
+                ),
+                ParserChunks.stream(
+                        LINE,
+                        "1\n22\n3x3\n4\n55\n666\n7\n",
+                        NEW_LINE,
+                        10,
+                        this.context(),
+                        (c, ctx, p) -> Optional.of(reported)
+                ).collect(Collectors.toList())
+        );
+    }
+
+    @Test
+    public void testStreamInvalidReporterTokenManyChunksStopsAtFirst() {
+        final StringBuilder text = new StringBuilder();
+        final List<ParserToken> expected = Lists.array();
+        final ParserToken reported = ParserTokens.string("!", "!");
+
+        for (int i = 0; i < 1000; i++) {
+            final String line = i + "\n";
+            text.append(line);
+            if (i < 500) {
+                expected.add(line(line));
+            }
+            if (i % 100 == 99 && i >= 499) {
+                text.append("x\n");
+            }
+        }
+        expected.add(reported);
+
+        this.checkEquals(
+                expected,
+                ParserChunks.stream(
+                        LINE,
+                        text.toString(),
+                        NEW_LINE,
+                        1,
+                        this.context(),
+                        (c, ctx, p) -> Optional.of(reported)
+                ).collect(Collectors.toList())
+        );
+    }
+
+    @Test
+    public void testStreamManyInvalidReportsFirstInTextOrder() {
+        final StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            text.append(i)
+                    .append(i >= 500 ? "x" : "")
+                    .append('\n');
+        }
+
+        final ParserReporterException thrown = assertThrows(
+                ParserReporterException.class,
+                () -> ParserChunks.stream(
+                        LINE,
+                        text.toString(),
+                        NEW_LINE,
+                        1,
+                        this.context(),
+                        ParserReporters.basic()
+                ).collect(Collectors.toList())
+        );
+        this.checkEquals(
+                true,
+                thrown.getMessage().startsWith("Invalid character '5' at (1,501)"),
+                thrown.getMessage()
+        );
+    }
+
+    @Test
+    public void testStreamThrowsAfterReportedChunkIgnored() {
+        final ParserToken reported = ParserTokens.string("!", "!");
+
+        this.checkEquals(
+                Lists.of(
+                        line("1\n"),
+                        reported
+                ),
+                ParserChunks.stream(
+                        LINE,
+                        "1\nx\n2\ny\n",
+                        NEW_LINE,
+                        1,
+                        this.context(),
+                        (c, ctx, p) -> {
+                            if ('y' == c.at()) {
+                                throw new UnsupportedOperationException();
+                            }
+                            return Optional.of(reported);
+                        }
+                ).collect(Collectors.toList())
+        );
+    }
+
+    @Test
+    public void testStreamIsParallel() {
+        this.checkEquals(
+                true,
+                ParserChunks.stream(LINE, "1\n22\n", NEW_LINE, 1, this.context(), ParserReporters.basic())
+                        .isParallel()
+        );
+    }
+
+    @Test
+    public void testStreamParsesDuringTerminalOperation() {
+        final AtomicInteger count = new AtomicInteger();
+        final Stream<ParserToken> stream = ParserChunks.stream(
+                (c, ctx) -> {
+                    count.incrementAndGet();
+                    return LINE.parse(c, ctx);
+                },
+                "1\n22\n333\n",
+                NEW_LINE,
+                1,
+                this.context(),
+                ParserReporters.basic()
+        );
+        this.checkEquals(0, count.get(), "parsed before terminal operation");
+
+        final List<ParserToken> tokens = Lists.array();
+        stream.forEachOrdered(tokens::add);
+
+        this.checkEquals(
+                Lists.of(
+                        line("1\n"),
+                        line("22\n"),
+                        line("333\n")
+                ),
+                tokens
+        );
+        this.checkEquals(3, count.get(), "parsed");
+    }
+
+    private void endsAndCheck(final String text,
+                              final int chunkSize,
+                              final int... ends) {
+        this.checkEquals(
+                toList(ends),
+                toList(ParserChunks.ends(text, NEW_LINE, chunkSize)),
+                "chunkSize=" + chunkSize
+        );
+    }
+
+    private static List<Integer> toList(final int[] values) {
+        final List<Integer> list = Lists.array();
+        for (final int value : values) {
+            list.add(value);
+        }
+        return list;
+    }
+
+    private void streamAndCheck(final String text,
+                                final int chunkSize,
+                                final String... lines) {
+        this.checkEquals(
+                Lists.of(lines)
+                        .stream()
+                        .map(ParserChunksTest::line)
+                        .collect(Collectors.toList()),
+                ParserChunks.stream(
+                        LINE,
+                        text,
+                        NEW_LINE,
+                        chunkSize,
+                        this.context(),
+                        ParserReporters.basic()
+                ).collect(Collectors.toList())
+        );
+    }
+
+    private static ParserToken line(final String line) {
+        final String digits = line.substring(0, line.length() - 1);
+        return ParserTokens.sequence(
+                Lists.of(
+                        ParserTokens.string(digits, digits),
+                        ParserTokens.string("\n", "\n")
+                ),
+                line
+        );
+    }
+
+    private ParserContext context() {
+        return ParserContexts.fake();
+    }
+
+    @Override
+    public Class<ParserChunks> type() {
+        return ParserChunks.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
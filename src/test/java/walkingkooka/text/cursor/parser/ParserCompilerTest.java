@@ -0,0 +1,268 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.text.CaseSensitivity;
+import walkingkooka.text.cursor.TextCursors;
+
+import java.util.function.BiFunction;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ParserCompilerTest implements ClassTesting2<ParserCompiler> {
+
+    @Test
+    public void testCompileNullFails() {
+        assertThrows(NullPointerException.class, () -> ParserCompiler.compile(null));
+    }
+
+    @Test
+    public void testCompileLeaf() {
+        final Parser<ParserContext> parser = string("abc");
+        assertSame(parser, parser.compile());
+    }
+
+    @Test
+    public void testCompileCustomParser() {
+        final Parser<ParserContext> parser = Parsers.fake();
+        assertSame(parser, parser.compile());
+    }
+
+    @Test
+    public void testCompileCustomToString() {
+        final Parser<ParserContext> parser = Parsers.customToString(string("abc"), "ABC");
+        final Parser<ParserContext> compiled = this.compileAndCheck(parser, "abc!");
+
+        this.checkEquals(StringParser.class, compiled.getClass(), "class");
+    }
+
+    @Test
+    public void testCompileCustomToStringNotParser2() {
+        final Parser<ParserContext> parser = Parsers.customToString(
+                Parsers.andNot(string("abc"), string("abcd")),
+                "ABC"
+        );
+        assertSame(parser, parser.compile());
+    }
+
+    @Test
+    public void testCompileCustomToStringNotParser2ChildCompiled() {
+        final Parser<ParserContext> parser = Parsers.customToString(
+                Parsers.andNot(Parsers.customToString(string("abc"), "ABC"), string("abcd")),
+                "X"
+        );
+        final Parser<ParserContext> compiled = this.compileAndCheck(parser, "abc!");
+
+        this.checkEquals(CustomToStringParser.class, compiled.getClass(), "class");
+    }
+
+    @Test
+    public void testCompileAlternatives() {
+        final Parser<ParserContext> parser = Parsers.alternatives(
+                Lists.of(
+                        string("a"),
+                        Parsers.customToString(
+                                Parsers.alternatives(
+                                        Lists.of(
+                                                string("b"),
+                                                Parsers.customToString(string("c"), "C")
+                                        )
+                                ),
+                                "BC"
+                        )
+                )
+        );
+        final Parser<ParserContext> compiled = this.compileAndCheck(parser, "c!");
+
+        final AlternativesParser<ParserContext> alternatives = compiled.cast();
+        this.checkEquals(3, alternatives.parsers.size(), "parsers merged: " + alternatives.parsers);
+    }
+
+    @Test
+    public void testCompileAlternativesUnchanged() {
+        final Parser<ParserContext> parser = string("a").or(string("b"));
+        assertSame(parser, parser.compile());
+    }
+
+    @Test
+    public void testCompileSharedParserCompiledOnce() {
+        final Parser<ParserContext> shared = Parsers.customToString(string("a"), "A");
+        final Parser<ParserContext> parser = Parsers.alternatives(
+                Lists.of(
+                        shared,
+                        string("b"),
+                        shared
+                )
+        );
+        final AlternativesParser<ParserContext> compiled = this.compileAndCheck(parser, "a!")
+                .cast();
+        assertSame(compiled.parsers.get(0), compiled.parsers.get(2));
+    }
+
+    @Test
+    public void testCompileCustomToStringSharedKeepsWrapper() {
+        final Parser<ParserContext> shared = string("a").memoize();
+        final Parser<ParserContext> parser = Parsers.alternatives(
+                Lists.of(
+                        Parsers.customToString(shared, "A"),
+                        shared
+                )
+        );
+        final AlternativesParser<ParserContext> compiled = this.compileAndCheck(parser, "a!")
+                .cast();
+
+        final CustomToStringParser<ParserContext> custom = compiled.parsers.get(0)
+                .cast();
+        this.checkEquals("A", custom.toString(), "toString");
+        assertSame(compiled.parsers.get(1), custom.parser);
+    }
+
+    @Test
+    public void testCompileSequence() {
+        final Parser<ParserContext> parser = Parsers.customToString(string("a"), "A")
+                .builder()
+                .optional(Parsers.customToString(string("b"), "B").cast())
+                .required(string("c").cast())
+                .build();
+        final Parser<ParserContext> compiled = this.compileAndCheck(parser, "abc!");
+
+        this.checkEquals(SequenceParser.class, compiled.getClass(), "class");
+        this.compileAndCheck(parser, "ac!");
+    }
+
+    @Test
+    public void testCompileTransforming() {
+        final Parser<ParserContext> parser = string("a")
+                .transform(append("1"))
+                .transform(append("2"));
+        final Parser<ParserContext> compiled = this.compileAndCheck(parser, "a!");
+
+        final TransformingParser<ParserContext> transforming = compiled.cast();
+        this.checkEquals(StringParser.class, transforming.parser.getClass(), "transformers merged");
+        this.checkEquals(
+                StringParserToken.with("a12", "a"),
+                compiled.parseOrNull(TextCursors.charSequence("a"), ParserContexts.fake())
+        );
+    }
+
+    @Test
+    public void testCompileTransformingFirstReturnsNull() {
+        final Parser<ParserContext> parser = string("a")
+                .transform((t, c) -> null)
+                .transform((t, c) -> {
+                    throw new UnsupportedOperationException();
+                });
+        this.compileAndCheck(parser, "a!");
+    }
+
+    @Test
+    public void testCompileTransformingCustomToString() {
+        final Parser<ParserContext> parser = Parsers.customToString(
+                string("a")
+                        .transform(append("1")),
+                "A1"
+        ).transform(append("2"));
+        this.compileAndCheck(parser, "a!");
+    }
+
+    @Test
+    public void testCompileRepeating() {
+        this.compileAndCheck(
+                Parsers.customToString(string("a"), "A").repeating(),
+                "aaa!"
+        );
+    }
+
+    @Test
+    public void testCompileMemoize() {
+        this.compileAndCheck(
+                Parsers.customToString(string("a"), "A").memoize(),
+                "a!"
+        );
+    }
+
+    @Test
+    public void testCompileAndEmptyTextCursor() {
+        final Parser<ParserContext> parser = Parsers.customToString(string("a"), "A").andEmptyTextCursor();
+        this.compileAndCheck(parser, "a");
+        this.compileAndCheck(parser, "a!");
+    }
+
+    @Test
+    public void testCompileReport() {
+        final Parser<ParserContext> parser = Parsers.report(
+                ParserReporterCondition.NOT_EMPTY,
+                ParserReporters.basic(),
+                Parsers.customToString(string("a"), "A")
+        );
+        this.compileAndCheck(parser, "a");
+    }
+
+    @Test
+    public void testCompileTwice() {
+        final Parser<ParserContext> compiled = Parsers.customToString(string("a"), "A")
+                .or(string("b"))
+                .compile();
+        assertSame(compiled, compiled.compile());
+    }
+
+    private static Parser<ParserContext> string(final String text) {
+        return Parsers.string(text, CaseSensitivity.SENSITIVE);
+    }
+
+    private static BiFunction<ParserToken, ParserContext, ParserToken> append(final String suffix) {
+        return (t, c) -> StringParserToken.with(
+                ((StringParserToken) t).value() + suffix,
+                t.text()
+        );
+    }
+
+    /**
+     * Compiles the {@link Parser} checking its {@link Object#toString()} is unchanged, and that both parse the text
+     * returning the same {@link ParserToken}.
+     */
+    private Parser<ParserContext> compileAndCheck(final Parser<ParserContext> parser,
+                                                  final String text) {
+        final Parser<ParserContext> compiled = parser.compile();
+        this.checkEquals(parser.toString(), compiled.toString(), "toString");
+
+        this.checkEquals(
+                parser.parseOrNull(TextCursors.charSequence(text), ParserContexts.fake()),
+                compiled.parseOrNull(TextCursors.charSequence(text), ParserContexts.fake()),
+                "parse " + parser + " " + text
+        );
+        return compiled;
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<ParserCompiler> type() {
+        return ParserCompiler.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
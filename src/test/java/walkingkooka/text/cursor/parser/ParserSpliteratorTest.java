@@ -0,0 +1,177 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.text.cursor.parser;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.text.CaseSensitivity;
+import walkingkooka.text.cursor.TextCursor;
+import walkingkooka.text.cursor.TextCursors;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ParserSpliteratorTest implements ClassTesting2<ParserSpliterator<ParserContext>> {
+
+    private final static String TEXT = "ab";
+
+    private final static Parser<ParserContext> PARSER = Parsers.string(TEXT, CaseSensitivity.SENSITIVE);
+
+    @Test
+    public void testWithNullParserFails() {
+        assertThrows(NullPointerException.class, () -> ParserSpliterator.with(null, TextCursors.charSequence(TEXT), this.context()));
+    }
+
+    @Test
+    public void testWithNullCursorFails() {
+        assertThrows(NullPointerException.class, () -> ParserSpliterator.with(PARSER, null, this.context()));
+    }
+
+    @Test
+    public void testWithNullContextFails() {
+        assertThrows(NullPointerException.class, () -> ParserSpliterator.with(PARSER, TextCursors.charSequence(TEXT), null));
+    }
+
+    @Test
+    public void testStreamNone() {
+        this.streamAndCheck(
+                "!",
+                "!"
+        );
+    }
+
+    @Test
+    public void testStreamOne() {
+        this.streamAndCheck(
+                "ab!",
+                "!",
+                token()
+        );
+    }
+
+    @Test
+    public void testStreamMany() {
+        this.streamAndCheck(
+                "ababab!",
+                "!",
+                token(),
+                token(),
+                token()
+        );
+    }
+
+    @Test
+    public void testStreamUntilEmpty() {
+        this.streamAndCheck(
+                "abab",
+                "",
+                token(),
+                token()
+        );
+    }
+
+    @Test
+    public void testStreamLimitStopsParsing() {
+        final TextCursor cursor = TextCursors.charSequence("ababab");
+
+        this.checkEquals(
+                Lists.of(token()),
+                PARSER.stream(cursor, this.context())
+                        .limit(1)
+                        .collect(Collectors.toList())
+        );
+        this.checkEquals(
+                "abab",
+                this.remaining(cursor),
+                "text after"
+        );
+    }
+
+    @Test
+    public void testTryAdvanceAfterFailure() {
+        final ParserSpliterator<ParserContext> spliterator = ParserSpliterator.with(
+                PARSER,
+                TextCursors.charSequence("ab!ab"),
+                this.context()
+        );
+        final List<ParserToken> tokens = Lists.array();
+
+        this.checkEquals(true, spliterator.tryAdvance(tokens::add), "tryAdvance 1");
+        this.checkEquals(false, spliterator.tryAdvance(tokens::add), "tryAdvance 2");
+        this.checkEquals(false, spliterator.tryAdvance(tokens::add), "tryAdvance 3");
+        this.checkEquals(Lists.of(token()), tokens, "tokens");
+    }
+
+    @Test
+    public void testTrySplit() {
+        this.checkEquals(
+                null,
+                ParserSpliterator.with(PARSER, TextCursors.charSequence(TEXT), this.context())
+                        .trySplit()
+        );
+    }
+
+    private void streamAndCheck(final String text,
+                                final String textAfter,
+                                final ParserToken... tokens) {
+        final TextCursor cursor = TextCursors.charSequence(text);
+
+        this.checkEquals(
+                Lists.of(tokens),
+                PARSER.stream(cursor, this.context())
+                        .collect(Collectors.toList()),
+                "stream " + text
+        );
+        this.checkEquals(
+                textAfter,
+                this.remaining(cursor),
+                "text after"
+        );
+    }
+
+    private String remaining(final TextCursor cursor) {
+        final StringBuilder b = new StringBuilder();
+        while (!cursor.isEmpty()) {
+            b.append(cursor.at());
+            cursor.next();
+        }
+        return b.toString();
+    }
+
+    private static ParserToken token() {
+        return ParserTokens.string(TEXT, TEXT);
+    }
+
+    private ParserContext context() {
+        return ParserContexts.fake();
+    }
+
+    @Override
+    public Class<ParserSpliterator<ParserContext>> type() {
+        return Cast.to(ParserSpliterator.class);
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.text.cursor.parser;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.text.cursor.TextCursor;
+import walkingkooka.text.cursor.TextCursorSavePoint;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ParserTokenTextTest implements ClassTesting2<ParserTokenText> {
+
+    private final static String TEXT = "abc123xyz";
+
+    @Test
+    public void testWithInvalidBeginFails() {
+        assertThrows(IndexOutOfBoundsException.class, () -> ParserTokenText.with(TEXT, -1, 1));
+    }
+
+    @Test
+    public void testWithBeginAfterEndFails() {
+        assertThrows(IndexOutOfBoundsException.class, () -> ParserTokenText.with(TEXT, 2, 1));
+    }
+
+    @Test
+    public void testWithInvalidEndFails() {
+        assertThrows(IndexOutOfBoundsException.class, () -> ParserTokenText.with(TEXT, 0, TEXT.length() + 1));
+    }
+
+    @Test
+    public void testLength() {
+        this.checkEquals(3, ParserTokenText.with(TEXT, 3, 6).length());
+    }
+
+    @Test
+    public void testCharAt() {
+        final ParserTokenText text = ParserTokenText.with(TEXT, 3, 6);
+        this.checkEquals('1', text.charAt(0));
+        this.checkEquals('3', text.charAt(2));
+    }
+
+    @Test
+    public void testCharAtInvalidIndexFails() {
+        assertThrows(StringIndexOutOfBoundsException.class, () -> ParserTokenText.with(TEXT, 3, 6).charAt(3));
+    }
+
+    @Test
+    public void testSubSequence() {
+        this.checkEquals("23", ParserTokenText.with(TEXT, 3, 6).subSequence(1, 3).toString());
+    }
+
+    @Test
+    public void testSubSequenceAll() {
+        final ParserTokenText text = ParserTokenText.with(TEXT, 3, 6);
+        assertSame(text, text.subSequence(0, 3));
+    }
+
+    @Test
+    public void testSubSequenceInvalidEndFails() {
+        assertThrows(StringIndexOutOfBoundsException.class, () -> ParserTokenText.with(TEXT, 3, 6).subSequence(0, 4));
+    }
+
+    @Test
+    public void testToString() {
+        this.checkEquals("123", ParserTokenText.with(TEXT, 3, 6).toString());
+    }
+
+    @Test
+    public void testToStringCached() {
+        final ParserTokenText text = ParserTokenText.with(TEXT, 3, 6);
+        assertSame(text.toString(), text.toString());
+    }
+
+    @Test
+    public void testTextBetweenString() {
+        final TextCursor cursor = IndexedTextCursor.with(TEXT);
+        cursor.next();
+        final TextCursorSavePoint start = cursor.save();
+        cursor.next();
+        cursor.next();
+
+        final CharSequence text = ParserTokenText.textBetween(
+                IndexedTextCursors.text(cursor),
+                1,
+                cursor,
+                start
+        );
+        this.checkEquals(ParserTokenText.class, text.getClass(), "type");
+        this.checkEquals("bc", text.toString());
+    }
+
+    @Test
+    public void testTextBetweenNonIndexed() {
+        final TextCursor cursor = NonIndexedTextCursor.with(TEXT);
+        cursor.next();
+        final TextCursorSavePoint start = cursor.save();
+        cursor.next();
+        cursor.next();
+
+        final CharSequence text = ParserTokenText.textBetween(
+                null,
+                0,
+                cursor,
+                start
+        );
+        this.checkEquals("bc", text);
+    }
+
+    @Test
+    public void testTextBetweenStringBuilder() {
+        final StringBuilder b = new StringBuilder(TEXT);
+        final TextCursor cursor = IndexedTextCursor.with(b);
+        final TextCursorSavePoint start = cursor.save();
+        cursor.next();
+        cursor.next();
+
+        final CharSequence text = ParserTokenText.textBetween(
+                IndexedTextCursors.text(cursor),
+                0,
+                cursor,
+                start
+        );
+        b.setLength(0);
+        this.checkEquals("ab", text);
+    }
+
+    @Override
+    public Class<ParserTokenText> type() {
+        return ParserTokenText.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
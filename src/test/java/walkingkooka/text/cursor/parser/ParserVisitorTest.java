@@ -0,0 +1,554 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.predicate.character.CharPredicate;
+import walkingkooka.predicate.character.CharPredicates;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.text.CaseSensitivity;
+import walkingkooka.visit.Visiting;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ParserVisitorTest implements ClassTesting2<ParserVisitor> {
+
+    @Test
+    public void testAcceptNullFails() {
+        assertThrows(NullPointerException.class, () -> new ParserVisitor() {
+        }.accept(null));
+    }
+
+    @Test
+    public void testString() {
+        final Parser<ParserContext> parser = string("abc");
+        final StringBuilder b = new StringBuilder();
+
+        new ParserVisitor() {
+            @Override
+            protected Visiting startVisit(final Parser<?> p) {
+                assertSame(parser, p);
+                b.append("1");
+                return Visiting.CONTINUE;
+            }
+
+            @Override
+            protected void endVisit(final Parser<?> p) {
+                assertSame(parser, p);
+                b.append("2");
+            }
+
+            @Override
+            protected void visitString(final Parser<?> p,
+                                       final String string,
+                                       final CaseSensitivity caseSensitivity) {
+                assertSame(parser, p);
+                b.append("3").append(string).append(caseSensitivity);
+            }
+        }.accept(parser);
+
+        this.checkEquals("13abcSENSITIVE2", b.toString());
+    }
+
+    @Test
+    public void testLeafDefault() {
+        this.visitAndCheck(string("abc"), "leaf \"abc\"");
+    }
+
+    @Test
+    public void testLeafNumber() {
+        this.visitAndCheck(Parsers.bigDecimal(), "leaf Decimal");
+    }
+
+    @Test
+    public void testOther() {
+        final Parser<ParserContext> parser = Parsers.fake();
+        this.visitAndCheck(parser, "other " + parser);
+    }
+
+    @Test
+    public void testCharacter() {
+        final CharPredicate predicate = CharPredicates.digit();
+        final Parser<ParserContext> parser = Parsers.character(predicate);
+        final StringBuilder b = new StringBuilder();
+
+        new ParserVisitor() {
+            @Override
+            protected void visitCharacter(final Parser<?> p,
+                                          final CharPredicate c) {
+                assertSame(parser, p);
+                assertSame(predicate, c);
+                b.append("character");
+            }
+        }.accept(parser);
+
+        this.checkEquals("character", b.toString());
+    }
+
+    @Test
+    public void testStringCharPredicate() {
+        final CharPredicate predicate = CharPredicates.digit();
+        final StringBuilder b = new StringBuilder();
+
+        new ParserVisitor() {
+            @Override
+            protected void visitStringCharPredicate(final Parser<?> p,
+                                                    final CharPredicate c,
+                                                    final int minLength,
+                                                    final int maxLength) {
+                assertSame(predicate, c);
+                b.append(minLength).append(',').append(maxLength);
+            }
+        }.accept(Parsers.stringCharPredicate(predicate, 2, 5));
+
+        this.checkEquals("2,5", b.toString());
+    }
+
+    @Test
+    public void testStrings() {
+        final StringBuilder b = new StringBuilder();
+
+        new ParserVisitor() {
+            @Override
+            protected void visitStrings(final Parser<?> p,
+                                        final List<String> strings,
+                                        final CaseSensitivity caseSensitivity) {
+                b.append(strings.size()).append(caseSensitivity);
+            }
+        }.accept(StringsParser.with(Lists.of("a", "b", "c"), CaseSensitivity.INSENSITIVE));
+
+        this.checkEquals("3INSENSITIVE", b.toString());
+    }
+
+    @Test
+    public void testSurround() {
+        final StringBuilder b = new StringBuilder();
+
+        new ParserVisitor() {
+            @Override
+            protected void visitSurround(final Parser<?> p,
+                                         final String open,
+                                         final String close) {
+                b.append(open).append(close);
+            }
+        }.accept(Parsers.surround("/*", "*/"));
+
+        this.checkEquals("/**/", b.toString());
+    }
+
+    @Test
+    public void testAlternatives() {
+        this.visitAndCheck(
+                Parsers.alternatives(
+                        Lists.of(
+                                string("a"),
+                                Parsers.bigDecimal()
+                        )
+                ),
+                "alternatives 2",
+                "leaf \"a\"",
+                "leaf Decimal",
+                "/alternatives"
+        );
+    }
+
+    @Test
+    public void testAlternativesSkip() {
+        final StringBuilder b = new StringBuilder();
+
+        new ParserVisitor() {
+            @Override
+            protected Visiting startVisitAlternatives(final Parser<?> p,
+                                                      final List<? extends Parser<?>> alternatives) {
+                b.append("alternatives");
+                return Visiting.SKIP;
+            }
+
+            @Override
+            protected void visitLeaf(final Parser<?> p) {
+                b.append("leaf");
+            }
+        }.accept(string("a").or(string("b")));
+
+        this.checkEquals("alternatives", b.toString());
+    }
+
+    @Test
+    public void testSequence() {
+        this.visitAndCheck(
+                string("a")
+                        .builder()
+                        .optional(string("b"))
+                        .required(string("c"))
+                        .build(),
+                "sequence",
+                "leaf \"a\"",
+                "optional \"b\"",
+                "leaf \"b\"",
+                "/optional \"b\"",
+                "leaf \"c\"",
+                "/sequence"
+        );
+    }
+
+    @Test
+    public void testWrappers() {
+        this.visitAndCheck(
+                Parsers.customToString(
+                                string("a")
+                                        .repeating()
+                                        .memoize()
+                                        .andEmptyTextCursor()
+                                        .transform((t, c) -> t),
+                                "A"
+                        ),
+                "customToString {\"a\"}",
+                "transform {\"a\"}",
+                "andEmptyTextCursor {\"a\"}",
+                "memoize {\"a\"}",
+                "repeating \"a\"",
+                "leaf \"a\"",
+                "/repeating",
+                "/memoize",
+                "/andEmptyTextCursor",
+                "/transform",
+                "/customToString"
+        );
+    }
+
+    @Test
+    public void testExplicitStack() {
+        this.visitAndCheck(
+                Parsers.explicitStack(
+                        string("a").repeating()
+                ),
+                "explicitStack {\"a\"}",
+                "repeating \"a\"",
+                "leaf \"a\"",
+                "/repeating",
+                "/explicitStack"
+        );
+    }
+
+    @Test
+    public void testAndNot() {
+        this.visitAndCheck(
+                string("ab").andNot(string("abc")),
+                "andNot \"ab\" \"abc\"",
+                "leaf \"ab\"",
+                "leaf \"abc\"",
+                "/andNot"
+        );
+    }
+
+    @Test
+    public void testExpression() {
+        final Parser<ParserContext> operand = string("1");
+        final Parser<ParserContext> parser = Parsers.expression(
+                operand,
+                Parsers.<ParserContext>expressionOperatorTable()
+                        .prefix(string("-"), 2, (t, text, o) -> o)
+                        .binaryLeft(string("+"), 1, (t, text, o) -> o)
+                        .whitespace(string(" "))
+        );
+        final StringBuilder b = new StringBuilder();
+
+        new ParserVisitor() {
+            @Override
+            protected Visiting startVisitExpression(final Parser<?> p,
+                                                    final Parser<?> o,
+                                                    final List<? extends Parser<?>> operators) {
+                assertSame(parser, p);
+                assertSame(operand, o);
+                b.append("expression ").append(operators.size());
+                return Visiting.CONTINUE;
+            }
+
+            @Override
+            protected void endVisitExpression(final Parser<?> p,
+                                              final Parser<?> o,
+                                              final List<? extends Parser<?>> operators) {
+                b.append(" /expression");
+            }
+
+            @Override
+            protected void visitString(final Parser<?> p,
+                                       final String string,
+                                       final CaseSensitivity caseSensitivity) {
+                b.append(" [").append(string).append(']');
+            }
+        }.accept(parser);
+
+        this.checkEquals(
+                "expression 3 [1] [-] [+] [ ] /expression",
+                b.toString()
+        );
+    }
+
+    @Test
+    public void testReference() {
+        final Parser<ParserContext> bound = string("a");
+        final ReferenceParser<ParserContext> reference = Parsers.reference();
+        reference.bind(bound);
+        final StringBuilder b = new StringBuilder();
+
+        new ParserVisitor() {
+            @Override
+            protected void visitReference(final Parser<?> p,
+                                          final Optional<Parser<?>> r) {
+                assertSame(reference, p);
+                assertSame(bound, r.get());
+                b.append("reference");
+            }
+        }.accept(reference);
+
+        this.checkEquals("reference", b.toString());
+    }
+
+    @Test
+    public void testRule() {
+        final RuleParser<ParserContext> rule = Parsers.rule("expr");
+        final Parser<ParserContext> definition = rule.or(string("a"));
+        rule.bind(definition);
+        final StringBuilder b = new StringBuilder();
+
+        new ParserVisitor() {
+            @Override
+            protected void visitRule(final Parser<?> p,
+                                     final String name,
+                                     final Optional<Parser<?>> d) {
+                assertSame(rule, p);
+                assertSame(definition, d.get());
+                b.append("rule ").append(name);
+            }
+        }.accept(rule);
+
+        this.checkEquals("rule expr", b.toString());
+    }
+
+    @Test
+    public void testRuleUnbound() {
+        final RuleParser<ParserContext> rule = Parsers.rule("expr");
+        final StringBuilder b = new StringBuilder();
+
+        new ParserVisitor() {
+            @Override
+            protected void visitRule(final Parser<?> p,
+                                     final String name,
+                                     final Optional<Parser<?>> d) {
+                assertSame(rule, p);
+                b.append("rule ").append(name).append(' ').append(d);
+            }
+        }.accept(rule);
+
+        this.checkEquals("rule expr Optional.empty", b.toString());
+    }
+
+    @Test
+    public void testReport() {
+        final ParserReporter<ParserContext> reporter = ParserReporters.basic();
+        final StringBuilder b = new StringBuilder();
+
+        new ParserVisitor() {
+            @Override
+            protected Visiting startVisitReport(final Parser<?> p,
+                                                final ParserReporterCondition condition,
+                                                final ParserReporter<?> r,
+                                                final Parser<?> wrapped) {
+                assertSame(reporter, r);
+                b.append(condition).append(' ').append(wrapped);
+                return Visiting.SKIP;
+            }
+        }.accept(Parsers.report(ParserReporterCondition.NOT_EMPTY, reporter, string("a")));
+
+        this.checkEquals("NOT_EMPTY \"a\"", b.toString());
+    }
+
+    private static Parser<ParserContext> string(final String text) {
+        return Parsers.string(text, CaseSensitivity.SENSITIVE);
+    }
+
+    private void visitAndCheck(final Parser<?> parser,
+                               final String... expected) {
+        final List<String> visited = Lists.array();
+
+        new ParserVisitor() {
+            @Override
+            protected Visiting startVisitAlternatives(final Parser<?> p,
+                                                      final List<? extends Parser<?>> alternatives) {
+                visited.add("alternatives " + alternatives.size());
+                return Visiting.CONTINUE;
+            }
+
+            @Override
+            protected void endVisitAlternatives(final Parser<?> p,
+                                                final List<? extends Parser<?>> alternatives) {
+                visited.add("/alternatives");
+            }
+
+            @Override
+            protected Visiting startVisitAndEmptyTextCursor(final Parser<?> p,
+                                                            final Parser<?> wrapped) {
+                visited.add("andEmptyTextCursor " + wrapped);
+                return Visiting.CONTINUE;
+            }
+
+            @Override
+            protected void endVisitAndEmptyTextCursor(final Parser<?> p,
+                                                      final Parser<?> wrapped) {
+                visited.add("/andEmptyTextCursor");
+            }
+
+            @Override
+            protected Visiting startVisitAndNot(final Parser<?> p,
+                                                final Parser<?> left,
+                                                final Parser<?> right) {
+                visited.add("andNot " + left + " " + right);
+                return Visiting.CONTINUE;
+            }
+
+            @Override
+            protected void endVisitAndNot(final Parser<?> p,
+                                          final Parser<?> left,
+                                          final Parser<?> right) {
+                visited.add("/andNot");
+            }
+
+            @Override
+            protected Visiting startVisitCustomToString(final Parser<?> p,
+                                                        final Parser<?> wrapped) {
+                visited.add("customToString " + wrapped);
+                return Visiting.CONTINUE;
+            }
+
+            @Override
+            protected void endVisitCustomToString(final Parser<?> p,
+                                                  final Parser<?> wrapped) {
+                visited.add("/customToString");
+            }
+
+            @Override
+            protected Visiting startVisitExplicitStack(final Parser<?> p,
+                                                       final Parser<?> wrapped) {
+                visited.add("explicitStack " + wrapped);
+                return Visiting.CONTINUE;
+            }
+
+            @Override
+            protected void endVisitExplicitStack(final Parser<?> p,
+                                                 final Parser<?> wrapped) {
+                visited.add("/explicitStack");
+            }
+
+            @Override
+            protected Visiting startVisitMemoize(final Parser<?> p,
+                                                 final Parser<?> wrapped) {
+                visited.add("memoize " + wrapped);
+                return Visiting.CONTINUE;
+            }
+
+            @Override
+            protected void endVisitMemoize(final Parser<?> p,
+                                           final Parser<?> wrapped) {
+                visited.add("/memoize");
+            }
+
+            @Override
+            protected Visiting startVisitRepeating(final Parser<?> p,
+                                                   final Parser<?> repeated) {
+                visited.add("repeating " + repeated);
+                return Visiting.CONTINUE;
+            }
+
+            @Override
+            protected void endVisitRepeating(final Parser<?> p,
+                                             final Parser<?> repeated) {
+                visited.add("/repeating");
+            }
+
+            @Override
+            protected Visiting startVisitSequence(final Parser<?> p) {
+                visited.add("sequence");
+                return Visiting.CONTINUE;
+            }
+
+            @Override
+            protected void endVisitSequence(final Parser<?> p) {
+                visited.add("/sequence");
+            }
+
+            @Override
+            protected Visiting startVisitOptional(final Parser<?> p) {
+                visited.add("optional " + p);
+                return Visiting.CONTINUE;
+            }
+
+            @Override
+            protected void endVisitOptional(final Parser<?> p) {
+                visited.add("/optional " + p);
+            }
+
+            @Override
+            protected Visiting startVisitTransform(final Parser<?> p,
+                                                   final Parser<?> wrapped) {
+                visited.add("transform " + wrapped);
+                return Visiting.CONTINUE;
+            }
+
+            @Override
+            protected void endVisitTransform(final Parser<?> p,
+                                             final Parser<?> wrapped) {
+                visited.add("/transform");
+            }
+
+            @Override
+            protected void visitLeaf(final Parser<?> p) {
+                visited.add("leaf " + p);
+            }
+
+            @Override
+            protected void visitOther(final Parser<?> p) {
+                visited.add("other " + p);
+            }
+        }.accept(parser);
+
+        this.checkEquals(
+                Lists.of(expected),
+                visited,
+                parser.toString()
+        );
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<ParserVisitor> type() {
+        return ParserVisitor.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
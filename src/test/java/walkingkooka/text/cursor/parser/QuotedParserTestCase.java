@@ -17,6 +17,10 @@
 package walkingkooka.text.cursor.parser;
 
 import org.junit.jupiter.api.Test;
+import walkingkooka.text.cursor.TextCursor;
+import walkingkooka.text.cursor.TextCursorSavePoint;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public abstract class QuotedParserTestCase<P extends QuotedParser<ParserContext>, T extends QuotedParserToken> extends NonEmptyParserTestCase<P, T> {
 
@@ -128,6 +132,68 @@ public abstract class QuotedParserTestCase<P extends QuotedParser<ParserContext>
         this.quoteParseAndCheck("x\\u005A\\0\\t\\f\\n\\r\\'\\\"y", "xZ\0\t\f\n\r'\"y", "x\\u005A\\0\\t\\f\\n\\r\\'\\\"y");
     }
 
+    @Test
+    public final void testFirstNotQuoteNonIndexed() {
+        this.parseFailAndCheck(NonIndexedTextCursor.with("abc'"));
+    }
+
+    @Test
+    public final void testMissingTerminalQuoteNonIndexed() {
+        final char quoteChar = this.quoteChar();
+        this.parseThrows(
+                NonIndexedTextCursor.with(quoteChar + "z"),
+                QuotedParser.missingTerminatingQuote(quoteChar)
+        );
+    }
+
+    @Test
+    public final void testManyEscapedNonIndexed() {
+        final String text = this.quote("x\\u005A\\0\\t\\f\\n\\r\\'\\\"y");
+        this.parseAndCheck(
+                NonIndexedTextCursor.with(text + "xyz"),
+                this.createToken("xZ\0\t\f\n\r'\"y", text),
+                text,
+                "xyz"
+        );
+    }
+
+    @Test
+    public final void testMissingTerminalQuoteCursorSameAsNonIndexed() {
+        this.parseThrowsCursorAndCheck(this.quoteChar() + "abc");
+    }
+
+    @Test
+    public final void testInvalidBackslashEscapeCursorSameAsNonIndexed() {
+        this.parseThrowsCursorAndCheck(this.quoteChar() + "ab\\!c" + this.quoteChar());
+    }
+
+    @Test
+    public final void testInvalidUnicodeEscapeCursorSameAsNonIndexed() {
+        this.parseThrowsCursorAndCheck(this.quoteChar() + "ab\\u12!c" + this.quoteChar());
+    }
+
+    /**
+     * Parses the text with an indexed and a non indexed cursor, both must throw and leave the cursor at the same offset.
+     */
+    private void parseThrowsCursorAndCheck(final String text) {
+        this.checkEquals(
+                this.parseThrowsAndRemaining(NonIndexedTextCursor.with(text)),
+                this.parseThrowsAndRemaining(IndexedTextCursor.with(text)),
+                () -> "text remaining after parsing " + text
+        );
+    }
+
+    private String parseThrowsAndRemaining(final TextCursor cursor) {
+        assertThrows(
+                ParserException.class,
+                () -> this.createParser().parse(cursor, this.createContext())
+        );
+
+        final TextCursorSavePoint save = cursor.save();
+        cursor.end();
+        return save.textBetween().toString();
+    }
+
     private void quoteParseAndCheck(final String in, final String content, final String text) {
         this.quoteParseAndCheck(in, content, text, "");
     }
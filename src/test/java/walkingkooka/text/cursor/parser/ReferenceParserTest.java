@@ -0,0 +1,272 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.ToStringTesting;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.text.CaseSensitivity;
+import walkingkooka.text.cursor.TextCursors;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ReferenceParserTest implements ClassTesting2<ReferenceParser<ParserContext>>,
+        ParserTesting2<ReferenceParser<ParserContext>, ParserContext>,
+        ToStringTesting<ReferenceParser<ParserContext>> {
+
+    @Test
+    public void testBindNullFails() {
+        assertThrows(
+                NullPointerException.class,
+                () -> ReferenceParser.with().bind(null)
+        );
+    }
+
+    @Test
+    public void testBindTwiceFails() {
+        final ReferenceParser<ParserContext> reference = ReferenceParser.with();
+        reference.bind(string("a"));
+
+        final IllegalStateException thrown = assertThrows(
+                IllegalStateException.class,
+                () -> reference.bind(string("a"))
+        );
+        this.checkEquals(
+                "Reference already bound",
+                thrown.getMessage(),
+                "message"
+        );
+    }
+
+    @Test
+    public void testParseUnboundFails() {
+        final IllegalStateException thrown = assertThrows(
+                IllegalStateException.class,
+                () -> ReferenceParser.with()
+                        .parse(TextCursors.charSequence("a"), this.createContext())
+        );
+        this.checkEquals(
+                "Reference not bound",
+                thrown.getMessage(),
+                "message"
+        );
+    }
+
+    @Test
+    public void testCompileUnboundFails() {
+        assertThrows(
+                IllegalStateException.class,
+                () -> ReferenceParser.with()
+                        .compile()
+        );
+    }
+
+    @Test
+    public void testParseFails() {
+        this.parseFailAndCheck("b");
+    }
+
+    @Test
+    public void testParseFailsEmpty() {
+        this.parseFailAndCheck("");
+    }
+
+    @Test
+    public void testParse() {
+        this.parseAndCheck(
+                "x",
+                string("x", "x"),
+                "x"
+        );
+    }
+
+    @Test
+    public void testParseNested() {
+        this.parseAndCheck(
+                "((x))!",
+                nested(nested(string("x", "x"))),
+                "((x))",
+                "!"
+        );
+    }
+
+    @Test
+    public void testParseNestedNonIndexedCursor() {
+        this.parseAndCheck(
+                NonIndexedTextCursor.with("((x))!"),
+                nested(nested(string("x", "x"))),
+                "((x))",
+                "!"
+        );
+    }
+
+    @Test
+    public void testCompile() {
+        final Parser<ParserContext> bound = string("a");
+        final ReferenceParser<ParserContext> reference = ReferenceParser.with();
+        reference.bind(bound);
+
+        assertSame(bound, reference.compile());
+    }
+
+    @Test
+    public void testCompileRecursive() {
+        final ReferenceParser<ParserContext> reference = this.createParser();
+        final Parser<ParserContext> compiled = reference.compile();
+
+        this.checkEquals(AlternativesParser.class, compiled.getClass(), "class");
+
+        final String text = "(((((x)))))";
+        this.checkEquals(
+                reference.parseOrNull(TextCursors.charSequence(text), this.createContext()),
+                compiled.parseOrNull(TextCursors.charSequence(text), this.createContext()),
+                text
+        );
+    }
+
+    @Test
+    public void testCompileRecursiveKeepsOneBoundReference() {
+        final List<Parser<?>> references = Lists.array();
+
+        new ParserVisitor() {
+            @Override
+            protected void visitReference(final Parser<?> parser,
+                                          final Optional<Parser<?>> bound) {
+                references.add(parser);
+            }
+        }.accept(this.createParser().compile());
+
+        this.checkEquals(1, references.size(), () -> "references " + references);
+
+        final ReferenceParser<?> reference = (ReferenceParser<?>) references.get(0);
+        this.checkEquals(
+                AlternativesParser.class,
+                reference.parserOrFail().getClass(),
+                "bound"
+        );
+    }
+
+    @Test
+    public void testCompileTwice() {
+        final Parser<ParserContext> compiled = this.createParser()
+                .compile();
+        final Parser<ParserContext> compiled2 = compiled.compile();
+
+        final String text = "((x))";
+        this.checkEquals(
+                compiled.parseOrNull(TextCursors.charSequence(text), this.createContext()),
+                compiled2.parseOrNull(TextCursors.charSequence(text), this.createContext()),
+                text
+        );
+    }
+
+    @Test
+    public void testParsersReference() {
+        this.checkEquals(
+                ReferenceParser.class,
+                Parsers.reference().getClass()
+        );
+    }
+
+    @Test
+    public void testSetToString() {
+        final Parser<ParserContext> renamed = this.createParser()
+                .setToString("different");
+
+        this.checkEquals(
+                "different",
+                renamed.toString(),
+                "toString"
+        );
+
+        this.parseAndCheck(
+                renamed,
+                "(x)",
+                nested(string("x", "x")),
+                "(x)",
+                ""
+        );
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+                ReferenceParser.with(),
+                "Reference"
+        );
+    }
+
+    /**
+     * Creates <code>reference := '(' reference ')' | 'x'</code>
+     */
+    @Override
+    public ReferenceParser<ParserContext> createParser() {
+        final ReferenceParser<ParserContext> reference = ReferenceParser.with();
+        return reference.bind(
+                string("(")
+                        .builder()
+                        .required(reference)
+                        .required(string(")"))
+                        .build()
+                        .or(string("x"))
+        );
+    }
+
+    @Override
+    public ParserContext createContext() {
+        return ParserContexts.fake();
+    }
+
+    private static Parser<ParserContext> string(final String text) {
+        return Parsers.string(text, CaseSensitivity.SENSITIVE);
+    }
+
+    private static ParserToken string(final String value,
+                                      final String text) {
+        return ParserTokens.string(value, text);
+    }
+
+    private static ParserToken nested(final ParserToken token) {
+        final ParserToken open = string("(", "(");
+        final ParserToken close = string(")", ")");
+
+        return ParserTokens.sequence(
+                Lists.of(open, token, close),
+                "(" + token.text() + ")"
+        );
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<ReferenceParser<ParserContext>> type() {
+        return Cast.to(ReferenceParser.class);
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
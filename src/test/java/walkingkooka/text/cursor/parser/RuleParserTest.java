@@ -0,0 +1,435 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.ToStringTesting;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.predicate.character.CharPredicates;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.text.CaseSensitivity;
+import walkingkooka.text.cursor.TextCursors;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class RuleParserTest implements ClassTesting2<RuleParser<ParserContext>>,
+        ParserTesting2<RuleParser<ParserContext>, ParserContext>,
+        ToStringTesting<RuleParser<ParserContext>> {
+
+    private final static String NAME = "expr";
+
+    private final static Parser<ParserContext> DIGIT = Parsers.stringCharPredicate(
+            CharPredicates.digit(),
+            1,
+            1
+    );
+
+    private final static Parser<ParserContext> PLUS = string("+");
+
+    @Test
+    public void testWithNullNameFails() {
+        assertThrows(
+                NullPointerException.class,
+                () -> RuleParser.with(null)
+        );
+    }
+
+    @Test
+    public void testWithEmptyNameFails() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> RuleParser.with("")
+        );
+    }
+
+    @Test
+    public void testBindNullFails() {
+        assertThrows(
+                NullPointerException.class,
+                () -> RuleParser.with(NAME).bind(null)
+        );
+    }
+
+    @Test
+    public void testBindTwiceFails() {
+        final RuleParser<ParserContext> rule = RuleParser.with(NAME);
+        rule.bind(DIGIT);
+
+        final IllegalStateException thrown = assertThrows(
+                IllegalStateException.class,
+                () -> rule.bind(DIGIT)
+        );
+        this.checkEquals(
+                "Rule \"expr\" already bound",
+                thrown.getMessage(),
+                "message"
+        );
+    }
+
+    @Test
+    public void testParseUnboundFails() {
+        final IllegalStateException thrown = assertThrows(
+                IllegalStateException.class,
+                () -> RuleParser.with(NAME)
+                        .parse(TextCursors.charSequence("1"), this.createContext())
+        );
+        this.checkEquals(
+                "Rule \"expr\" not bound",
+                thrown.getMessage(),
+                "message"
+        );
+    }
+
+    @Test
+    public void testParseFails() {
+        this.parseFailAndCheck("a");
+    }
+
+    @Test
+    public void testParseFailsEmpty() {
+        this.parseFailAndCheck("");
+    }
+
+    @Test
+    public void testParseWithoutRecursion() {
+        this.parseAndCheck(
+                "1",
+                digit("1"),
+                "1"
+        );
+    }
+
+    @Test
+    public void testParseLeftRecursion() {
+        this.parseAndCheck(
+                "1+2",
+                sequence(digit("1"), plus(), digit("2")),
+                "1+2"
+        );
+    }
+
+    @Test
+    public void testParseLeftRecursion2() {
+        this.parseAndCheck(
+                "1+2+3",
+                sequence(
+                        sequence(digit("1"), plus(), digit("2")),
+                        plus(),
+                        digit("3")
+                ),
+                "1+2+3"
+        );
+    }
+
+    @Test
+    public void testParseLeftRecursionDanglingOperator() {
+        this.parseAndCheck(
+                "1+2+",
+                sequence(digit("1"), plus(), digit("2")),
+                "1+2",
+                "+"
+        );
+    }
+
+    @Test
+    public void testParseLeftRecursionMemoized() {
+        final RuleParser<ParserContext> rule = RuleParser.with(NAME);
+        rule.bind(
+                rule.builder()
+                        .required(PLUS)
+                        .required(DIGIT)
+                        .build()
+                        .memoize()
+                        .or(DIGIT)
+        );
+
+        this.parseAndCheck(
+                rule,
+                "1+2+3",
+                sequence(
+                        sequence(digit("1"), plus(), digit("2")),
+                        plus(),
+                        digit("3")
+                ),
+                "1+2+3",
+                ""
+        );
+    }
+
+    @Test
+    public void testParseLeftRecursionMany() {
+        final StringBuilder text = new StringBuilder("1");
+        for (int i = 0; i < 1000; i++) {
+            text.append("+1");
+        }
+
+        this.checkEquals(
+                text.toString(),
+                this.createParser()
+                        .parse(TextCursors.charSequence(text), this.createContext())
+                        .get()
+                        .text(),
+                "text"
+        );
+    }
+
+    @Test
+    public void testParseIndirectLeftRecursion() {
+        // list := item 'x' | 'y'
+        // item := list
+        final RuleParser<ParserContext> list = RuleParser.with("list");
+        final RuleParser<ParserContext> item = RuleParser.with("item");
+
+        final Parser<ParserContext> x = string("x");
+        final Parser<ParserContext> y = string("y");
+
+        list.bind(
+                item.builder()
+                        .required(x)
+                        .build()
+                        .or(y)
+        );
+        item.bind(list);
+
+        this.parseAndCheck(
+                list,
+                "yxx",
+                sequence(
+                        sequence(
+                                ParserTokens.string("y", "y"),
+                                ParserTokens.string("x", "x")
+                        ),
+                        ParserTokens.string("x", "x")
+                ),
+                "yxx",
+                ""
+        );
+    }
+
+    @Test
+    public void testParseRightRecursionNonIndexedCursor() {
+        // expr := digit '+' expr | digit
+        final RuleParser<ParserContext> rule = RuleParser.with(NAME);
+        rule.bind(
+                DIGIT.builder()
+                        .required(PLUS)
+                        .required(rule)
+                        .build()
+                        .or(DIGIT)
+        );
+
+        this.parseAndCheck(
+                rule,
+                this.createContext(),
+                NonIndexedTextCursor.with("1+2+3"),
+                sequence(
+                        digit("1"),
+                        plus(),
+                        sequence(digit("2"), plus(), digit("3"))
+                ),
+                "1+2+3",
+                ""
+        );
+    }
+
+    @Test
+    public void testParseDefinitionThrowsRestoresCursorState() {
+        // expr := expr '+' digit | throws
+        final RuleParser<ParserContext> rule = RuleParser.with(NAME);
+        final Parser<ParserContext> throwing = (c, ctx) -> {
+            throw new UnsupportedOperationException();
+        };
+        rule.bind(
+                rule.builder()
+                        .required(PLUS)
+                        .required(DIGIT)
+                        .build()
+                        .or(throwing)
+        );
+
+        final MemoizingParserTextCursor cursor = MemoizingParserTextCursor.with(
+                IndexedTextCursor.with("1+2")
+        );
+        assertThrows(
+                UnsupportedOperationException.class,
+                () -> rule.parseOrNull(cursor, this.createContext())
+        );
+
+        this.checkEquals(0, cursor.heads.size(), "heads");
+        this.checkEquals(0, cursor.leftRecursions, "leftRecursions");
+    }
+
+    @Test
+    public void testCompileUnboundFails() {
+        final IllegalStateException thrown = assertThrows(
+                IllegalStateException.class,
+                () -> RuleParser.with(NAME)
+                        .compile()
+        );
+        this.checkEquals(
+                "Rule \"expr\" not bound",
+                thrown.getMessage(),
+                "message"
+        );
+    }
+
+    @Test
+    public void testCompileUnchanged() {
+        final RuleParser<ParserContext> rule = RuleParser.with(NAME);
+        rule.bind(DIGIT);
+
+        assertSame(rule, rule.compile());
+    }
+
+    @Test
+    public void testCompile() {
+        final RuleParser<ParserContext> rule = this.createParser();
+        final Parser<ParserContext> compiled = rule.compile();
+
+        assertNotSame(rule, compiled);
+        this.checkEquals(RuleParser.class, compiled.getClass(), "class");
+        this.checkEquals(NAME, compiled.toString(), "toString");
+
+        this.parseAndCheck(
+                compiled,
+                "1+2+3",
+                sequence(
+                        sequence(digit("1"), plus(), digit("2")),
+                        plus(),
+                        digit("3")
+                ),
+                "1+2+3",
+                ""
+        );
+    }
+
+    @Test
+    public void testCompileIndirectLeftRecursion() {
+        // list := item 'x' | 'y'
+        // item := list
+        final RuleParser<ParserContext> list = RuleParser.with("list");
+        final RuleParser<ParserContext> item = RuleParser.with("item");
+
+        list.bind(
+                item.builder()
+                        .required(string("x"))
+                        .build()
+                        .or(string("y"))
+        );
+        item.bind(list);
+
+        final String text = "yxx";
+        this.checkEquals(
+                list.parseOrNull(IndexedTextCursor.with(text), this.createContext()),
+                list.compile()
+                        .parseOrNull(IndexedTextCursor.with(text), this.createContext()),
+                text
+        );
+    }
+
+    @Test
+    public void testParsersRule() {
+        this.checkEquals(
+                NAME,
+                Parsers.rule(NAME).toString()
+        );
+    }
+
+    @Test
+    public void testSetToString() {
+        final RuleParser<ParserContext> rule = this.createParser();
+        final Parser<ParserContext> renamed = rule.setToString("different");
+
+        this.checkEquals(
+                "different",
+                renamed.toString(),
+                "toString"
+        );
+
+        this.parseAndCheck(
+                renamed,
+                "1+2",
+                sequence(digit("1"), plus(), digit("2")),
+                "1+2",
+                ""
+        );
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+                this.createParser(),
+                NAME
+        );
+    }
+
+    /**
+     * Creates <code>expr := expr '+' digit | digit</code>
+     */
+    @Override
+    public RuleParser<ParserContext> createParser() {
+        final RuleParser<ParserContext> rule = RuleParser.with(NAME);
+        return rule.bind(
+                rule.builder()
+                        .required(PLUS)
+                        .required(DIGIT)
+                        .build()
+                        .or(DIGIT)
+        );
+    }
+
+    @Override
+    public ParserContext createContext() {
+        return ParserContexts.fake();
+    }
+
+    private static Parser<ParserContext> string(final String text) {
+        return Parsers.string(text, CaseSensitivity.SENSITIVE);
+    }
+
+    private static ParserToken digit(final String text) {
+        return ParserTokens.string(text, text);
+    }
+
+    private static ParserToken plus() {
+        return ParserTokens.string("+", "+");
+    }
+
+    private static ParserToken sequence(final ParserToken... tokens) {
+        return ParserTokens.sequence(
+                Lists.of(tokens),
+                ParserToken.text(Lists.of(tokens))
+        );
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<RuleParser<ParserContext>> type() {
+        return Cast.to(RuleParser.class);
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
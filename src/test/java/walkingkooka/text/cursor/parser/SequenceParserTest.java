@@ -21,6 +21,9 @@ import walkingkooka.Cast;
 import walkingkooka.HashCodeEqualsDefinedTesting2;
 import walkingkooka.collect.list.Lists;
 import walkingkooka.text.CaseSensitivity;
+import walkingkooka.text.cursor.TextCursors;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 public final class SequenceParserTest extends NonEmptyParserTestCase<SequenceParser<ParserContext>, SequenceParserToken>
         implements HashCodeEqualsDefinedTesting2<SequenceParser<ParserContext>> {
@@ -95,6 +98,25 @@ public final class SequenceParserTest extends NonEmptyParserTestCase<SequencePar
                 "!@#");
     }
 
+    @Test
+    public void testMayStartWithRequiredFirst() {
+        final SequenceParser<ParserContext> parser = this.createParser();
+        this.checkEquals(true, parser.mayStartWith('a'), "a");
+        this.checkEquals(false, parser.mayStartWith('x'), "x");
+    }
+
+    @Test
+    public void testMayStartWithOptionalFirst() {
+        final SequenceParser<ParserContext> parser = Cast.to(SequenceParserBuilder.empty()
+                .optional(PARSER3)
+                .required(PARSER2)
+                .required(PARSER1)
+                .build());
+        this.checkEquals(true, parser.mayStartWith('1'), "1");
+        this.checkEquals(true, parser.mayStartWith('x'), "x");
+        this.checkEquals(false, parser.mayStartWith('a'), "a");
+    }
+
     @Test
     public void testOutOfOrder() {
         this.parseFailAndCheck(TEXT2 + TEXT1);
@@ -150,6 +172,27 @@ public final class SequenceParserTest extends NonEmptyParserTestCase<SequencePar
                 textAfter);
     }
 
+    @Test
+    public void testNonIndexed() {
+        this.parseAndCheck(
+                NonIndexedTextCursor.with(TEXT1 + TEXT2 + TEXT3 + "!"),
+                SEQUENCE_TOKEN3,
+                TEXT1 + TEXT2 + TEXT3,
+                "!"
+        );
+    }
+
+    @Test
+    public void testTextCreatedOnce() {
+        final ParserToken token = this.createParser()
+                .parseOrNull(
+                        TextCursors.charSequence(TEXT1 + TEXT2 + TEXT3 + "!"),
+                        this.createContext()
+                );
+        this.checkEquals(TEXT1 + TEXT2 + TEXT3, token.text(), "text");
+        assertSame(token.text(), token.text(), "text cached");
+    }
+
     @Test
     public void testEqualWithoutNames() {
         this.checkEquals(SequenceParserBuilder.empty()
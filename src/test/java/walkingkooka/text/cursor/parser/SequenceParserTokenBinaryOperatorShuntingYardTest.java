@@ -0,0 +1,172 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+public final class SequenceParserTokenBinaryOperatorShuntingYardTest implements ClassTesting2<SequenceParserTokenBinaryOperatorShuntingYard> {
+
+    private final static BinaryOperatorTransformer TRANSFORMER = new BinaryOperatorTransformer() {
+        @Override
+        public int highestPriority() {
+            return 2;
+        }
+
+        @Override
+        public int lowestPriority() {
+            return 1;
+        }
+
+        @Override
+        public int priority(final ParserToken token) {
+            switch (token.text()) {
+                case "+":
+                    return 1;
+                case "*":
+                    return 2;
+                default:
+                    return 0;
+            }
+        }
+
+        @Override
+        public ParserToken binaryOperand(final List<ParserToken> tokens,
+                                         final String text,
+                                         final ParserToken operator) {
+            return ParserTokens.string(
+                    tokens.stream()
+                            .map(t -> ((StringParserToken) t).value())
+                            .collect(Collectors.joining("", "(", ")")),
+                    text
+            );
+        }
+    };
+
+    @Test
+    public void testOperand() {
+        this.transformAndCheck(
+                "1",
+                "1"
+        );
+    }
+
+    @Test
+    public void testLeftAssociative() {
+        this.transformAndCheck(
+                "1+2+3",
+                "((1+2)+3)"
+        );
+    }
+
+    @Test
+    public void testPriorities() {
+        this.transformAndCheck(
+                "1+2*3*4+5",
+                "((1+((2*3)*4))+5)"
+        );
+    }
+
+    @Test
+    public void testManyOperators() {
+        final StringBuilder text = new StringBuilder("0");
+        final StringBuilder expected = new StringBuilder("0");
+
+        for (int i = 1; i < 10; i++) {
+            text.append("*").append(i);
+            expected.insert(0, '(').append('*').append(i).append(')');
+        }
+
+        this.transformAndCheck(
+                text.toString(),
+                expected.toString()
+        );
+    }
+
+    @Test
+    public void testLeadingOperator() {
+        this.transformAndCheck(
+                "+1",
+                null
+        );
+    }
+
+    @Test
+    public void testTrailingOperator() {
+        this.transformAndCheck(
+                "1+",
+                null
+        );
+    }
+
+    @Test
+    public void testOperatorOperator() {
+        this.transformAndCheck(
+                "1++2",
+                null
+        );
+    }
+
+    @Test
+    public void testOperandOperand() {
+        this.transformAndCheck(
+                "12",
+                null
+        );
+    }
+
+    /**
+     * Each character becomes a {@link StringParserToken}.
+     */
+    private void transformAndCheck(final String text,
+                                   final String expected) {
+        final List<ParserToken> tokens = Lists.array();
+        for (final char c : text.toCharArray()) {
+            final String s = String.valueOf(c);
+            tokens.add(ParserTokens.string(s, s));
+        }
+
+        final List<ParserToken> result = SequenceParserTokenBinaryOperatorShuntingYard.transform(tokens, TRANSFORMER);
+        this.checkEquals(
+                expected,
+                null == result ?
+                        null :
+                        result.stream()
+                                .map(t -> ((StringParserToken) t).value())
+                                .collect(Collectors.joining(", ")),
+                text
+        );
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<SequenceParserTokenBinaryOperatorShuntingYard> type() {
+        return SequenceParserTokenBinaryOperatorShuntingYard.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
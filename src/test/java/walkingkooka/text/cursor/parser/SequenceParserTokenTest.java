@@ -342,6 +342,66 @@ public final class SequenceParserTokenTest extends RepeatedOrSequenceParserToken
                 subtract(add(left, plus, multiply(left2, multiply, right1)), minus, right2));
     }
 
+    @Test
+    public void testTransformNumberMinusNumberPlusNumber() {
+        final ParserToken left = integer(1);
+        final ParserToken minus = symbol('-');
+        final ParserToken center = integer(2);
+        final ParserToken plus = symbol('+');
+        final ParserToken right = integer(3);
+
+        this.transformAndCheck(sequence(left, minus, center, plus, right),
+                add(subtract(left, minus, center), plus, right));
+    }
+
+    @Test
+    public void testTransformWhitespaceAroundOperators() {
+        final ParserToken left = integer(1);
+        final ParserToken multiply = symbol('*');
+        final ParserToken center = integer(2);
+        final ParserToken plus = symbol('+');
+        final ParserToken right = integer(3);
+
+        this.transformAndCheck(sequence(WHITESPACE, left, WHITESPACE, multiply, WHITESPACE, center, WHITESPACE, plus, WHITESPACE, right, WHITESPACE),
+                sequence(
+                        WHITESPACE,
+                        add(multiply(left, WHITESPACE, multiply, WHITESPACE, center), WHITESPACE, plus, WHITESPACE, right),
+                        WHITESPACE
+                ));
+    }
+
+    @Test
+    public void testTransformManyTerms() {
+        final List<ParserToken> tokens = Lists.array();
+        ParserToken expected = integer(0);
+        tokens.add(expected);
+
+        for (int i = 1; i < 2000; i++) {
+            final ParserToken plus = symbol('+');
+            final ParserToken number = integer(i);
+
+            tokens.add(plus);
+            tokens.add(number);
+            expected = add(expected, plus, number);
+        }
+
+        this.transformAndCheck(
+                sequence(tokens.toArray(new ParserToken[0])),
+                expected
+        );
+    }
+
+    @Test
+    public void testTransformOperatorOperator() {
+        final ParserToken left = integer(1);
+        final ParserToken plus = symbol('+');
+        final ParserToken plus2 = symbol('+');
+        final ParserToken right = integer(2);
+
+        this.transformAndCheck(sequence(left, plus, plus2, right),
+                sequence(add(left, plus, plus2), right));
+    }
+
     private void transformAndCheck(final SequenceParserToken token) {
         this.transformAndCheck(token, token);
     }
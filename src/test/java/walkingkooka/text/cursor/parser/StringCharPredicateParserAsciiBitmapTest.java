@@ -0,0 +1,131 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor.parser;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.predicate.character.CharPredicate;
+import walkingkooka.predicate.character.CharPredicates;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+public final class StringCharPredicateParserAsciiBitmapTest implements ClassTesting2<StringCharPredicateParserAsciiBitmap>,
+        ToStringTesting<StringCharPredicateParserAsciiBitmap> {
+
+    @Test
+    public void testTestAllCharacters() {
+        this.testAllCharactersAndCheck(CharPredicates.letter());
+    }
+
+    @Test
+    public void testTestAllCharactersDigit() {
+        this.testAllCharactersAndCheck(CharPredicates.digit());
+    }
+
+    @Test
+    public void testTestAllCharactersWhitespace() {
+        this.testAllCharactersAndCheck(CharPredicates.whitespace());
+    }
+
+    @Test
+    public void testTestAllCharactersBoundaries() {
+        this.testAllCharactersAndCheck(CharPredicates.any("\0?@\u007f\u0080"));
+    }
+
+    private void testAllCharactersAndCheck(final CharPredicate predicate) {
+        final StringCharPredicateParserAsciiBitmap bitmap = StringCharPredicateParserAsciiBitmap.with(predicate);
+
+        for (int i = 0; i <= Character.MAX_VALUE; i++) {
+            final char c = (char) i;
+            this.checkEquals(
+                    predicate.test(c),
+                    bitmap.test(c),
+                    "test " + i
+            );
+        }
+    }
+
+    @Test
+    public void testScanAll() {
+        this.scanAndCheck(CharPredicates.letter(), "abcXYZ", 0, 6, 6);
+    }
+
+    @Test
+    public void testScanStopsAtNonMatch() {
+        this.scanAndCheck(CharPredicates.letter(), "abc123", 0, 6, 3);
+    }
+
+    @Test
+    public void testScanNonAscii() {
+        this.scanAndCheck(CharPredicates.letter(), "abéèc!", 0, 6, 5);
+    }
+
+    @Test
+    public void testScanNonAsciiStop() {
+        this.scanAndCheck(CharPredicates.letter(), "ab•c", 0, 4, 2);
+    }
+
+    @Test
+    public void testScanBeginAndEnd() {
+        this.scanAndCheck(CharPredicates.digit(), "x12345y", 1, 4, 4);
+    }
+
+    @Test
+    public void testScanNoneMatch() {
+        this.scanAndCheck(CharPredicates.digit(), "abc", 0, 3, 0);
+    }
+
+    @Test
+    public void testScanEmptyRange() {
+        this.scanAndCheck(CharPredicates.digit(), "123", 1, 1, 1);
+    }
+
+    private void scanAndCheck(final CharPredicate predicate,
+                              final String text,
+                              final int begin,
+                              final int end,
+                              final int expected) {
+        this.checkEquals(
+                expected,
+                StringCharPredicateParserAsciiBitmap.with(predicate)
+                        .scan(text, begin, end),
+                predicate + " scan " + text + " " + begin + ".." + end
+        );
+    }
+
+    @Test
+    public void testToString() {
+        final CharPredicate predicate = CharPredicates.digit();
+        this.toStringAndCheck(
+                StringCharPredicateParserAsciiBitmap.with(predicate),
+                predicate.toString()
+        );
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<StringCharPredicateParserAsciiBitmap> type() {
+        return StringCharPredicateParserAsciiBitmap.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
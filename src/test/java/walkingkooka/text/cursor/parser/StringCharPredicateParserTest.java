@@ -128,6 +128,69 @@ public class StringCharPredicateParserTest extends NonEmptyParserTestCase<String
         this.parseFailAndCheck(cursor);
     }
 
+    @Test
+    public void testTooShortNonIndexed() {
+        this.parseFailAndCheck(NonIndexedTextCursor.with("1"));
+    }
+
+    @Test
+    public void testSuccessNonIndexed() {
+        this.parseAndCheck(
+                NonIndexedTextCursor.with("123abc"),
+                StringParserToken.with("123", "123"),
+                "123",
+                "abc"
+        );
+    }
+
+    @Test
+    public void testSuccessMaxLength() {
+        this.parseAndCheck3("123456", "1234", "1234", "56");
+    }
+
+    @Test
+    public void testSuccessMaxLengthNonIndexed() {
+        this.parseAndCheck(
+                NonIndexedTextCursor.with("123456"),
+                StringParserToken.with("1234", "1234"),
+                "1234",
+                "56"
+        );
+    }
+
+    @Test
+    public void testSuccessNonAscii() {
+        this.parseAndCheck(
+                StringCharPredicateParser.with(CharPredicates.letter(), 1, 10),
+                this.createContext(),
+                "abéÖc!",
+                StringParserToken.with("abéÖc", "abéÖc"),
+                "abéÖc",
+                "!"
+        );
+    }
+
+    @Test
+    public void testSuccessNonAsciiNonIndexed() {
+        this.parseAndCheck(
+                StringCharPredicateParser.with(CharPredicates.letter(), 1, 10),
+                this.createContext(),
+                NonIndexedTextCursor.with("abéÖc!"),
+                StringParserToken.with("abéÖc", "abéÖc"),
+                "abéÖc",
+                "!"
+        );
+    }
+
+    @Test
+    public void testFailureNonAscii() {
+        this.parseFailAndCheck(
+                StringCharPredicateParser.with(CharPredicates.letter(), 1, 10),
+                this.createContext(),
+                "•abc"
+        );
+    }
+
     @Test
     public void testToString() {
         this.toStringAndCheck(
@@ -92,6 +92,38 @@ public class StringParserTest extends NonEmptyParserTestCase<StringParser<Parser
                 "xyz");
     }
 
+    // mayStartWith.....................................................................................................
+
+    @Test
+    public void testMayStartWith() {
+        this.mayStartWithAndCheck(this.createParser(), 'a', true);
+    }
+
+    @Test
+    public void testMayStartWithDifferentCase() {
+        this.mayStartWithAndCheck(this.createParser(), 'A', false);
+    }
+
+    @Test
+    public void testMayStartWithDifferentCaseInsensitive() {
+        this.mayStartWithAndCheck(this.createParserInsensitive(), 'A', true);
+    }
+
+    @Test
+    public void testMayStartWithDifferent() {
+        this.mayStartWithAndCheck(this.createParser(), 'b', false);
+    }
+
+    private void mayStartWithAndCheck(final StringParser<ParserContext> parser,
+                                      final char c,
+                                      final boolean expected) {
+        this.checkEquals(
+                expected,
+                parser.mayStartWith(c),
+                () -> parser + " mayStartWith " + CharSequences.quoteIfChars(c)
+        );
+    }
+
     @Test
     public void testEqualsDifferentText() {
         this.checkNotEquals(StringParser.with("different", CASE_SENSITIVITY));
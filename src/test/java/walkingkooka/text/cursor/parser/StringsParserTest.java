@@ -0,0 +1,244 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.text.cursor.parser;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.HashCodeEqualsDefinedTesting2;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.text.CaseSensitivity;
+import walkingkooka.text.CharSequences;
+import walkingkooka.text.cursor.TextCursors;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class StringsParserTest extends NonEmptyParserTestCase<StringsParser<ParserContext>, StringParserToken>
+        implements HashCodeEqualsDefinedTesting2<StringsParser<ParserContext>> {
+
+    private final static List<String> STRINGS = Lists.of("abc", "abcde", "xyz");
+    private final static CaseSensitivity CASE_SENSITIVITY = CaseSensitivity.SENSITIVE;
+
+    @Test
+    public void testWithNullStringsFails() {
+        assertThrows(NullPointerException.class, () -> StringsParser.with(null, CASE_SENSITIVITY));
+    }
+
+    @Test
+    public void testWithNullStringFails() {
+        assertThrows(NullPointerException.class, () -> StringsParser.with(Lists.of("abc", null), CASE_SENSITIVITY));
+    }
+
+    @Test
+    public void testWithZeroStringsFails() {
+        assertThrows(IllegalArgumentException.class, () -> StringsParser.with(Lists.empty(), CASE_SENSITIVITY));
+    }
+
+    @Test
+    public void testWithEmptyStringFails() {
+        assertThrows(IllegalArgumentException.class, () -> StringsParser.with(Lists.of("abc", ""), CASE_SENSITIVITY));
+    }
+
+    @Test
+    public void testWithNullCaseSensitivityFails() {
+        assertThrows(NullPointerException.class, () -> StringsParser.with(STRINGS, null));
+    }
+
+    @Test
+    public void testIncomplete() {
+        this.parseFailAndCheck("ab");
+    }
+
+    @Test
+    public void testIncomplete2() {
+        this.parseFailAndCheck("xy!");
+    }
+
+    @Test
+    public void testDifferentCase() {
+        this.parseFailAndCheck("ABC");
+    }
+
+    @Test
+    public void testString() {
+        this.parseAndCheck("abc", this.token("abc"), "abc", "");
+    }
+
+    @Test
+    public void testString2() {
+        this.parseAndCheck("xyz", this.token("xyz"), "xyz", "");
+    }
+
+    @Test
+    public void testStringIgnoresRemainder() {
+        this.parseAndCheck("xyz!", this.token("xyz"), "xyz", "!");
+    }
+
+    @Test
+    public void testLongestMatch() {
+        this.parseAndCheck("abcde!", this.token("abcde"), "abcde", "!");
+    }
+
+    @Test
+    public void testLongestMatchPartialRestored() {
+        this.parseAndCheck("abcd!", this.token("abc"), "abc", "d!");
+    }
+
+    @Test
+    public void testLongestMatchPartialRestoredEoc() {
+        this.parseAndCheck("abcd", this.token("abc"), "abc", "d");
+    }
+
+    @Test
+    public void testInsensitive() {
+        final String text = "AbCdE";
+        this.parseAndCheck(this.createParserInsensitive(), text + "!", this.token(text), text, "!");
+    }
+
+    @Test
+    public void testInsensitive2() {
+        final String text = "XYZ";
+        this.parseAndCheck(this.createParserInsensitive(), text, this.token(text), text);
+    }
+
+    @Test
+    public void testInsensitiveDuplicates() {
+        final String text = "aBc";
+        this.parseAndCheck(
+                StringsParser.with(Lists.of("abc", "ABC"), CaseSensitivity.INSENSITIVE),
+                text,
+                this.token(text),
+                text
+        );
+    }
+
+    @Test
+    public void testSameResultAsAlternatives() {
+        final List<String> strings = Lists.of("if", "in", "int", "interface", "import", "implements", "instanceof");
+
+        for (final String text : Lists.of("if(", "int ", "interface{", "instanceof ", "inter", "imp", "i", "x")) {
+            final Parser<ParserContext> parser = StringsParser.with(strings, CASE_SENSITIVITY);
+
+            // longest first so first match is also the longest match
+            final Parser<ParserContext> alternatives = AlternativesParser.with(
+                    Lists.of(
+                            Parsers.string("instanceof", CASE_SENSITIVITY),
+                            Parsers.string("interface", CASE_SENSITIVITY),
+                            Parsers.string("implements", CASE_SENSITIVITY),
+                            Parsers.string("import", CASE_SENSITIVITY),
+                            Parsers.string("int", CASE_SENSITIVITY),
+                            Parsers.string("in", CASE_SENSITIVITY),
+                            Parsers.string("if", CASE_SENSITIVITY)
+                    )
+            );
+
+            this.checkEquals(
+                    alternatives.parse(TextCursors.charSequence(text), this.createContext()),
+                    parser.parse(TextCursors.charSequence(text), this.createContext()),
+                    () -> "parse " + CharSequences.quoteAndEscape(text)
+            );
+        }
+    }
+
+    // mayStartWith.....................................................................................................
+
+    @Test
+    public void testMayStartWith() {
+        this.mayStartWithAndCheck(this.createParser(), 'a', true);
+    }
+
+    @Test
+    public void testMayStartWith2() {
+        this.mayStartWithAndCheck(this.createParser(), 'x', true);
+    }
+
+    @Test
+    public void testMayStartWithDifferentCase() {
+        this.mayStartWithAndCheck(this.createParser(), 'A', false);
+    }
+
+    @Test
+    public void testMayStartWithDifferentCaseInsensitive() {
+        this.mayStartWithAndCheck(this.createParserInsensitive(), 'X', true);
+    }
+
+    @Test
+    public void testMayStartWithDifferent() {
+        this.mayStartWithAndCheck(this.createParser(), 'b', false);
+    }
+
+    private void mayStartWithAndCheck(final StringsParser<ParserContext> parser,
+                                      final char c,
+                                      final boolean expected) {
+        this.checkEquals(
+                expected,
+                parser.mayStartWith(c),
+                () -> parser + " mayStartWith " + CharSequences.quoteIfChars(c)
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentOrder() {
+        final StringsParser<ParserContext> parser = StringsParser.with(Lists.of("xyz", "abcde", "abc"), CASE_SENSITIVITY);
+        this.checkEquals(this.createParser(), parser);
+        this.checkEquals(this.createParser().hashCode(), parser.hashCode());
+    }
+
+    @Test
+    public void testEqualsDifferentStrings() {
+        this.checkNotEquals(StringsParser.with(Lists.of("different"), CASE_SENSITIVITY));
+    }
+
+    @Test
+    public void testEqualsDifferentCaseSensitivity() {
+        this.checkNotEquals(StringsParser.with(STRINGS, CASE_SENSITIVITY.invert()));
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(this.createParser(), "(\"abc\" | \"abcde\" | \"xyz\")");
+    }
+
+    @Test
+    public void testToStringInsensitive() {
+        this.toStringAndCheck(this.createParserInsensitive(), "(\"abc\" | \"abcde\" | \"xyz\") (CaseInsensitive)");
+    }
+
+    @Override
+    public StringsParser<ParserContext> createParser() {
+        return StringsParser.with(STRINGS, CASE_SENSITIVITY);
+    }
+
+    private StringsParser<ParserContext> createParserInsensitive() {
+        return StringsParser.with(STRINGS, CaseSensitivity.INSENSITIVE);
+    }
+
+    private StringParserToken token(final String text) {
+        return StringParserToken.with(text, text);
+    }
+
+    @Override
+    public Class<StringsParser<ParserContext>> type() {
+        return Cast.to(StringsParser.class);
+    }
+
+    @Override
+    public StringsParser<ParserContext> createObject() {
+        return this.createParser();
+    }
+}